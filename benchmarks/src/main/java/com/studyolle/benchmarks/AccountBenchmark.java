@@ -0,0 +1,72 @@
+package com.studyolle.benchmarks;
+
+import com.studyolle.domain.Account;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+//TODO Account 의 equals / hashCode
+//     1. 모든 필드를 비교 / 해시 하므로 ( 문자열 8개, 날짜 2개, boolean 7개 ) 호출마다 박싱 배열을 할당한다
+//     2. StudyAccount.isManager, Study.leaveAccount, 컬렉션 contains 가 이 메서드를 사용
+//     3. contains - 회원 members 명의 HashSet / ArrayList 에서 마지막 회원 찾기
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int members;
+
+    Account account;
+    Account copy;
+
+    Set<Account> accountSet;
+    List<Account> accountList;
+    Account last;
+
+    @Setup
+    public void setUp() {
+        account = Fixtures.account(1);
+        copy = Fixtures.account(1);
+        copy.setEmailCheckToken(account.getEmailCheckToken());
+        copy.setEmailCheckTokenGeneratedAt(account.getEmailCheckTokenGeneratedAt());
+        copy.setJoinedAt(account.getJoinedAt());
+        copy.setPassword(account.getPassword());
+
+        accountSet = new HashSet<>();
+        accountList = new ArrayList<>();
+        for (long id = 1; id <= members; id++) {
+            Account member = Fixtures.account(id);
+            accountSet.add(member);
+            accountList.add(member);
+        }
+        last = accountList.get(accountList.size() - 1);
+    }
+
+    @Benchmark
+    public int hashCodeAllFields() {
+        return account.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsAllFields() {
+        return account.equals(copy);
+    }
+
+    @Benchmark
+    public boolean hashSetContains() {
+        return accountSet.contains(last);
+    }
+
+    @Benchmark
+    public boolean listContains() {
+        return accountList.contains(last);
+    }
+}
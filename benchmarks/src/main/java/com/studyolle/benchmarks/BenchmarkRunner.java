@@ -0,0 +1,40 @@
+package com.studyolle.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+//TODO benchmarks.jar 의 메인 클래스
+//     1. 명령행 옵션은 JMH 와 같다 ( java -jar benchmarks.jar -h )
+//     2. 프로파일러를 지정하지 않으면 -prof gc 를 붙인다
+//      1). gc.alloc.rate.norm ( 호출 한번에 할당한 바이트 ) 으로 최적화 전후의 할당을 비교
+//     3. 결과 파일을 지정하지 않으면 target/jmh-result.json 에 JSON 으로 남긴다
+public class BenchmarkRunner {
+
+    public static final String DEFAULT_RESULT = "target/jmh-result.json";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT);
+            if (!commandLine.getResultFormat().hasValue()) {
+                options.resultFormat(ResultFormatType.JSON);
+            }
+        }
+        new Runner(options.build()).run();
+    }
+}
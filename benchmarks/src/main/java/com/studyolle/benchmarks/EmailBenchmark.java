@@ -0,0 +1,81 @@
+package com.studyolle.benchmarks;
+
+import com.studyolle.config.AppProperties;
+import com.studyolle.email.EmailMessage;
+import com.studyolle.email.HtmlEmailService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//TODO HtmlEmailService 전송 처리량 ( mails/s )
+//     1. 같은 프로세스의 SMTP 서버 흉내 ( SmtpStandIn ) 로 mails 통을 전송
+//     2. 비교
+//      1). perMessage - 이전 방식, 메일마다 sendEmail ( 메일마다 SMTP 연결 )
+//      2). batched - sendEmails ( 워커 workers 개, 워커마다 연결 하나 )
+//     3. handshakeMillis - 연결마다 걸리는 핸드셰이크 지연 ( 0 이면 로컬 연결 비용만 )
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailBenchmark {
+
+    static final int MAILS = 100;
+
+    @Param({"0", "5"})
+    long handshakeMillis;
+
+    @Param({"4"})
+    int workers;
+
+    SmtpStandIn smtpStandIn;
+    HtmlEmailService htmlEmailService;
+    List<EmailMessage> messages;
+
+    @Setup
+    public void setUp() throws IOException {
+        smtpStandIn = new SmtpStandIn(handshakeMillis);
+
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("127.0.0.1");
+        javaMailSender.setPort(smtpStandIn.getPort());
+
+        AppProperties appProperties = new AppProperties();
+        appProperties.setMailWorkers(workers);
+        htmlEmailService = new HtmlEmailService(javaMailSender, appProperties);
+
+        messages = new ArrayList<>(MAILS);
+        for (int i = 0; i < MAILS; i++) {
+            EmailMessage message = new EmailMessage();
+            message.setTo("user" + i + "@email.com");
+            message.setSubject("스터디올래, 회원 가입 인증");
+            message.setMessage("<p>message " + i + "</p>");
+            messages.add(message);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        htmlEmailService.shutdown();
+        smtpStandIn.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MAILS)
+    public void perMessage() {
+        for (EmailMessage message : messages) {
+            htmlEmailService.sendEmail(message);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MAILS)
+    public void batched() {
+        htmlEmailService.sendEmails(messages);
+    }
+}
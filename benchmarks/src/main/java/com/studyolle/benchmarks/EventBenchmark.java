@@ -0,0 +1,79 @@
+package com.studyolle.benchmarks;
+
+import com.studyolle.account.UserAccount;
+import com.studyolle.domain.Account;
+import com.studyolle.domain.Enrollment;
+import com.studyolle.domain.Event;
+import com.studyolle.domain.Study;
+import com.studyolle.enums.EventType;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+//TODO 모임 화면 ( /study/{path}/events/{id} ) 을 그릴 때마다 호출되는 Event 메서드
+//     1. 참가 신청 members 건인 모임 ( 절반은 참가 확정, 확정된 인원 중 절반은 출석 )
+//     2. 현재 사용자
+//      1). enrolled - 가운데 순서의 신청자
+//      2). outsider - 신청하지 않은 회원 ( 신청 목록을 끝까지 훑는 경우 )
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int members;
+
+    Event event;
+
+    UserAccount enrolled;
+    UserAccount outsider;
+
+    @Setup
+    public void setUp() {
+        Account creator = Fixtures.account(1);
+        Study study = new Study();
+        study.setPath("benchmark");
+        LocalDateTime now = LocalDateTime.now();
+        event = Event.createByEvent(creator, study, "benchmark", "benchmark",
+                now.plusDays(1), now.plusDays(2), now.plusDays(3), members, EventType.CONFIRMATIVE);
+
+        for (long id = 2; id <= members + 1; id++) {
+            boolean accepted = id % 2 == 0;
+            Enrollment enrollment = Enrollment.createBy(event, Fixtures.account(id), accepted);
+            enrollment.setAttended(accepted && id % 4 == 0);
+            event.addEnrollment(enrollment);
+        }
+
+        enrolled = new UserAccount(event.getEnrollments().get(members / 2).getAccount());
+        outsider = new UserAccount(Fixtures.account(members + 2));
+    }
+
+    @Benchmark
+    public int numberOfRemainSpots() {
+        return event.numberOfRemainSpots();
+    }
+
+    @Benchmark
+    public boolean isEnrollableForOutsider() {
+        return event.isEnrollableFor(outsider);
+    }
+
+    @Benchmark
+    public boolean isEnrollableForEnrolled() {
+        return event.isEnrollableFor(enrolled);
+    }
+
+    @Benchmark
+    public boolean isDisenrollableFor() {
+        return event.isDisenrollableFor(enrolled);
+    }
+
+    @Benchmark
+    public boolean isAttended() {
+        return event.isAttended(enrolled);
+    }
+}
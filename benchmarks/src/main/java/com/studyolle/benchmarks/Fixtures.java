@@ -0,0 +1,37 @@
+package com.studyolle.benchmarks;
+
+import com.studyolle.domain.Account;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+//TODO 벤치마크용 가짜 데이터
+//     1. DB 없이 엔티티를 직접 만들고 id 를 1 부터 순서대로 부여
+//     2. 화면에서 쓰는 값은 모두 채운다 ( hashCode / equals 가 모든 필드를 읽으므로 )
+public class Fixtures {
+
+    public static Account account(long id) {
+        Account account = Account.createAccount("user" + id, "user" + id + "@studyolle.com", "{bcrypt}$2a$10$" + UUID.randomUUID());
+        account.setId(id);
+        account.setEmailVerified(true);
+        account.setEmailCheckToken(UUID.randomUUID().toString());
+        account.setEmailCheckTokenGeneratedAt(LocalDateTime.now());
+        account.setJoinedAt(LocalDateTime.now());
+        account.setBio("스터디올래에서 함께 공부해요 " + id);
+        account.setUrl("https://studyolle.com/profile/user" + id);
+        account.setOccupation("developer");
+        account.setLocation("Seoul");
+        account.setProfileImage(sha256Hex(id));
+        return account;
+    }
+
+    //TODO 프로필 이미지 컬럼에는 ImageStore 의 SHA-256 해시 ( 64 자 ) 가 저장된다
+    private static String sha256Hex(long id) {
+        StringBuilder builder = new StringBuilder(64);
+        String seed = Long.toHexString(id * 0x9E3779B97F4A7C15L);
+        while (builder.length() < 64) {
+            builder.append(seed);
+        }
+        return builder.substring(0, 64);
+    }
+}
@@ -0,0 +1,103 @@
+package com.studyolle.benchmarks;
+
+import com.studyolle.StudyolleApplication;
+import com.studyolle.account.AccountRepository;
+import com.studyolle.account.AccountService;
+import com.studyolle.account.UserAccount;
+import com.studyolle.domain.Account;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//TODO 로그인 ( 폼 로그인 / remember-me ) 마다 호출되는 AccountService.loadUserByUsername
+//     1. 애플리케이션을 local 프로필 ( 메모리 H2 ) 로 띄우고 회원 accounts 명을 넣어둔다
+//     2. 비교
+//      1). twoQueries - 이전 방식, 이메일로 조회하고 없으면 닉네임으로 한번 더 조회
+//      2). singleQuery - email = ? or nickname = ? 한번의 조회 ( 캐시 없이 )
+//      3). cached - 현재 loadUserByUsername ( 한번의 조회 + UserDetailsCache )
+//     3. loginBy - 이메일 / 닉네임 중 무엇으로 로그인하는지 ( 닉네임이면 이전 방식은 쿼리가 두번 )
+//     4. 호출마다 다음 회원으로 로그인 ( 캐시 크기 app.user-details-cache-size 보다 회원 수가 적어야 모두 적중 )
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoginBenchmark {
+
+    @Param({"email", "nickname"})
+    String loginBy;
+
+    @Param({"1000"})
+    int accounts;
+
+    ConfigurableApplicationContext context;
+    AccountRepository accountRepository;
+    AccountService accountService;
+
+    String[] keys;
+    int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(StudyolleApplication.class)
+                .properties("server.port=0", "management.server.port=0",
+                        "logging.level.root=WARN", "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .run();
+        accountRepository = context.getBean(AccountRepository.class);
+        accountService = context.getBean(AccountService.class);
+
+        List<Account> saved = new ArrayList<>();
+        for (long id = 1; id <= accounts; id++) {
+            saved.add(Account.createAccount("login" + id, "login" + id + "@studyolle.com", "{noop}12345678"));
+        }
+        accountRepository.saveAll(saved);
+
+        keys = new String[accounts];
+        for (int i = 0; i < accounts; i++) {
+            keys[i] = loginBy.equals("email") ? saved.get(i).getEmail() : saved.get(i).getNickname();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private String nextKey() {
+        String key = keys[next];
+        next = (next + 1) % keys.length;
+        return key;
+    }
+
+    @Benchmark
+    public UserDetails twoQueries() {
+        String emailOrNickname = nextKey();
+        Account account = accountRepository.findByEmail(emailOrNickname);
+        if (account == null) {
+            account = accountRepository.findByNickname(emailOrNickname);
+        }
+        return new UserAccount(account);
+    }
+
+    @Benchmark
+    public UserDetails singleQuery() {
+        String emailOrNickname = nextKey();
+        Account account = accountRepository.findByEmailOrNickname(emailOrNickname, emailOrNickname).stream()
+                .min(Comparator.comparing(a -> emailOrNickname.equals(a.getEmail()) ? 0 : 1))
+                .get();
+        return new UserAccount(account);
+    }
+
+    @Benchmark
+    public UserDetails cached() {
+        return accountService.loadUserByUsername(nextKey());
+    }
+}
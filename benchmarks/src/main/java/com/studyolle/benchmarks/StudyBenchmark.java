@@ -0,0 +1,90 @@
+package com.studyolle.benchmarks;
+
+import com.studyolle.account.UserAccount;
+import com.studyolle.domain.Account;
+import com.studyolle.domain.Study;
+import com.studyolle.domain.StudyAccount;
+import com.studyolle.domain.StudyMembership;
+import com.studyolle.domain.StudyViewFlags;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+//TODO 스터디 화면 ( /study/{path} ) 을 그릴 때마다 호출되는 Study 메서드
+//     1. 관리자 1명 + 멤버 members 명인 스터디
+//     2. 현재 사용자
+//      1). manager  - 관리자
+//      2). member   - 가운데 순서의 멤버
+//      3). outsider - 구성원이 아닌 회원 ( 가입 가능 여부 확인에서 가장 오래 걸리는 경우 )
+//     3. membershipBuild 는 구성원이 바뀐 뒤 처음 호출될 때 인덱스를 다시 만드는 비용
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudyBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int members;
+
+    Study study;
+
+    UserAccount manager;
+    UserAccount member;
+    UserAccount outsider;
+
+    @Setup
+    public void setUp() {
+        study = new Study();
+        study.setPath("benchmark");
+        study.setTitle("benchmark");
+        study.setPublished(true);
+        study.setRecruiting(true);
+
+        Account managerAccount = Fixtures.account(1);
+        study.addStudyAccount(StudyAccount.createStudyManager(managerAccount));
+        for (long id = 2; id <= members + 1; id++) {
+            study.addStudyAccount(StudyAccount.createStudyMember(Fixtures.account(id)));
+        }
+
+        manager = new UserAccount(managerAccount);
+        member = new UserAccount(study.getStudyAccounts().get(members / 2 + 1).getAccount());
+        outsider = new UserAccount(Fixtures.account(members + 2));
+    }
+
+    @Benchmark
+    public boolean isJoinableOutsider() {
+        return study.isJoinable(outsider);
+    }
+
+    @Benchmark
+    public boolean isJoinableMember() {
+        return study.isJoinable(member);
+    }
+
+    @Benchmark
+    public boolean isManager() {
+        return study.isManager(manager);
+    }
+
+    @Benchmark
+    public boolean isMember() {
+        return study.isMember(member);
+    }
+
+    @Benchmark
+    public int memberCount() {
+        return study.getMembership().getMemberCount();
+    }
+
+    @Benchmark
+    public StudyViewFlags viewFlags() {
+        return study.viewFlags(member);
+    }
+
+    @Benchmark
+    public StudyMembership membershipBuild() {
+        return StudyMembership.of(study.getStudyAccounts());
+    }
+}
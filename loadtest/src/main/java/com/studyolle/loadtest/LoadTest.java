@@ -0,0 +1,104 @@
+package com.studyolle.loadtest;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+//TODO 부하 테스트 실행 ( loadtest/pom.xml 참고 )
+//     1. 설정한 시나리오를 차례로 실행
+//      1). 사용자마다 스레드 하나 -> 모두 setUp ( 로그인 ) 을 마친 뒤 함께 시작
+//      2). warmup-iterations 번은 기록하지 않고, 이후 iterations 번을 기록
+//     2. 결과를 출력 / 저장하고 게이트를 넘으면 예외 ( exec:java 로 실행하면 빌드 실패 )
+//     3. 닫힌 모델 ( 응답을 받아야 다음 요청 ) 이라 서버가 느려지면 요청도 줄어든다 ( coordinated omission )
+//      -> 응답 시간은 처리량과 함께 보고, 같은 사용자 수 / 반복 횟수로만 비교
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.load();
+        RouteStats stats = new RouteStats();
+
+        Set<String> enabled = settings.getScenarios();
+        try (CloseableHttpClient client = client(settings)) {
+            for (Scenario scenario : Scenarios.all(settings)) {
+                if (enabled.contains(scenario.getName())) {
+                    run(scenario, settings, client, stats);
+                }
+            }
+        }
+
+        LoadTestReport report = new LoadTestReport(settings, stats);
+        report.print(System.out);
+        report.write();
+        List<String> failures = report.check();
+        if (!failures.isEmpty()) {
+            failures.forEach(failure -> System.out.println("FAIL " + failure));
+            throw new IllegalStateException("부하 테스트 게이트를 통과하지 못했습니다. : " + failures);
+        }
+    }
+
+    //TODO 모든 사용자가 같이 쓰는 커넥션 풀 ( 리다이렉트는 따라가지 않는다 )
+    private static CloseableHttpClient client(LoadTestSettings settings) {
+        int connections = Math.max(settings.getUsers(), settings.getBurstSize());
+        return HttpClients.custom()
+                .setMaxConnTotal(connections)
+                .setMaxConnPerRoute(connections)
+                .disableRedirectHandling()
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(5_000)
+                        .setSocketTimeout(60_000)
+                        .build())
+                .build();
+    }
+
+    private static void run(Scenario scenario, LoadTestSettings settings, CloseableHttpClient client,
+                            RouteStats stats) throws Exception {
+        int users = scenario.getUsers(settings);
+        int warmup = settings.getWarmupIterations();
+        int iterations = scenario.getIterations(settings);
+        System.out.println(String.format("%s : %d users x ( %d warmup + %d ) iterations", scenario.getName(), users, warmup, iterations));
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        CountDownLatch ready = new CountDownLatch(users);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int index = 0; index < users; index++) {
+            VirtualUser user = new VirtualUser(client, settings.getBaseUrl(), stats, index, settings.getSeed());
+            futures.add(executor.submit(() -> {
+                try {
+                    scenario.setUp(user);
+                } finally {
+                    ready.countDown();
+                }
+                start.await();
+                for (int i = 0; i < warmup + iterations; i++) {
+                    user.setRecording(i >= warmup);
+                    try {
+                        scenario.run(user);
+                    } catch (IOException e) {
+                        // 연결 오류는 VirtualUser 가 오류로 기록 -> 다음 반복 계속
+                    }
+                }
+                return null;
+            }));
+        }
+
+        ready.await();
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            executor.shutdownNow();
+            throw new IllegalStateException(scenario.getName() + " 시나리오를 실행할 수 없습니다.", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.studyolle.loadtest;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+//TODO 부하 테스트 결과
+//     1. 경로별 요청 수 / 오류 / 처리량 / p50 / p90 / p99 / p99.9 / 최대 응답 시간 ( ms ) 을 표로 출력
+//     2. report-dir 에 경로별 HdrHistogram 백분위 분포 ( <경로>.hgrm ) 와 요약 ( summary.properties ) 저장
+//      1). summary.properties 는 다음 실행의 기준선 ( loadtest.baseline ) 으로 사용
+//     3. 게이트 - 실패한 항목을 반환
+//      1). p99 > loadtest.p99.<경로>
+//      2). p99 > 기준선 p99 * ( 1 + regression-tolerance )
+//      3). 오류 비율 > max-error-rate
+public class LoadTestReport {
+
+    private final LoadTestSettings settings;
+    private final Map<String, RouteStats.Route> routes;
+
+    public LoadTestReport(LoadTestSettings settings, RouteStats stats) {
+        this.settings = settings;
+        this.routes = stats.getRoutes();
+    }
+
+    public void print(PrintStream out) {
+        out.println(String.format("%-16s %8s %7s %9s %9s %9s %9s %9s %9s",
+                "route", "count", "errors", "req/s", "p50", "p90", "p99", "p99.9", "max"));
+        for (Map.Entry<String, RouteStats.Route> entry : routes.entrySet()) {
+            RouteStats.Route route = entry.getValue();
+            out.println(String.format("%-16s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f",
+                    entry.getKey(), route.getCount(), route.getErrors(), route.getThroughput(),
+                    route.percentile(50), route.percentile(90), route.percentile(99), route.percentile(99.9), route.getMax()));
+        }
+    }
+
+    public void write() throws IOException {
+        File dir = settings.getReportDir();
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException(dir + " 를 만들 수 없습니다.");
+        }
+
+        Properties summary = new Properties();
+        for (Map.Entry<String, RouteStats.Route> entry : routes.entrySet()) {
+            String name = entry.getKey();
+            RouteStats.Route route = entry.getValue();
+            try (PrintStream out = new PrintStream(new FileOutputStream(new File(dir, name + ".hgrm")), false, "UTF-8")) {
+                // 마이크로초로 기록 -> ms 단위로 출력
+                route.getHistogram().outputPercentileDistribution(out, 1_000.0);
+            }
+            summary.setProperty(name + ".count", String.valueOf(route.getCount()));
+            summary.setProperty(name + ".errors", String.valueOf(route.getErrors()));
+            summary.setProperty(name + ".throughput", String.format("%.1f", route.getThroughput()));
+            summary.setProperty(name + ".p50", String.format("%.3f", route.percentile(50)));
+            summary.setProperty(name + ".p99", String.format("%.3f", route.percentile(99)));
+            summary.setProperty(name + ".max", String.format("%.3f", route.getMax()));
+        }
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(new File(dir, "summary.properties")), StandardCharsets.UTF_8)) {
+            summary.store(out, "studyolle load test ( ms )");
+        }
+    }
+
+    public List<String> check() throws IOException {
+        Properties baseline = baseline();
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<String, RouteStats.Route> entry : routes.entrySet()) {
+            String name = entry.getKey();
+            RouteStats.Route route = entry.getValue();
+            double p99 = route.percentile(99);
+
+            Double budget = settings.getP99Budget(name);
+            if (budget != null && p99 > budget) {
+                failures.add(String.format("%s p99 %.2f ms > 예산 %.2f ms", name, p99, budget));
+            }
+
+            String previous = baseline.getProperty(name + ".p99");
+            if (previous != null) {
+                double limit = Double.parseDouble(previous) * (1 + settings.getRegressionTolerance());
+                if (p99 > limit) {
+                    failures.add(String.format("%s p99 %.2f ms > 기준선 %s ms + %.0f%%", name, p99, previous,
+                            settings.getRegressionTolerance() * 100));
+                }
+            }
+
+            if (route.getErrorRate() > settings.getMaxErrorRate()) {
+                failures.add(String.format("%s 오류 %d / %d ( %.2f%% )", name, route.getErrors(), route.getCount(),
+                        route.getErrorRate() * 100));
+            }
+        }
+        return failures;
+    }
+
+    private Properties baseline() throws IOException {
+        Properties baseline = new Properties();
+        File file = settings.getBaseline();
+        if (file != null) {
+            try (Reader in = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+                baseline.load(in);
+            }
+        }
+        return baseline;
+    }
+}
@@ -0,0 +1,117 @@
+package com.studyolle.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+import java.util.Set;
+
+//TODO 부하 테스트 설정
+//     1. 클래스패스의 loadtest.properties 를 읽고 같은 이름의 시스템 프로퍼티 ( -Dloadtest.xxx ) 로 덮어쓴다
+public class LoadTestSettings {
+
+    private static final String RESOURCE = "loadtest.properties";
+    private static final String PREFIX = "loadtest.";
+
+    private final Properties properties;
+
+    LoadTestSettings(Properties properties) {
+        this.properties = properties;
+    }
+
+    public static LoadTestSettings load() {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestSettings.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(RESOURCE + " 을 읽을 수 없습니다.", e);
+        }
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(PREFIX)) {
+                properties.setProperty(name, System.getProperty(name));
+            }
+        }
+        return new LoadTestSettings(properties);
+    }
+
+    public String getBaseUrl() {
+        String baseUrl = get("base-url");
+        return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    public String getPrefix() {
+        return get("prefix");
+    }
+
+    public int getAccounts() {
+        return Integer.parseInt(get("accounts"));
+    }
+
+    public int getStudies() {
+        return Integer.parseInt(get("studies"));
+    }
+
+    public int getUsers() {
+        return Integer.parseInt(get("users"));
+    }
+
+    public int getWarmupIterations() {
+        return Integer.parseInt(get("warmup-iterations"));
+    }
+
+    public int getIterations() {
+        return Integer.parseInt(get("iterations"));
+    }
+
+    public long getSeed() {
+        return Long.parseLong(get("seed"));
+    }
+
+    public Set<String> getScenarios() {
+        return new LinkedHashSet<>(Arrays.asList(get("scenarios").split("\\s*,\\s*")));
+    }
+
+    public int getBurstSize() {
+        return Integer.parseInt(get("burst-size"));
+    }
+
+    public int getBurstIterations() {
+        return Integer.parseInt(get("burst-iterations"));
+    }
+
+    public File getReportDir() {
+        return new File(get("report-dir"));
+    }
+
+    //TODO 예산이 없는 경로는 null
+    public Double getP99Budget(String route) {
+        String budget = properties.getProperty(PREFIX + "p99." + route, "").trim();
+        return budget.isEmpty() ? null : Double.valueOf(budget);
+    }
+
+    public File getBaseline() {
+        String baseline = properties.getProperty(PREFIX + "baseline", "").trim();
+        return baseline.isEmpty() ? null : new File(baseline);
+    }
+
+    public double getRegressionTolerance() {
+        return Double.parseDouble(get("regression-tolerance"));
+    }
+
+    public double getMaxErrorRate() {
+        return Double.parseDouble(get("max-error-rate"));
+    }
+
+    private String get(String name) {
+        String value = properties.getProperty(PREFIX + name);
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalStateException(PREFIX + name + " 설정이 없습니다.");
+        }
+        return value.trim();
+    }
+}
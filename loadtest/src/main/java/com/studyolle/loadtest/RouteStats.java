@@ -0,0 +1,75 @@
+package com.studyolle.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+//TODO 경로 ( sign-up, study-view ... ) 별 응답 시간과 오류 수
+//     1. 응답 시간은 HdrHistogram ( 마이크로초, 유효 숫자 3자리, 자동 크기 조정 ) 에 기록
+//     2. 처리량 = 요청 수 / ( 마지막 응답 - 첫 요청 ) 시간
+public class RouteStats {
+
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+    public void record(String route, long startNanos, long endNanos) {
+        Route stats = route(route);
+        stats.histogram.recordValue(Math.max(1, (endNanos - startNanos) / 1_000));
+        stats.first.accumulate(startNanos);
+        stats.last.accumulate(endNanos);
+    }
+
+    public void error(String route) {
+        route(route).errors.increment();
+    }
+
+    //TODO 경로 이름 순서로 반환
+    public Map<String, Route> getRoutes() {
+        return new TreeMap<>(routes);
+    }
+
+    private Route route(String route) {
+        return routes.computeIfAbsent(route, key -> new Route());
+    }
+
+    public static class Route {
+        private final Histogram histogram = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAccumulator first = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator last = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        public Histogram getHistogram() {
+            return histogram;
+        }
+
+        public long getCount() {
+            return histogram.getTotalCount();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public double getErrorRate() {
+            return getCount() == 0 ? 1.0 : (double) getErrors() / getCount();
+        }
+
+        public double getThroughput() {
+            long elapsed = last.get() - first.get();
+            return elapsed <= 0 ? 0 : getCount() * 1_000_000_000.0 / elapsed;
+        }
+
+        //TODO 백분위 응답 시간 ( ms )
+        public double percentile(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1_000.0;
+        }
+
+        public double getMax() {
+            return histogram.getMaxValue() / 1_000.0;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.studyolle.loadtest;
+
+//TODO 부하 테스트 시나리오
+//     1. setUp : 측정 전에 사용자마다 한번 ( 로그인 등, 기록하지 않음 )
+//     2. run : 반복 한번 ( 요청은 VirtualUser 가 경로 이름으로 기록 )
+//     3. getUsers / getIterations : 동시 사용자 수와 반복 횟수 ( 기본은 설정의 users / iterations )
+public interface Scenario {
+
+    String getName();
+
+    default int getUsers(LoadTestSettings settings) {
+        return settings.getUsers();
+    }
+
+    default int getIterations(LoadTestSettings settings) {
+        return settings.getIterations();
+    }
+
+    default void setUp(VirtualUser user) throws Exception {
+    }
+
+    void run(VirtualUser user) throws Exception;
+}
@@ -0,0 +1,208 @@
+package com.studyolle.loadtest;
+
+import com.studyolle.datagen.DataGenerator;
+import com.studyolle.datagen.Zipf;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+//TODO 실제 화면 흐름을 따라가는 시나리오
+//     1. 회원 / 스터디는 DataGenerator 가 만든 데이터 ( prefix-번호 ) 를 사용
+//     2. 스터디 / 태그는 Zipf 로 골라서 인기 있는 스터디 / 태그에 요청이 몰리도록
+//     3. 경로 이름 ( sign-up, study-view ... ) 이 결과 파일과 p99 예산 ( loadtest.p99.경로 ) 의 이름
+public class Scenarios {
+
+    private static final int TAG_TITLES = 200;
+
+    public static List<Scenario> all(LoadTestSettings settings) {
+        return Arrays.asList(signUp(settings), login(settings), studyView(settings), joinLeave(settings),
+                events(settings), enrollBurst(settings), tagSettings(settings));
+    }
+
+    //TODO 회원 가입 ( 가입하면 바로 로그인되므로 반복마다 새 세션 )
+    //     1. 닉네임 : lt + 실행 번호 + 사용자 번호 + 반복 번호 ( 영문 소문자 / 숫자 20자 이하 )
+    static Scenario signUp(LoadTestSettings settings) {
+        String run = Long.toString(System.currentTimeMillis() / 1000 % 1_000_000, 36);
+        AtomicInteger sequence = new AtomicInteger();
+        return new Scenario() {
+            @Override
+            public String getName() {
+                return "sign-up";
+            }
+
+            @Override
+            public void run(VirtualUser user) throws IOException {
+                user.newSession();
+                String nickname = "lt" + run + Integer.toString(sequence.incrementAndGet(), 36);
+                user.get("sign-up-form", "/sign-up", 200);
+                user.postForm("sign-up", "/sign-up", 302,
+                        "nickname", nickname, "email", nickname + "@loadtest.test", "password", DataGenerator.PASSWORD);
+            }
+        };
+    }
+
+    static Scenario login(LoadTestSettings settings) {
+        return new Scenario() {
+            @Override
+            public String getName() {
+                return "login";
+            }
+
+            @Override
+            public void run(VirtualUser user) throws IOException {
+                user.newSession();
+                user.login("login", account(settings, user), DataGenerator.PASSWORD);
+            }
+        };
+    }
+
+    static Scenario studyView(LoadTestSettings settings) {
+        Zipf studies = new Zipf(settings.getStudies(), 1.0);
+        return new LoggedIn(settings, "study-view") {
+            @Override
+            public void run(VirtualUser user) throws IOException {
+                String path = study(settings, studies, user);
+                user.get("study-view", path, 200);
+                user.get("study-members", path + "/members", 200);
+            }
+        };
+    }
+
+    //TODO 가입 후 바로 탈퇴 ( 스터디 구성원 수가 그대로 유지되도록 )
+    static Scenario joinLeave(LoadTestSettings settings) {
+        Zipf studies = new Zipf(settings.getStudies(), 1.0);
+        return new LoggedIn(settings, "join-leave") {
+            @Override
+            public void run(VirtualUser user) throws IOException {
+                String path = study(settings, studies, user);
+                user.get("study-join", path + "/join", 302);
+                user.get("study-leave", path + "/leave", 302);
+            }
+        };
+    }
+
+    static Scenario events(LoadTestSettings settings) {
+        Zipf studies = new Zipf(settings.getStudies(), 1.0);
+        return new LoggedIn(settings, "events") {
+            @Override
+            public void run(VirtualUser user) throws IOException {
+                user.get("events", study(settings, studies, user) + "/events", 200);
+            }
+        };
+    }
+
+    //TODO 관심 주제 화면 + 태그 추가 / 삭제 ( Ajax )
+    static Scenario tagSettings(LoadTestSettings settings) {
+        Zipf tags = new Zipf(TAG_TITLES, 1.0);
+        return new LoggedIn(settings, "tag-settings") {
+            @Override
+            public void run(VirtualUser user) throws IOException {
+                String json = "{\"tagTitle\":\"lt-tag-" + tags.sample(user.getRandom()) + "\"}";
+                user.get("settings-tags", "/settings/tags", 200);
+                user.postJson("tags-add", "/settings/tags/add", 200, json);
+                user.postJson("tags-remove", "/settings/tags/remove", 200, json);
+            }
+        };
+    }
+
+    //TODO 선착순 모임 신청 버스트
+    //     1. burst-size 명이 같은 선착순 모임에 동시에 신청 ( CyclicBarrier 로 출발을 맞춘다 ) 한 뒤 모두 취소
+    //     2. 대상 모임은 처음 준비한 사용자가 앞 번호 스터디의 모임 화면에서 "선착순" 인 모임을 찾는다
+    static Scenario enrollBurst(LoadTestSettings settings) {
+        CyclicBarrier barrier = new CyclicBarrier(settings.getBurstSize());
+        return new LoggedIn(settings, "enroll-burst") {
+            private String eventPath;
+
+            @Override
+            public int getUsers(LoadTestSettings settings) {
+                return settings.getBurstSize();
+            }
+
+            @Override
+            public int getIterations(LoadTestSettings settings) {
+                return settings.getBurstIterations();
+            }
+
+            @Override
+            public void setUp(VirtualUser user) throws Exception {
+                super.setUp(user);
+                String path = findFcfsEvent(user);
+                // 이전 실행에서 남은 신청이 있으면 취소 ( 없으면 오류 응답, 기록하지 않음 )
+                user.postForm(null, path + "/disenroll", 302);
+            }
+
+            @Override
+            public void run(VirtualUser user) throws Exception {
+                barrier.await(1, TimeUnit.MINUTES);
+                send(user, "enroll", eventPath + "/enroll");
+                barrier.await(1, TimeUnit.MINUTES);
+                send(user, "disenroll", eventPath + "/disenroll");
+            }
+
+            //TODO 연결 오류가 나도 ( 오류로 기록됨 ) 다음 barrier 에 도착해야 다른 사용자가 기다리지 않는다
+            private void send(VirtualUser user, String route, String path) {
+                try {
+                    user.postForm(route, path, 302);
+                } catch (IOException e) {
+                    // VirtualUser 가 오류로 기록
+                }
+            }
+
+            private synchronized String findFcfsEvent(VirtualUser user) throws IOException {
+                for (int i = 0; eventPath == null && i < Math.min(settings.getStudies(), 100); i++) {
+                    String study = "/study/" + settings.getPrefix() + "-" + i;
+                    String events = user.get(null, study + "/events", 200).getBody();
+                    Matcher matcher = Pattern.compile(Pattern.quote(study + "/events/") + "(\\d+)\"").matcher(events);
+                    while (eventPath == null && matcher.find()) {
+                        String path = study + "/events/" + matcher.group(1);
+                        if (user.get(null, path, 200).getBody().contains("선착순")) {
+                            eventPath = path;
+                        }
+                    }
+                }
+                if (eventPath == null) {
+                    throw new IllegalStateException("선착순 모임을 찾을 수 없습니다. datagen.events 를 확인하세요.");
+                }
+                return eventPath;
+            }
+        };
+    }
+
+    //TODO 사용자 번호로 정해지는 DataGenerator 회원 ( 시나리오마다 같은 사용자는 같은 회원 )
+    private static String account(LoadTestSettings settings, VirtualUser user) {
+        return settings.getPrefix() + "-" + (user.getIndex() % settings.getAccounts());
+    }
+
+    private static String study(LoadTestSettings settings, Zipf studies, VirtualUser user) {
+        return "/study/" + settings.getPrefix() + "-" + studies.sample(user.getRandom());
+    }
+
+    //TODO 측정 전에 DataGenerator 회원으로 로그인하는 시나리오
+    private abstract static class LoggedIn implements Scenario {
+        private final LoadTestSettings settings;
+        private final String name;
+
+        LoggedIn(LoadTestSettings settings, String name) {
+            this.settings = settings;
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void setUp(VirtualUser user) throws Exception {
+            if (!user.login(null, account(settings, user), DataGenerator.PASSWORD)) {
+                throw new IllegalStateException(account(settings, user) + " 로 로그인할 수 없습니다. DataGenerator 데이터를 확인하세요.");
+            }
+        }
+    }
+}
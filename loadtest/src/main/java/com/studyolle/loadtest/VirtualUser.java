@@ -0,0 +1,164 @@
+package com.studyolle.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+//TODO 가상 사용자 한 명 ( 스레드 하나 )
+//     1. HTTP 클라이언트 ( 커넥션 풀 ) 는 모두 같이 쓰고, 쿠키 ( 세션 ) 는 사용자마다 따로
+//     2. 응답 본문까지 모두 읽은 시간을 경로 이름으로 기록 ( recording 일 때만 )
+//      1). 기대한 상태 코드가 아니거나 연결 오류면 오류로 기록
+//     3. 리다이렉트는 따라가지 않는다 ( 요청 하나의 시간만 기록 )
+//     4. 폼 / Ajax 요청의 CSRF 토큰은 마지막으로 받은 화면에서 꺼내 쓴다
+//      1). 폼 : <input type="hidden" name="_csrf" value="..."> ( 로그인 후에는 모든 화면의 로그아웃 폼에 포함 )
+//      2). Ajax : fragments.html :: ajax-csrf-header 의 csrfToken
+public class VirtualUser {
+
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"|csrfToken = \"([^\"]+)\"");
+    private static final String CSRF_HEADER = "X-CSRF-TOKEN";
+
+    private final CloseableHttpClient client;
+    private final String baseUrl;
+    private final RouteStats stats;
+
+    @Getter
+    private final int index;
+
+    @Getter
+    private final SplittableRandom random;
+
+    private HttpClientContext context;
+    private String csrfToken;
+    private boolean recording;
+
+    public VirtualUser(CloseableHttpClient client, String baseUrl, RouteStats stats, int index, long seed) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+        this.index = index;
+        this.random = new SplittableRandom(seed * 31 + index);
+        newSession();
+    }
+
+    public void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+
+    //TODO 쿠키를 버리고 새 세션으로 시작 ( 로그아웃 한 것과 같다 )
+    public void newSession() {
+        context = HttpClientContext.create();
+        context.setCookieStore(new BasicCookieStore());
+        csrfToken = null;
+    }
+
+    //TODO 로그인 ( 성공하면 / 로, 실패하면 /login?error 로 리다이렉트 )
+    public boolean login(String route, String username, String password) throws IOException {
+        get(null, "/login", 200);
+        Response response = postForm(route, "/login", 302, "username", username, "password", password);
+        boolean success = response.getLocation() != null && !response.getLocation().contains("error");
+        if (!success) {
+            error(route);
+        }
+        // 로그인하면 CSRF 토큰이 바뀌므로 새 토큰을 받아 둔다
+        get(null, "/", 200);
+        return success;
+    }
+
+    public Response get(String route, String path, int expectedStatus) throws IOException {
+        return execute(route, new HttpGet(baseUrl + path), expectedStatus);
+    }
+
+    public Response postForm(String route, String path, int expectedStatus, String... namesAndValues) throws IOException {
+        List<NameValuePair> parameters = new ArrayList<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            parameters.add(new BasicNameValuePair(namesAndValues[i], namesAndValues[i + 1]));
+        }
+        if (csrfToken != null) {
+            parameters.add(new BasicNameValuePair("_csrf", csrfToken));
+        }
+        HttpPost post = new HttpPost(baseUrl + path);
+        post.setEntity(new UrlEncodedFormEntity(parameters, StandardCharsets.UTF_8));
+        return execute(route, post, expectedStatus);
+    }
+
+    public Response postJson(String route, String path, int expectedStatus, String json) throws IOException {
+        HttpPost post = new HttpPost(baseUrl + path);
+        post.setEntity(new StringEntity(json, ContentType.APPLICATION_JSON));
+        if (csrfToken != null) {
+            post.setHeader(CSRF_HEADER, csrfToken);
+        }
+        return execute(route, post, expectedStatus);
+    }
+
+    public void error(String route) {
+        if (recording && route != null) {
+            stats.error(route);
+        }
+    }
+
+    private Response execute(String route, HttpUriRequest request, int expectedStatus) throws IOException {
+        long start = System.nanoTime();
+        try (CloseableHttpResponse httpResponse = client.execute(request, context)) {
+            Response response = Response.of(httpResponse);
+            record(route, start);
+            if (response.getStatus() != expectedStatus) {
+                error(route);
+            }
+            updateCsrfToken(response.getBody());
+            return response;
+        } catch (IOException e) {
+            record(route, start);
+            error(route);
+            throw e;
+        }
+    }
+
+    private void record(String route, long start) {
+        if (recording && route != null) {
+            stats.record(route, start, System.nanoTime());
+        }
+    }
+
+    private void updateCsrfToken(String body) {
+        Matcher matcher = CSRF.matcher(body);
+        if (matcher.find()) {
+            csrfToken = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Response {
+        private final int status;
+        private final String location;
+        private final String body;
+
+        static Response of(HttpResponse response) throws IOException {
+            Header location = response.getFirstHeader("Location");
+            String body = response.getEntity() == null ? "" : EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
+            return new Response(response.getStatusLine().getStatusCode(), location == null ? null : location.getValue(), body);
+        }
+    }
+}
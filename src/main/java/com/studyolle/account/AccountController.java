@@ -115,7 +115,7 @@ public class AccountController {
     //     3. 현재 유자가 프로필을 수정할 수 있는 권한이 있는지 판단 필요
     @GetMapping("/profile/{nickname}")
     public String viewProfile(@PathVariable String nickname, Model model,
-                              @CurrentUser Account account) {
+                              @CurrentUser UserAccount userAccount) {
         //TODO 1. 현재 인증된 정보 principal ( @CurrentUser Account account ) 을 이용해
         //        Url path 의 nickname 으로 해당 유저 조회
         //     2. 해당 유저가 존재하지 않으면 예외에 메시지를 담아서 반환
@@ -126,7 +126,7 @@ public class AccountController {
             new IllegalArgumentException(nickname + "에 해당하는 사용자가 없습니다.");
         }
         model.addAttribute("account", findAccount);
-        model.addAttribute("isOwner", findAccount.equals(account));
+        model.addAttribute("isOwner", userAccount != null && findAccount.getId().equals(userAccount.getId()));
 
         return "account/profile";
     }
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Transactional(readOnly = true)
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
@@ -17,6 +19,9 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     Account findByNickname(String emailOrNickname);
 
+    //TODO 로그인 시 이메일 또는 닉네임 중 하나로 한번에 조회
+    List<Account> findByEmailOrNickname(String email, String nickname);
+
     @Query("select acc from Account acc " +
             "left outer join fetch acc.accountTags at " +
             "left outer join fetch at.tag " +
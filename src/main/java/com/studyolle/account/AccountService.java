@@ -4,12 +4,16 @@ import com.studyolle.account.form.SignUpForm;
 import com.studyolle.config.AppProperties;
 import com.studyolle.domain.*;
 import com.studyolle.email.EmailMessage;
-import com.studyolle.email.EmailService;
+import com.studyolle.email.EmailOutboxRepository;
+import com.studyolle.email.MailTemplateRenderer;
+import com.studyolle.image.ImageStore;
 import com.studyolle.settings.form.Notifications;
 import com.studyolle.settings.form.Profile;
+import com.studyolle.tag.TagUsageChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -22,8 +26,6 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
@@ -66,11 +68,13 @@ public class AccountService implements UserDetailsService {
     //     Controller 의 의존성을 AccountService 만을 받게 변경
     private final AccountRepository accountRepository;
     //private final JavaMailSender javaMailSender;
-    private final EmailService emailService;
+    private final EmailOutboxRepository emailOutboxRepository;
     private final PasswordEncoder passwordEncoder;
     private final ModelMapper modelMapper;
-    private final TemplateEngine templateEngine;
     private final AppProperties appProperties;
+    private final ImageStore imageStore;
+    private final UserDetailsCache userDetailsCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     //TODO 2021.01.09 - 8.회원가입 리팩토링 및 테스트
     //     Controller Layer 에서 사용할 메소드만을 public 접근제어자로 공개
@@ -82,6 +86,8 @@ public class AccountService implements UserDetailsService {
     @Transactional
     public Account processNewAccount(SignUpForm signUpForm) {
         Account newAccount = saveNewAccount(signUpForm);
+        //TODO 같은 이메일 / 닉네임으로 이전에 캐시된 정보가 남아있지 않도록 제거
+        userDetailsCache.evictAfterCommit(newAccount.getEmail(), newAccount.getNickname());
         //TODO 이메일 전송에 필요한 토큰 발행
         newAccount.generateEmailCheckToken();
         sendSignUpConfirmEmail(newAccount);
@@ -108,22 +114,24 @@ public class AccountService implements UserDetailsService {
     //                 1. EmailService 로 추상화된 객체에 IOC 컨테이너를 통해 구현체를 주입받아 사용
     //                 2. @Profile("local") 환경과 @Profile("dev") 환경에따라 해당 클라언트 코드를 수정하지
     //                    않고 사용 가능
+    // --------------------------------------------------------------------------------------------
+    //     이메일 아웃박스
+    //     1. SMTP 로 바로 전송하지 않고 현재 트랜잭션 안에서 email_outbox 에 저장
+    //     2. 실제 전송은 EmailDispatcher 가 백그라운드에서 처리
+    //     3. 본문은 렌더링하지 않고 템플릿과 변수만 저장 ( 전송할 때 배치 단위로 렌더링 )
+    @Transactional
     public void sendSignUpConfirmEmail(Account newAccount) {
-        Context context = new Context();
-        context.setVariable("link", "/check-email-token?token=" + newAccount.getEmailCheckToken() +
-                "&email=" + newAccount.getEmail());
-        context.setVariable("nickname", newAccount.getNickname());
-        context.setVariable("linkName", "이메일 인증하기");
-        context.setVariable("message", "스터디올래 서비스를 이용하려면 링크를 클릭하세요");
-        context.setVariable("host", appProperties.getHost());
-        String message = templateEngine.process("mail/simple-link", context);
+        Map<String, String> variables = simpleLinkVariables(
+                newAccount.getNickname(),
+                "/check-email-token?token=" + newAccount.getEmailCheckToken() + "&email=" + newAccount.getEmail(),
+                "이메일 인증하기",
+                "스터디올래 서비스를 이용하려면 링크를 클릭하세요");
 
         EmailMessage emailMessage = new EmailMessage();
         emailMessage.setTo(newAccount.getEmail());
         emailMessage.setSubject("스터디올래, 회원 가입 인증");
-        emailMessage.setMessage(message);
 
-        emailService.sendEmail(emailMessage);
+        emailOutboxRepository.save(EmailOutbox.createBy(emailMessage, MailTemplateRenderer.SIMPLE_LINK, variables));
     }
 
     //TODO 2021.01.11 12.회원가입 가입 완료 후 자동 로그인
@@ -137,10 +145,13 @@ public class AccountService implements UserDetailsService {
         //TODO 2021.01.11 12.회원가입 가입 완료 후 자동 로그인
         //     1. 본래는 AuthenticationManager 가 하는 일을 비즈니스 로직에서 구현 - 결과는 동일
         //     2. 이와 같이 사용하는 이유는 아래 정석적으로 인증하는 방법에 명시
+        //     3. 세션에 비밀번호 해시가 남지 않도록 principal 과 토큰 모두 credentials 를 비워서 발행
+        UserAccount userAccount = new UserAccount(account);
+        userAccount.eraseCredentials();
         UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(
-                new UserAccount(account),
+                userAccount,
                 //account.getNickname(),
-                account.getPassword(),
+                null,
                 Arrays.asList(new SimpleGrantedAuthority("ROLE_USER")));
         SecurityContextHolder.getContext().setAuthentication(token);
 
@@ -170,18 +181,25 @@ public class AccountService implements UserDetailsService {
     //        >. 닉네임으로 조회
     //         /. 조회된 정보가 없다면 -> throw new UsernameNotFoundException(emailOrNickname) 반환
     //         /. 조회된 정보가 있다면 principal 반환 -> return new UserAccount(account)
+    //     3. 이메일 조회 후 닉네임을 다시 조회하던 두번의 쿼리를 email = ? or nickname = ? 한번의 쿼리로 변경
+    //      1). 이메일이 일치하는 계정을 우선
+    //     4. 조회 결과는 UserDetailsCache 에 이메일, 닉네임 두 키로 캐싱
+    //      1). 조회 전에 받은 세대를 같이 넘겨서, 조회 중에 계정이 바뀌었으면 캐싱하지 않는다
     @Override
     public UserDetails loadUserByUsername(String emailOrNickname) throws UsernameNotFoundException {
-        Account account = accountRepository.findByEmail(emailOrNickname);
-        if(account == null) {
-            account = accountRepository.findByNickname(emailOrNickname);
+        UserAccount cached = userDetailsCache.get(emailOrNickname);
+        if (cached != null) {
+            return cached;
         }
 
-        if(account == null) {
-            throw new UsernameNotFoundException(emailOrNickname);
-        }
+        long generation = userDetailsCache.generation();
+        Account account = accountRepository.findByEmailOrNickname(emailOrNickname, emailOrNickname).stream()
+                .min(Comparator.comparing(a -> emailOrNickname.equals(a.getEmail()) ? 0 : 1))
+                .orElseThrow(() -> new UsernameNotFoundException(emailOrNickname));
 
-        return new UserAccount(account);
+        UserAccount userAccount = new UserAccount(account);
+        userDetailsCache.put(userAccount, generation);
+        return userAccount;
     }
 
 
@@ -191,6 +209,7 @@ public class AccountService implements UserDetailsService {
     @Transactional
     public void completeSignUp(Account account) {
         account.completeSignUp();
+        userDetailsCache.evictAfterCommit(account.getEmail(), account.getNickname());
         login(account);
     }
 
@@ -212,7 +231,12 @@ public class AccountService implements UserDetailsService {
         //      1). modelMapper.map(profile, account);
         //     3. 기존 코드 제거
         modelMapper.map(profile, account);
+        //TODO 크롭된 이미지 ( data URL ) 는 ImageStore 에 저장하고 해시만 계정에 보관
+        account.setProfileImage(imageStore.resolve(profile.getProfileImage()));
         accountRepository.save(account);
+        userDetailsCache.evictAfterCommit(account.getEmail(), account.getNickname());
+        //TODO principal 이 프로필 이미지 해시를 들고 있으므로 다시 발행
+        login(account);
     }
 
     //TODO 2021.01.17 28. 패스워드 수정
@@ -223,6 +247,7 @@ public class AccountService implements UserDetailsService {
     public void updatePassword(Account account, String newPassword) {
         account.setPassword(passwordEncoder.encode(newPassword));
         accountRepository.save(account);
+        userDetailsCache.evictAfterCommit(account.getEmail(), account.getNickname());
     }
 
     //TODO 2021.01.17 28. 패스워드 수정
@@ -242,6 +267,7 @@ public class AccountService implements UserDetailsService {
 
         account.setPassword(passwordEncoder.encode(newPassword));
         accountRepository.save(account);
+        userDetailsCache.evictAfterCommit(account.getEmail(), account.getNickname());
         return true;
     }
 
@@ -265,6 +291,9 @@ public class AccountService implements UserDetailsService {
         //     3. 기존 코드 제거
         modelMapper.map(notifications, account);
         accountRepository.save(account);
+        userDetailsCache.evictAfterCommit(account.getEmail(), account.getNickname());
+        //TODO principal 이 알림 설정을 들고 있으므로 다시 발행
+        login(account);
     }
 
     //TODO 2021.01.17 32.닉네임 수정
@@ -275,6 +304,8 @@ public class AccountService implements UserDetailsService {
     //          nickname 으로 유저를 조회하는 경우에 장애 발생
     @Transactional
     public void updateNickname(Account account, String nickname) {
+        //TODO 이전 닉네임과 새 닉네임 모두 캐시에서 제거
+        userDetailsCache.evictAfterCommit(account.getEmail(), account.getNickname(), nickname);
         account.setNickname(nickname);
         accountRepository.save(account);
         login(account);
@@ -282,21 +313,28 @@ public class AccountService implements UserDetailsService {
 
     @Transactional
     public void sendLoginLink(Account account) {
-        Context context = new Context();
-        context.setVariable("link", "/login-by-email?token=" + account.getEmailCheckToken() +
-                "&email=" + account.getEmail());
-        context.setVariable("nickname", account.getNickname());
-        context.setVariable("LinkName", "스터디올래 로그인하기");
-        context.setVariable("message", "로그인하려면 링크를 클릭하세요");
-        context.setVariable("host", appProperties.getHost());
-        String message = templateEngine.process("mail/simple-link", context);
+        Map<String, String> variables = simpleLinkVariables(
+                account.getNickname(),
+                "/login-by-email?token=" + account.getEmailCheckToken() + "&email=" + account.getEmail(),
+                "스터디올래 로그인하기",
+                "로그인하려면 링크를 클릭하세요");
 
         EmailMessage emailMessage = new EmailMessage();
         emailMessage.setTo(account.getEmail());
         emailMessage.setSubject("스터디올래, 로그인 링크");
-        emailMessage.setMessage(message);
 
-        emailService.sendEmail(emailMessage);
+        emailOutboxRepository.save(EmailOutbox.createBy(emailMessage, MailTemplateRenderer.SIMPLE_LINK, variables));
+    }
+
+    //TODO mail/simple-link 템플릿 변수
+    private Map<String, String> simpleLinkVariables(String nickname, String link, String linkName, String message) {
+        Map<String, String> variables = new HashMap<>();
+        variables.put("nickname", nickname);
+        variables.put("link", link);
+        variables.put("linkName", linkName);
+        variables.put("message", message);
+        variables.put("host", appProperties.getHost());
+        return variables;
     }
 
     //TODO 2021.01.20 37.관심 주제 조회
@@ -320,6 +358,7 @@ public class AccountService implements UserDetailsService {
         AccountTag accountTag = AccountTag.createAccountTag(account, tag);
 
         findAccount.addAccountTag(accountTag);
+        eventPublisher.publishEvent(new TagUsageChangedEvent(tag.getTitle(), 1));
     }
 
     //TODO 2021.01.20 38.관심 주제 삭제
@@ -332,7 +371,9 @@ public class AccountService implements UserDetailsService {
 //                .orElseThrow(() -> new NoSuchElementException(""));
         Account findAccount = accountRepository.findAccountTagAccountIdAndTagTitle(account.getId(), tag.getTitle());
 
-        findAccount.removeTag(tag.getTitle());
+        if (findAccount.removeTag(tag.getTitle())) {
+            eventPublisher.publishEvent(new TagUsageChangedEvent(tag.getTitle(), -1));
+        }
     }
 
     @Transactional
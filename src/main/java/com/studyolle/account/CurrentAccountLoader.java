@@ -0,0 +1,26 @@
+package com.studyolle.account;
+
+import com.studyolle.domain.Account;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+//TODO 관리되는 Account 엔티티를 요청 범위에서 지연 로딩
+//     1. 핸들러가 @CurrentUser Account 를 선언한 경우에만 조회
+//     2. 한 요청 안에서는 조회한 엔티티를 재사용 ( Open EntityManager In View 로 영속 상태 유지 )
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentAccountLoader {
+
+    private final AccountRepository accountRepository;
+
+    private Account account;
+
+    public Account load(UserAccount userAccount) {
+        if (account == null || !account.getId().equals(userAccount.getId())) {
+            account = accountRepository.findById(userAccount.getId()).orElse(null);
+        }
+        return account;
+    }
+}
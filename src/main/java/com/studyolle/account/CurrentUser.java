@@ -1,7 +1,5 @@
 package com.studyolle.account;
 
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -15,8 +13,13 @@ import java.lang.annotation.Target;
 //     3. @AuthenticationPrincipal(expression = "#this == 'anonymousUser' ? null : account")
 //     4. @Retention(RetentionPolicy.RUNTIME) : 런타임까지 유지
 //     5. @Target(ElementType.PARAMETER) : 프로퍼티에만 사용가능
+// ------------------------------------------------------------------------------------------------------------
+//     principal 이 더이상 Account 를 들고 있지 않으므로 @AuthenticationPrincipal 대신
+//     CurrentUserArgumentResolver 가 파라미터 타입에 따라 값을 결정
+//     1. @CurrentUser UserAccount userAccount : 세션의 principal 그대로 ( 쿼리 없음 )
+//     2. @CurrentUser Account account : CurrentAccountLoader 로 요청당 한번 조회한 관리되는 엔티티
+//     3. 익명 사용자인 경우 null
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.PARAMETER)
-@AuthenticationPrincipal(expression = "#this == 'anonymousUser' ? null : account")
 public @interface CurrentUser {
 }
@@ -2,7 +2,6 @@ package com.studyolle.account;
 
 import com.studyolle.domain.Account;
 import lombok.Getter;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 
@@ -10,18 +9,72 @@ import java.util.Arrays;
 
 //TODO 2021.01.13 17.현재 인증된 사용자 정보 참조
 //     1. 스프링 시큐리티가 다루는 유저 정보와 우리가 다루는 유저 도메인이 다르므로 이를 연동하는 어뎁터 객체
-
+// ------------------------------------------------------------------------------------------------------------
+//     세션에 저장되는 가벼운 principal
+//     1. 기존에는 Account 엔티티 전체 ( 프로필 이미지, 태그 / 지역 컬렉션, 비밀번호 해시 ) 를 들고 있어
+//        모든 HTTP 세션에 직렬화 되는 문제
+//     2. 화면과 권한 판단에 필요한 불변 값만 보관
+//      1). id, nickname, email, 이메일 인증 여부, 알림 설정, 프로필 이미지 해시
+//     3. 관리되는 Account 엔티티가 필요한 핸들러는 @CurrentUser Account 로 받으면
+//        CurrentAccountLoader 가 요청 범위에서 한번만 조회한다.
 @Getter
 public class UserAccount extends User {
-    private Account account;
+
+    private final Long id;
+
+    private final String nickname;
+
+    private final String email;
+
+    private final boolean emailVerified;
+
+    private final boolean studyCreatedByEmail;
+
+    private final boolean studyCreatedByWeb;
+
+    private final boolean studyEnrollmentResultByEmail;
+
+    private final boolean studyEnrollmentResultByWeb;
+
+    private final boolean studyUpdatedByEmail;
+
+    private final boolean studyUpdatedByWeb;
+
+    private final String profileImage;
 
     public UserAccount(Account account) {
         //TODO 2021.01.13 17.현재 인증된 사용자 정보 참조
         //     1. 유저 도메인 객체의 정보를 스프링 시큐리티가 관리하는 유저 정보에 삽입
+        //     2. 비밀번호는 폼 로그인 인증에만 사용되고 인증 후 ProviderManager 가 지워준다 ( eraseCredentials )
         super(account.getNickname(), account.getPassword(), Arrays.asList(new SimpleGrantedAuthority("ROLE_USER")));
-        //TODO 2021.01.13 17.현재 인증된 사용자 정보 참조
-        //     1. @CurrentUser 애노테이션을 사용하는 핸들러에서 인증된 사용자의 정보를 가져오기 위해 현재 입력된 값으로
-        //        해당 프로퍼티에 삽입
-        this.account = account;
+        this.id = account.getId();
+        this.nickname = account.getNickname();
+        this.email = account.getEmail();
+        this.emailVerified = account.isEmailVerified();
+        this.studyCreatedByEmail = account.isStudyCreatedByEmail();
+        this.studyCreatedByWeb = account.isStudyCreatedByWeb();
+        this.studyEnrollmentResultByEmail = account.isStudyEnrollmentResultByEmail();
+        this.studyEnrollmentResultByWeb = account.isStudyEnrollmentResultByWeb();
+        this.studyUpdatedByEmail = account.isStudyUpdatedByEmail();
+        this.studyUpdatedByWeb = account.isStudyUpdatedByWeb();
+        this.profileImage = account.getProfileImage();
+    }
+
+    //TODO 캐시에 보관된 principal 의 복사본 생성
+    //     1. 인증이 끝나면 ProviderManager 가 principal 의 비밀번호를 지우므로 ( eraseCredentials )
+    //        캐시된 객체를 그대로 반환하지 않고 매번 복사해서 반환
+    public UserAccount(UserAccount source) {
+        super(source.getUsername(), source.getPassword(), source.getAuthorities());
+        this.id = source.id;
+        this.nickname = source.nickname;
+        this.email = source.email;
+        this.emailVerified = source.emailVerified;
+        this.studyCreatedByEmail = source.studyCreatedByEmail;
+        this.studyCreatedByWeb = source.studyCreatedByWeb;
+        this.studyEnrollmentResultByEmail = source.studyEnrollmentResultByEmail;
+        this.studyEnrollmentResultByWeb = source.studyEnrollmentResultByWeb;
+        this.studyUpdatedByEmail = source.studyUpdatedByEmail;
+        this.studyUpdatedByWeb = source.studyUpdatedByWeb;
+        this.profileImage = source.profileImage;
     }
 }
@@ -0,0 +1,122 @@
+package com.studyolle.account;
+
+import com.studyolle.config.AppProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+//TODO loadUserByUsername 결과 캐시
+//     1. 폼 로그인, remember-me 인증마다 계정을 조회하던 것을 메모리에서 처리
+//     2. 이메일과 닉네임 두 키로 같은 항목을 저장 ( 어느 쪽으로 로그인해도 캐시 적중 )
+//     3. 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거 ( LRU )
+//     4. 계정 정보가 바뀌는 경우 해당 키를 즉시 제거하고, 트랜잭션 커밋 후 한번 더 제거
+//      1). 커밋 전에 다른 요청이 이전 값으로 캐시를 다시 채우는 경우를 방지
+//     5. 제거할 때마다 세대 ( generation ) 를 올리고, 조회 전에 받은 세대가 바뀌었으면 put 하지 않는다
+//      1). 커밋 전에 이전 값을 읽은 요청이 커밋 후 제거보다 늦게 put 하는 경우를 방지
+//     6. 항목은 TTL 이 지나면 만료 ( 제거가 누락되어도 이전 비밀번호 등이 계속 남지 않도록 )
+@Component
+public class UserDetailsCache {
+
+    private final Map<String, Entry> cache;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private long generation;
+
+    public UserDetailsCache(AppProperties appProperties) {
+        this(appProperties, System::nanoTime);
+    }
+
+    UserDetailsCache(AppProperties appProperties, LongSupplier clock) {
+        int maxSize = appProperties.getUserDetailsCacheSize();
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(appProperties.getUserDetailsCacheTtlSeconds());
+        this.clock = clock;
+        this.cache = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public UserAccount get(String emailOrNickname) {
+        UserAccount userAccount = null;
+        synchronized (cache) {
+            Entry entry = cache.get(emailOrNickname);
+            if (entry != null && entry.isExpired(clock.getAsLong())) {
+                cache.remove(emailOrNickname);
+            } else if (entry != null) {
+                userAccount = entry.userAccount;
+            }
+        }
+        return userAccount == null ? null : new UserAccount(userAccount);
+    }
+
+    //TODO 데이터베이스에서 조회하기 전에 받아두고 put 에 전달
+    public long generation() {
+        synchronized (cache) {
+            return generation;
+        }
+    }
+
+    //TODO 조회 후 제거가 있었다면 ( 세대가 바뀌었다면 ) 이전 값일 수 있으므로 넣지 않는다
+    public boolean put(UserAccount userAccount, long generation) {
+        Entry entry = new Entry(new UserAccount(userAccount), clock.getAsLong() + ttlNanos);
+        synchronized (cache) {
+            if (this.generation != generation) {
+                return false;
+            }
+            cache.put(entry.userAccount.getEmail(), entry);
+            cache.put(entry.userAccount.getNickname(), entry);
+            return true;
+        }
+    }
+
+    public void evict(String... keys) {
+        synchronized (cache) {
+            generation++;
+            for (String key : keys) {
+                if (key != null) {
+                    cache.remove(key);
+                }
+            }
+        }
+    }
+
+    public void evictAfterCommit(String... keys) {
+        evict(keys);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    evict(keys);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static class Entry {
+        private final UserAccount userAccount;
+        private final long expiresAt;
+
+        Entry(UserAccount userAccount, long expiresAt) {
+            this.userAccount = userAccount;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
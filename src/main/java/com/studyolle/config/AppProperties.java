@@ -11,4 +11,44 @@ import org.springframework.stereotype.Component;
 public class AppProperties {
 
     private String host;
+
+    //TODO 프로필 이미지 ( 해시 / 사이즈별 PNG ) 가 저장되는 디렉토리
+    private String imageDir = System.getProperty("java.io.tmpdir") + "/studyolle-images";
+
+    //TODO 로그인 시 조회한 사용자 정보 ( UserAccount ) 캐시의 최대 크기
+    private int userDetailsCacheSize = 10_000;
+
+    //TODO 사용자 정보 캐시 항목의 유지 시간 ( 초 ) - 제거가 누락되어도 이 시간 뒤에는 다시 조회
+    private long userDetailsCacheTtlSeconds = 300;
+
+    //TODO 로그인 기억하기 토큰 캐시의 최대 크기 - 인스턴스가 여러개면 0 ( 캐시 사용 안함 )
+    private int rememberMeCacheSize = 10_000;
+
+    //TODO 스터디 조회 캐시 ( StudySnapshot ) 의 최대 크기
+    private int studyCacheSize = 1_000;
+
+    //TODO 이메일 아웃박스 디스패처 설정
+    //     1. 전송 워커 스레드 수
+    private int mailWorkers = 4;
+
+    //     2. 한번에 가져가는 메일 수
+    private int mailBatchSize = 50;
+
+    //     3. 최대 시도 횟수 ( 넘으면 DEAD )
+    private int mailMaxAttempts = 5;
+
+    //     4. 재시도 간격 ( 지수 백오프의 기본 값 / 최대 값, 초 )
+    private long mailBackoffSeconds = 30;
+
+    private long mailMaxBackoffSeconds = 3600;
+
+    //     5. 가져간 배치의 임대 시간 ( 초 ) - 전송 중 서버가 종료되면 이 시간 뒤에 다시 전송
+    private long mailLeaseSeconds = 300;
+
+    //TODO 요청별 SQL 통계 ( QueryStatsFilter )
+    //     1. 요청 하나의 SQL 문장 수가 이 값을 넘으면 경고 로그
+    private int queryBudget = 20;
+
+    //     2. 같은 문장이 이 횟수 이상 실행되면 N+1 로 의심하고 경고 로그
+    private int queryRepeatThreshold = 3;
 }
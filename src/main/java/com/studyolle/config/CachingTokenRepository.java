@@ -0,0 +1,166 @@
+package com.studyolle.config;
+
+import com.studyolle.domain.PersistentLogins;
+import org.springframework.security.web.authentication.rememberme.JdbcTokenRepositoryImpl;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+//TODO 로그인 기억하기 ( remember-me ) 토큰 저장소 - 단일 인스턴스용 읽기 캐시
+//     1. JdbcTokenRepositoryImpl 은 remember-me 인증마다 select + update 를 실행
+//      1). PersistentTokenBasedRememberMeServices 는 인증마다 새 토큰을 발급하므로 update 는 줄일 수 없다
+//      2). 캐시는 select 만 없앤다
+//     2. 읽기 : 메모리 캐시 ( 최대 크기 제한, LRU ) -> 데이터베이스 순서로 조회
+//     3. 쓰기 : 새 토큰 발급, 토큰 회전, 삭제는 모두 바로 데이터베이스에 반영한 뒤 캐시에 반영
+//     4. 토큰 탈취 판단 ( series 는 같은데 token 이 다른 경우 ) 은 그대로 동작
+//      1). 캐시에는 데이터베이스에 반영된 가장 최근 토큰만 들어간다
+//     5. 인스턴스가 하나일 때만 사용
+//      1). 다른 인스턴스가 같은 series 의 토큰을 회전해도 이 인스턴스의 캐시는 이전 토큰을 가지고 있어서
+//          탈취로 오판 ( CookieTheftException ) 하고 사용자의 토큰을 모두 지운다
+//      2). 여러 인스턴스로 띄울 때는 app.remember-me-cache-size=0 으로 캐시를 끈다 ( SecurityConfig 참고 )
+//     6. 동시성
+//      1). 캐시 / 삭제 기록은 하나의 lock 으로 보호 ( 데이터베이스 작업은 lock 밖에서 )
+//      2). 같은 series 의 토큰 회전은 series 별 lock 으로 데이터베이스 반영과 캐시 반영을 한번에 처리
+//      3). 캐시를 채우거나 바꿀 때마다 version 을 올리고, 데이터베이스에서 읽는 동안 version 이 바뀌었으면
+//          읽은 값 ( 이전 토큰일 수 있음 ) 은 캐시에 넣지 않는다
+//      4). removeUserTokens 는 사용자 이름을 REMOVED_RETENTION_MILLIS 동안 삭제 기록 ( tombstone ) 으로 남겨서
+//          동시에 진행중이던 갱신 / 조회가 삭제된 series 를 다시 캐시에 넣지 못하게 한다
+public class CachingTokenRepository implements PersistentTokenRepository {
+
+    static final long REMOVED_RETENTION_MILLIS = 60_000;
+    private static final int SERIES_LOCKS = 64;
+
+    private final JdbcTokenRepositoryImpl delegate;
+
+    private final Object lock = new Object();
+    private final Object[] seriesLocks = new Object[SERIES_LOCKS];
+    private final Map<String, PersistentLogins> cache;
+    private final Map<String, Long> removedUsers = new HashMap<>();
+    private long version;
+
+    public CachingTokenRepository(DataSource dataSource, int maxSize) {
+        this.delegate = new JdbcTokenRepositoryImpl();
+        this.delegate.setDataSource(dataSource);
+        this.cache = new LinkedHashMap<String, PersistentLogins>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PersistentLogins> eldest) {
+                return size() > maxSize;
+            }
+        };
+        for (int i = 0; i < seriesLocks.length; i++) {
+            seriesLocks[i] = new Object();
+        }
+    }
+
+    @Override
+    public void createNewToken(PersistentRememberMeToken token) {
+        delegate.createNewToken(token);
+        synchronized (lock) {
+            version++;
+            if (!isRemoved(token.getUsername())) {
+                cache.put(token.getSeries(), toPersistentLogins(token));
+            }
+        }
+    }
+
+    @Override
+    public void updateToken(String series, String tokenValue, Date lastUsed) {
+        synchronized (seriesLock(series)) {
+            PersistentLogins logins = findBySeries(series);
+            if (logins == null) {
+                return;
+            }
+
+            PersistentLogins updated = new PersistentLogins();
+            updated.setSeries(series);
+            updated.setUsername(logins.getUsername());
+            updated.setToken(tokenValue);
+            updated.setLastUsed(toLocalDateTime(lastUsed));
+
+            delegate.updateToken(series, tokenValue, lastUsed);
+            synchronized (lock) {
+                version++;
+                if (isRemoved(updated.getUsername())) {
+                    cache.remove(series);
+                } else {
+                    cache.put(series, updated);
+                }
+            }
+        }
+    }
+
+    @Override
+    public PersistentRememberMeToken getTokenForSeries(String seriesId) {
+        PersistentLogins logins = findBySeries(seriesId);
+        return logins == null ? null : toToken(logins);
+    }
+
+    @Override
+    public void removeUserTokens(String username) {
+        synchronized (lock) {
+            version++;
+            long now = System.currentTimeMillis();
+            removedUsers.values().removeIf(removedAt -> now - removedAt >= REMOVED_RETENTION_MILLIS);
+            removedUsers.put(username, now);
+            cache.values().removeIf(logins -> logins.getUsername().equals(username));
+        }
+        delegate.removeUserTokens(username);
+    }
+
+    //TODO 캐시 -> 데이터베이스 순서로 조회
+    //     1. 데이터베이스에서 읽은 값은 읽는 동안 캐시가 바뀌지 않았을 때만 캐시
+    private PersistentLogins findBySeries(String series) {
+        long readVersion;
+        synchronized (lock) {
+            PersistentLogins logins = cache.get(series);
+            if (logins != null) {
+                return logins;
+            }
+            readVersion = version;
+        }
+
+        PersistentRememberMeToken token = delegate.getTokenForSeries(series);
+        if (token == null) {
+            return null;
+        }
+
+        PersistentLogins logins = toPersistentLogins(token);
+        synchronized (lock) {
+            if (version == readVersion && !isRemoved(logins.getUsername())) {
+                cache.put(series, logins);
+            }
+        }
+        return logins;
+    }
+
+    private boolean isRemoved(String username) {
+        Long removedAt = removedUsers.get(username);
+        return removedAt != null && System.currentTimeMillis() - removedAt < REMOVED_RETENTION_MILLIS;
+    }
+
+    private Object seriesLock(String series) {
+        return seriesLocks[(series.hashCode() & 0x7fffffff) % seriesLocks.length];
+    }
+
+    private PersistentLogins toPersistentLogins(PersistentRememberMeToken token) {
+        PersistentLogins logins = new PersistentLogins();
+        logins.setSeries(token.getSeries());
+        logins.setUsername(token.getUsername());
+        logins.setToken(token.getTokenValue());
+        logins.setLastUsed(toLocalDateTime(token.getDate()));
+        return logins;
+    }
+
+    private PersistentRememberMeToken toToken(PersistentLogins logins) {
+        Date lastUsed = Date.from(logins.getLastUsed().atZone(ZoneId.systemDefault()).toInstant());
+        return new PersistentRememberMeToken(logins.getUsername(), logins.getSeries(), logins.getToken(), lastUsed);
+    }
+
+    private LocalDateTime toLocalDateTime(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+}
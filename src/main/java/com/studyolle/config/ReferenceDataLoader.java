@@ -0,0 +1,276 @@
+package com.studyolle.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncrementer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+//TODO 기준 데이터 ( 지역 정보 등 ) 적재기
+//     1. 클래스패스 리소스를 getInputStream 으로 읽는다 ( jar 로 패키징되어도 동작, getFile 사용 안함 )
+//     2. 파일 전체를 메모리에 올리지 않고 한 줄씩 읽으면서 BATCH_SIZE 행씩 JDBC 배치로 upsert
+//      1). 키 컬럼으로 update 배치 -> 갱신되지 않은 행만 insert 배치
+//      2). 새 행의 id 는 시퀀스에서 allocationSize 개씩 한번에 받아서 할당 ( pooled-lo, 시퀀스 호출 1회 / allocationSize 행 )
+//     3. 파일의 SHA-256 체크섬을 reference_data_checksum 에 기록하고, 다음 시작 때 같으면 적재하지 않는다
+//     4. 한 파일의 적재와 체크섬 기록은 하나의 트랜잭션
+//     5. 적재하기 전에 ( 체크섬이 같아도 ) id 시퀀스가 테이블의 최대 id 보다 뒤에 있도록 맞춘다
+@Slf4j
+@Component
+public class ReferenceDataLoader {
+
+    static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReferenceDataLoader(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public Result load(ReferenceDataSet dataSet) {
+        alignSequence(dataSet);
+
+        String checksum = checksum(dataSet);
+        if (checksum.equals(loadedChecksum(dataSet))) {
+            log.info("reference data {} is up to date, skip loading", dataSet.getResource());
+            return Result.skipped();
+        }
+
+        long start = System.nanoTime();
+        Result result = transactionTemplate.execute(status -> upsert(dataSet, checksum));
+        log.info("loaded reference data {} ({} inserted, {} updated) in {} ms", dataSet.getResource(),
+                result.getInserted(), result.getUpdated(), (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    //TODO 시퀀스를 테이블의 최대 id 뒤로 맞춘다
+    //     1. 전용 시퀀스 ( zone_seq ) 가 생기기 전에 hibernate_sequence 로 id 를 받은 행이 남아있는 개발 DB ( ddl-auto=update ) 는
+    //        새 시퀀스가 1 부터 시작해서 적재기 / JPA 가 할당한 id 가 기존 행과 겹친다
+    //     2. 다음 시퀀스 값 ( 현재 값 + allocationSize ) 이 최대 id 이하이면 최대 id + 1 부터 다시 시작
+    private void alignSequence(ReferenceDataSet dataSet) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "select max(" + dataSet.getIdColumn() + ") from " + dataSet.getTable(), Long.class);
+        List<Long> currentValues = jdbcTemplate.queryForList(
+                "select current_value from information_schema.sequences where sequence_name = ?",
+                Long.class, dataSet.getSequence().toUpperCase(Locale.ROOT));
+        if (maxId == null || currentValues.isEmpty() || currentValues.get(0) + dataSet.getAllocationSize() > maxId) {
+            return;
+        }
+
+        jdbcTemplate.execute("alter sequence " + dataSet.getSequence() + " restart with " + (maxId + 1));
+        log.info("restarted sequence {} after max({}.{}) = {}", dataSet.getSequence(),
+                dataSet.getTable(), dataSet.getIdColumn(), maxId);
+    }
+
+    private Result upsert(ReferenceDataSet dataSet, String checksum) {
+        Statements statements = new Statements(dataSet);
+        IdAllocator idAllocator = new IdAllocator(jdbcTemplate, dataSet);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        int inserted = 0;
+        int updated = 0;
+
+        try (BufferedReader reader = open(dataSet)) {
+            for (String line; (line = reader.readLine()) != null; ) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                rows.add(parse(dataSet, line));
+                if (rows.size() == BATCH_SIZE) {
+                    int batchInserted = flush(statements, idAllocator, rows);
+                    inserted += batchInserted;
+                    updated += rows.size() - batchInserted;
+                    rows.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(dataSet.getResource() + " 을 읽을 수 없습니다.", e);
+        }
+
+        if (!rows.isEmpty()) {
+            int batchInserted = flush(statements, idAllocator, rows);
+            inserted += batchInserted;
+            updated += rows.size() - batchInserted;
+        }
+
+        saveChecksum(dataSet, checksum, inserted + updated);
+        return new Result(false, inserted, updated);
+    }
+
+    //TODO update 배치 후 갱신된 행이 없는 경우만 insert 배치, insert 한 행 수 반환
+    private int flush(Statements statements, IdAllocator idAllocator, List<Object[]> rows) {
+        List<Object[]> updateArgs = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            updateArgs.add(statements.updateArgs(row));
+        }
+        int[] counts = jdbcTemplate.batchUpdate(statements.update, updateArgs);
+
+        List<Object[]> insertArgs = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (counts[i] == 0) {
+                insertArgs.add(statements.insertArgs(idAllocator.next(), rows.get(i)));
+            }
+        }
+        if (!insertArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(statements.insert, insertArgs);
+        }
+        return insertArgs.size();
+    }
+
+    private Object[] parse(ReferenceDataSet dataSet, String line) {
+        String[] values = line.split(",", -1);
+        if (values.length != dataSet.getColumns().size()) {
+            throw new IllegalStateException(dataSet.getResource() + " 의 형식이 잘못되었습니다. : " + line);
+        }
+        Object[] row = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            row[i] = values[i].trim();
+        }
+        return row;
+    }
+
+    private BufferedReader open(ReferenceDataSet dataSet) throws IOException {
+        return new BufferedReader(new InputStreamReader(
+                new ClassPathResource(dataSet.getResource()).getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    //TODO 파일을 한번 흘려 읽으면서 체크섬 계산 ( 내용은 보관하지 않는다 )
+    private String checksum(ReferenceDataSet dataSet) {
+        try (DigestInputStream in = new DigestInputStream(new ClassPathResource(dataSet.getResource()).getInputStream(),
+                MessageDigest.getInstance("SHA-256"))) {
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // digest only
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : in.getMessageDigest().digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(dataSet.getResource() + " 을 읽을 수 없습니다.", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String loadedChecksum(ReferenceDataSet dataSet) {
+        List<String> checksums = jdbcTemplate.queryForList(
+                "select checksum from reference_data_checksum where name = ?", String.class, dataSet.getResource());
+        return checksums.isEmpty() ? null : checksums.get(0);
+    }
+
+    private void saveChecksum(ReferenceDataSet dataSet, String checksum, long rowCount) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = jdbcTemplate.update(
+                "update reference_data_checksum set checksum = ?, row_count = ?, loaded_at = ? where name = ?",
+                checksum, rowCount, now, dataSet.getResource());
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "insert into reference_data_checksum (name, checksum, row_count, loaded_at) values (?, ?, ?, ?)",
+                    dataSet.getResource(), checksum, rowCount, now);
+        }
+    }
+
+    //TODO 데이터 파일의 컬럼 순서로 만든 update / insert 문과 인자
+    private static class Statements {
+        private final int[] valueIndexes;
+        private final int[] keyIndexes;
+        private final String update;
+        private final String insert;
+
+        Statements(ReferenceDataSet dataSet) {
+            List<String> columns = dataSet.getColumns();
+            List<String> valueColumns = dataSet.getValueColumns();
+            List<String> keyColumns = dataSet.getKeyColumns();
+            this.valueIndexes = valueColumns.stream().mapToInt(columns::indexOf).toArray();
+            this.keyIndexes = keyColumns.stream().mapToInt(columns::indexOf).toArray();
+
+            //TODO 키가 아닌 컬럼이 없으면 키 컬럼을 자기 자신으로 update ( 행이 있는지만 확인 )
+            List<String> setColumns = valueColumns.isEmpty() ? keyColumns.subList(0, 1) : valueColumns;
+            this.update = "update " + dataSet.getTable() + " set " +
+                    setColumns.stream().map(c -> valueColumns.isEmpty() ? c + " = " + c : c + " = ?")
+                            .collect(Collectors.joining(", ")) +
+                    " where " + keyColumns.stream().map(c -> c + " = ?").collect(Collectors.joining(" and "));
+            this.insert = "insert into " + dataSet.getTable() + " (" + dataSet.getIdColumn() + ", " +
+                    String.join(", ", columns) + ") values (?" + repeat(", ?", columns.size()) + ")";
+        }
+
+        Object[] updateArgs(Object[] row) {
+            Object[] args = new Object[valueIndexes.length + keyIndexes.length];
+            int i = 0;
+            for (int index : valueIndexes) {
+                args[i++] = row[index];
+            }
+            for (int index : keyIndexes) {
+                args[i++] = row[index];
+            }
+            return args;
+        }
+
+        Object[] insertArgs(long id, Object[] row) {
+            Object[] args = new Object[row.length + 1];
+            args[0] = id;
+            System.arraycopy(row, 0, args, 1, row.length);
+            return args;
+        }
+
+        private static String repeat(String value, int count) {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                builder.append(value);
+            }
+            return builder.toString();
+        }
+    }
+
+    //TODO pooled-lo id 할당 - 시퀀스 값 v 를 받으면 v ~ v + allocationSize - 1 을 사용
+    //     1. 로컬 / 개발 환경 모두 H2 를 사용하므로 H2 시퀀스 사용
+    static class IdAllocator {
+        private final H2SequenceMaxValueIncrementer incrementer;
+        private final int allocationSize;
+        private long next;
+        private long limit;
+
+        IdAllocator(JdbcTemplate jdbcTemplate, ReferenceDataSet dataSet) {
+            this.incrementer = new H2SequenceMaxValueIncrementer(jdbcTemplate.getDataSource(), dataSet.getSequence());
+            this.allocationSize = dataSet.getAllocationSize();
+        }
+
+        long next() {
+            if (next == limit) {
+                next = incrementer.nextLongValue();
+                limit = next + allocationSize;
+            }
+            return next++;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        private final boolean skipped;
+        private final int inserted;
+        private final int updated;
+
+        static Result skipped() {
+            return new Result(true, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.studyolle.config;
+
+import com.studyolle.domain.Zone;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+//TODO ReferenceDataLoader 로 적재하는 기준 데이터 파일 정의
+//     1. resource : 클래스패스 CSV ( 한 줄이 한 행, columns 순서, 구분자 ',' )
+//     2. keyColumns : 같은 행인지 판단하는 컬럼 ( 있으면 나머지 컬럼을 update, 없으면 insert )
+//     3. sequence / allocationSize : 새 행의 id 를 할당하는 시퀀스 ( 엔티티의 @SequenceGenerator 와 같아야 한다 )
+@Getter
+public class ReferenceDataSet {
+
+    public static final ReferenceDataSet ZONES = new ReferenceDataSet("zones_kr.csv", "zone", "zone_id",
+            "zone_seq", Zone.ID_ALLOCATION_SIZE,
+            Arrays.asList("city", "local_name_of_city", "province"), Arrays.asList("city", "province"));
+
+    private final String resource;
+    private final String table;
+    private final String idColumn;
+    private final String sequence;
+    private final int allocationSize;
+    private final List<String> columns;
+    private final List<String> keyColumns;
+
+    public ReferenceDataSet(String resource, String table, String idColumn, String sequence, int allocationSize,
+                            List<String> columns, List<String> keyColumns) {
+        if (!columns.containsAll(keyColumns)) {
+            throw new IllegalArgumentException("keyColumns 는 columns 에 포함되어야 합니다.");
+        }
+        this.resource = resource;
+        this.table = table;
+        this.idColumn = idColumn;
+        this.sequence = sequence;
+        this.allocationSize = allocationSize;
+        this.columns = Collections.unmodifiableList(new ArrayList<>(columns));
+        this.keyColumns = Collections.unmodifiableList(new ArrayList<>(keyColumns));
+    }
+
+    //TODO update 로 갱신하는 컬럼 ( 키가 아닌 컬럼 )
+    public List<String> getValueColumns() {
+        List<String> valueColumns = new ArrayList<>(columns);
+        valueColumns.removeAll(keyColumns);
+        return valueColumns;
+    }
+}
@@ -0,0 +1,100 @@
+package com.studyolle.config;
+
+import com.studyolle.image.ImageStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+//TODO 기존 데이터 백필
+//     1. 개발 DB 는 ddl-auto=update 라 컬럼이 추가 / 변경되어도 기존 행의 값은 보정되지 않는다
+//     2. 시작할 때 ( 요청을 받기 전 ) 백필마다 한번만 실행하고 schema_backfill 에 기록
+//      1). 백필과 기록은 하나의 트랜잭션 -> 중간에 실패하면 다음 시작 때 다시 실행
+//      2). 여러 인스턴스가 같이 시작하면 먼저 기록한 쪽만 커밋 ( name 이 기본 키 )
+//     3. 새로 만든 DB ( create-drop ) 에서는 보정할 행이 없으므로 기록만 남는다
+//     4. 스키마 ( 컬럼 ) 는 Hibernate 가 만들어야 하므로 entityManagerFactory 이후에 생성
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class SchemaBackfill {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageStore imageStore;
+
+    public SchemaBackfill(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                          ImageStore imageStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.imageStore = imageStore;
+    }
+
+    @PostConstruct
+    public void backfill() {
+        apply("account.profile_image-hash", this::profileImageHash);
+        apply("study.member_count", this::studyMemberCount);
+        apply("event.accepted_count", this::eventAcceptedCount);
+    }
+
+    //TODO 아직 적용하지 않은 백필이면 실행 후 기록
+    void apply(String name, IntSupplier backfill) {
+        try {
+            transactionTemplate.execute(status -> {
+                Integer applied = jdbcTemplate.queryForObject(
+                        "select count(*) from schema_backfill where name = ?", Integer.class, name);
+                if (applied != null && applied > 0) {
+                    return null;
+                }
+
+                int rows = backfill.getAsInt();
+                jdbcTemplate.update("insert into schema_backfill (name, row_count, applied_at) values (?, ?, ?)",
+                        name, rows, Timestamp.valueOf(LocalDateTime.now()));
+                log.info("applied backfill {} ({} rows)", name, rows);
+                return null;
+            });
+        } catch (DuplicateKeyException e) {
+            log.info("backfill {} was applied by another instance", name);
+        }
+    }
+
+    //TODO 프로필 이미지 data URL -> ImageStore 해시
+    //     1. 예전에는 data URL 을 그대로 저장 -> 화면에서 /img/data:.../24 로 그려지는 문제
+    //     2. 읽을 수 없는 이미지는 기본 아바타 ( null ) 로 변경
+    //     3. 값이 크므로 id 만 먼저 읽고 한 행씩 변환
+    private int profileImageHash() {
+        List<Long> accountIds = jdbcTemplate.queryForList(
+                "select account_id from account where profile_image like 'data:%'", Long.class);
+        for (Long accountId : accountIds) {
+            String dataUrl = jdbcTemplate.queryForObject(
+                    "select profile_image from account where account_id = ?", String.class, accountId);
+            String hash = imageStore.isValid(dataUrl) ? imageStore.resolve(dataUrl) : null;
+            jdbcTemplate.update("update account set profile_image = ? where account_id = ?", hash, accountId);
+        }
+        return accountIds.size();
+    }
+
+    //TODO 스터디 멤버 수 ( 관리자 제외 )
+    //     1. 컬럼이 추가되기 전에 가입한 멤버는 0 으로 남아있어 정렬 / 목록이 틀린다
+    //     2. study_account 에서 다시 센다 ( 시작할 때라 가입 / 탈퇴 update 와 겹치지 않는다 )
+    private int studyMemberCount() {
+        return jdbcTemplate.update("update study s set member_count = " +
+                "(select count(*) from study_account sa where sa.study_id = s.study_id and sa.manager = false)");
+    }
+
+    //TODO 모임 참가 확정 인원
+    //     1. 컬럼이 추가되기 전의 모임은 0 으로 남아있어 claimSeat 가 정원을 넘겨 참가 확정한다
+    //     2. enrollment 의 참가 확정 신청을 다시 센다
+    private int eventAcceptedCount() {
+        return jdbcTemplate.update("update event e set accepted_count = " +
+                "(select count(*) from enrollment en where en.event_id = e.event_id and en.accepted = true)");
+    }
+}
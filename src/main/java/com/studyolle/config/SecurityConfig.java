@@ -2,6 +2,7 @@ package com.studyolle.config;
 
 import com.studyolle.account.AccountService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,6 +31,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final AccountService accountService;
     private final DataSource dataSource;
+    private final AppProperties appProperties;
 
     @Override
     protected void configure(HttpSecurity http) throws Exception {
@@ -40,6 +42,15 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                         "/login-link", "/login-by-email", "/logged-in-by-email", "my-html").permitAll()
                 //TODO 프로필 요청의 경우 GET 요청에서만 허용
                 .mvcMatchers(HttpMethod.GET, "/profile/*").permitAll()
+                //TODO 프로필 이미지는 GET 요청에서만 허용
+                .mvcMatchers(HttpMethod.GET, "/img/**").permitAll()
+                //TODO 스터디 검색은 GET 요청에서만 허용
+                .mvcMatchers(HttpMethod.GET, "/search/study").permitAll()
+                //TODO 상태 확인 / Prometheus 수집 엔드포인트는 인증 없이 허용
+                //     1. 엔드포인트는 관리 포트 ( management.server.port ) 에만 있고 서비스 포트에는 없다
+                //     2. 관리 포트의 자식 컨텍스트도 이 보안 필터 체인을 그대로 사용하므로 여기서 허용해야 수집할 수 있다
+                //      1). EndpointRequest 는 관리 경로 ( management.endpoints.web.base-path ) 를 따라간다
+                .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                 //TODO 이외 나머지 설정들은 로그인을 해야만 사용할 수 있다.
                 .anyRequest().authenticated();
 
@@ -82,11 +93,17 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     //      2). PersistentTokenRepository - 인터페이스
     //      3). JdbcTokenRepositoryImpl - 구현체
     //      4). DataSource 를 사용하기 위해 datasource Dependency Injection
+    //     2. 인스턴스가 하나일 때는 JdbcTokenRepositoryImpl 을 감싸 토큰 조회를 메모리 캐시에서 처리
+    //      1). CachingTokenRepository 참고
+    //      2). 캐시 크기가 0 이면 ( 여러 인스턴스 ) JdbcTokenRepositoryImpl 을 그대로 사용
     @Bean
     public PersistentTokenRepository tokenRepository() {
-        JdbcTokenRepositoryImpl jdbcTokenRepository = new JdbcTokenRepositoryImpl();
-        jdbcTokenRepository.setDataSource(dataSource);
-        return jdbcTokenRepository;
+        if (appProperties.getRememberMeCacheSize() <= 0) {
+            JdbcTokenRepositoryImpl jdbcTokenRepository = new JdbcTokenRepositoryImpl();
+            jdbcTokenRepository.setDataSource(dataSource);
+            return jdbcTokenRepository;
+        }
+        return new CachingTokenRepository(dataSource, appProperties.getRememberMeCacheSize());
     }
 
     @Override
@@ -0,0 +1,414 @@
+package com.studyolle.datagen;
+
+import com.studyolle.enums.EventType;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+//TODO 부하 / 쿼리 테스트용 대량 데이터 생성기
+//     1. 엔티티를 거치지 않고 JdbcTemplate 배치 insert 로 테이블에 바로 넣는다
+//      1). BATCH_SIZE 행마다 한번씩 batchUpdate + 커밋 ( 트랜잭션 하나가 커지지 않도록 )
+//      2). id 는 hibernate_sequence 에서 ID_BLOCK_SIZE 개씩 한번에 받는다 ( 앱이 할당하는 id 와 겹치지 않는다 )
+//     2. 분포 ( DataSetSpec 참고 )
+//      1). 스터디별 멤버 수 / 모임 수, 모임별 참가 신청 수, 관심 주제 / 지역은 Zipf 분포
+//      2). 스터디의 멤버 / 모임의 신청자는 회원 전체에 대한 아핀 순열 ( a * j + b mod n ) 로 뽑는다
+//          -> 중복 확인용 집합 없이 서로 다른 회원이 뽑히고, 메모리는 스터디 / 모임마다 숫자 몇 개
+//     3. member_count / accepted_count 는 넣은 행과 맞춘다 ( 선착순 모임은 신청 순서대로 정원까지 확정 )
+//     4. 캐시 ( 검색 인덱스, 태그 추천 등 ) 를 거치지 않으므로 앱이 떠 있는 중에 만들었다면 재시작 후 사용
+//     5. 운영에서는 빈으로 등록되지 않도록 datagen 프로필에서만 등록 ( DataGeneratorRunner 와 같은 프로필 )
+@Slf4j
+@Component
+@Profile("datagen")
+public class DataGenerator {
+
+    static final int BATCH_SIZE = 1_000;
+    static final int ID_BLOCK_SIZE = 10_000;
+
+    //TODO 생성한 회원은 모두 이 비밀번호로 로그인 ( 닉네임 : prefix-번호 )
+    public static final String PASSWORD = "12345678";
+
+    private static final String[] TOPICS = {"spring", "jpa", "java", "kotlin", "react", "vue", "docker", "kubernetes",
+            "aws", "python", "django", "node", "typescript", "go", "rust", "algorithm", "database", "redis", "kafka",
+            "security", "android", "ios", "flutter", "ml", "devops", "english", "toeic", "reading", "design", "startup"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    public DataGenerator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                         PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    public Result generate(DataSetSpec spec) {
+        spec.validate();
+        long start = System.nanoTime();
+        Generation generation = new Generation(spec);
+        generation.tags();
+        generation.accounts();
+        generation.studies();
+        generation.events();
+
+        Result result = new Result(generation.counts, (System.nanoTime() - start) / 1_000_000);
+        log.info("generated {} rows ({} rows/s) with prefix {} and seed {} : {}", result.getTotalRows(),
+                result.getRowsPerSecond(), spec.getPrefix(), spec.getSeed(), result.getRows());
+        return result;
+    }
+
+    //TODO prefix 로 만든 데이터를 참조하는 순서의 반대로 삭제
+    public void clear(String prefix) {
+        DataSetSpec spec = new DataSetSpec();
+        spec.setPrefix(prefix);
+        spec.setAccounts(2);
+        spec.setStudies(1);
+        spec.setTags(1);
+        spec.validate();
+
+        String pattern = prefix + "-%";
+        String studies = "select study_id from study where path like ?";
+        String accounts = "select account_id from account where nickname like ?";
+        jdbcTemplate.update("delete from enrollment where event_id in (select event_id from event where study_id in (" + studies + "))", pattern);
+        jdbcTemplate.update("delete from event where study_id in (" + studies + ")", pattern);
+        jdbcTemplate.update("delete from study_tag where study_id in (" + studies + ")", pattern);
+        jdbcTemplate.update("delete from study_zone where study_id in (" + studies + ")", pattern);
+        jdbcTemplate.update("delete from study_account where study_id in (" + studies + ")", pattern);
+        jdbcTemplate.update("delete from study where path like ?", pattern);
+        jdbcTemplate.update("delete from account_tag where account_id in (" + accounts + ")", pattern);
+        jdbcTemplate.update("delete from account_zone where account_id in (" + accounts + ")", pattern);
+        jdbcTemplate.update("delete from account where nickname like ?", pattern);
+        jdbcTemplate.update("delete from tag where title like ? " +
+                "and tag_id not in (select tag_id from study_tag) and tag_id not in (select tag_id from account_tag)", pattern);
+    }
+
+    private class Generation {
+
+        private final DataSetSpec spec;
+        private final Map<String, Long> counts = new LinkedHashMap<>();
+        private final IdAllocator idAllocator = new IdAllocator();
+
+        private final Zipf studyZipf;
+
+        private long[] tagIds;
+        private Zipf tagZipf;
+        private long[] zoneIds;
+        private Zipf zoneZipf;
+        private long[] accountIds;
+        private long[] studyIds;
+        private long[] managerIds;
+
+        Generation(DataSetSpec spec) {
+            this.spec = spec;
+            this.studyZipf = new Zipf(spec.getStudies(), spec.getStudySkew());
+        }
+
+        //TODO 같은 이름의 태그가 이미 있으면 그 태그를 사용
+        void tags() {
+            Map<String, Long> existing = new HashMap<>();
+            jdbcTemplate.query("select title, tag_id from tag where title like ?",
+                    rs -> { existing.put(rs.getString(1), rs.getLong(2)); }, spec.getPrefix() + "-%");
+
+            Inserter tag = new Inserter(null, "tag", "tag_id", "title");
+            tagIds = new long[spec.getTags()];
+            for (int i = 0; i < tagIds.length; i++) {
+                String title = spec.getPrefix() + "-" + TOPICS[i % TOPICS.length] + (i < TOPICS.length ? "" : String.valueOf(i / TOPICS.length));
+                Long id = existing.get(title);
+                if (id == null) {
+                    id = idAllocator.next();
+                    tag.add(id, title);
+                }
+                tagIds[i] = id;
+            }
+            tag.finish();
+            tagZipf = new Zipf(tagIds.length, spec.getTagSkew());
+
+            List<Long> zones = jdbcTemplate.queryForList("select zone_id from zone order by zone_id", Long.class);
+            zoneIds = zones.stream().mapToLong(Long::longValue).toArray();
+            zoneZipf = zoneIds.length == 0 ? null : new Zipf(zoneIds.length, spec.getZoneSkew());
+        }
+
+        void accounts() {
+            SplittableRandom random = random(1);
+            String password = passwordEncoder.encode(PASSWORD);
+            Inserter account = new Inserter(null, "account", "account_id", "email", "nickname", "password",
+                    "email_verified", "email_check_token", "email_check_token_generated_at", "joined_at",
+                    "bio", "url", "occupation", "location", "profile_image",
+                    "study_created_by_email", "study_created_by_web", "study_enrollment_result_by_email",
+                    "study_enrollment_result_by_web", "study_updated_by_email", "study_updated_by_web");
+            Inserter accountTag = new Inserter(account, "account_tag", "account_tag_id", "account_id", "tag_id");
+            Inserter accountZone = new Inserter(account, "account_zone", "account_zone_id", "account_id", "zone_id");
+
+            accountIds = new long[spec.getAccounts()];
+            for (int i = 0; i < accountIds.length; i++) {
+                long id = idAllocator.next();
+                accountIds[i] = id;
+                String nickname = spec.getPrefix() + "-" + i;
+                Timestamp joinedAt = timestamp(spec.getNow().minusMinutes(random.nextInt(2 * 365 * 24 * 60)));
+                boolean byEmail = random.nextInt(10) == 0;
+                account.add(id, nickname + "@studyolle.test", nickname, password,
+                        true, new UUID(random.nextLong(), random.nextLong()).toString(), joinedAt, joinedAt,
+                        random.nextInt(3) == 0 ? "안녕하세요 " + nickname + " 입니다." : null,
+                        null, random.nextInt(2) == 0 ? "developer" : null, null, null,
+                        byEmail, true, byEmail, true, byEmail, true);
+
+                for (long tagId : sample(random, tagZipf, tagIds, random.nextInt(4))) {
+                    accountTag.add(idAllocator.next(), id, tagId);
+                }
+                if (zoneZipf != null) {
+                    for (long zoneId : sample(random, zoneZipf, zoneIds, random.nextInt(3))) {
+                        accountZone.add(idAllocator.next(), id, zoneId);
+                    }
+                }
+            }
+            account.finish();
+            accountTag.finish();
+            accountZone.finish();
+        }
+
+        //TODO 스터디마다 관리자 1명 + Zipf 로 나눈 수 만큼의 멤버
+        //     1. 순열의 0 번째가 관리자, 1 ~ k 번째가 멤버 ( 관리자는 멤버 수에 포함하지 않는다 )
+        void studies() {
+            SplittableRandom random = random(2);
+            int[] memberCounts = byRank(random, studyZipf.distribute(spec.getMemberships(), accountIds.length - 1));
+
+            Inserter study = new Inserter(null, "study", "study_id", "path", "title", "short_description", "full_description",
+                    "published_date_time", "closed_date_time", "recruiting_update_datetime",
+                    "recruiting", "published", "closed", "use_banner", "member_count");
+            Inserter studyTag = new Inserter(study, "study_tag", "study_tag_id", "study_id", "tag_id");
+            Inserter studyZone = new Inserter(study, "study_zone", "study_zone_id", "study_id", "zone_id");
+            Inserter studyAccount = new Inserter(null, "study_account", "study_account_id", "study_id", "account_id", "manager");
+
+            studyIds = new long[spec.getStudies()];
+            managerIds = new long[spec.getStudies()];
+            Permutation[] permutations = new Permutation[spec.getStudies()];
+            for (int i = 0; i < studyIds.length; i++) {
+                long id = idAllocator.next();
+                studyIds[i] = id;
+                permutations[i] = new Permutation(random, accountIds.length);
+                managerIds[i] = accountIds[permutations[i].get(0)];
+
+                boolean published = random.nextInt(10) != 0;
+                boolean closed = published && random.nextInt(20) == 0;
+                boolean recruiting = published && !closed && random.nextInt(2) == 0;
+                Timestamp publishedAt = published ? timestamp(spec.getNow().minusDays(random.nextInt(365))) : null;
+                String path = spec.getPrefix() + "-" + i;
+                study.add(id, path, "스터디 " + path, "스터디 " + path + " 입니다.", "<p>스터디 " + path + " 소개</p>",
+                        publishedAt, closed ? timestamp(spec.getNow()) : null, recruiting ? publishedAt : null,
+                        recruiting, published, closed, false, memberCounts[i]);
+
+                for (long tagId : sample(random, tagZipf, tagIds, 1 + random.nextInt(5))) {
+                    studyTag.add(idAllocator.next(), id, tagId);
+                }
+                if (zoneZipf != null) {
+                    for (long zoneId : sample(random, zoneZipf, zoneIds, 1 + random.nextInt(2))) {
+                        studyZone.add(idAllocator.next(), id, zoneId);
+                    }
+                }
+            }
+            study.finish();
+            studyTag.finish();
+            studyZone.finish();
+
+            for (int i = 0; i < studyIds.length; i++) {
+                studyAccount.add(idAllocator.next(), studyIds[i], managerIds[i], true);
+                for (int j = 1; j <= memberCounts[i]; j++) {
+                    studyAccount.add(idAllocator.next(), studyIds[i], accountIds[permutations[i].get(j)], false);
+                }
+            }
+            studyAccount.finish();
+        }
+
+        //TODO 스터디별 모임 수는 스터디 멤버 수와 같은 분포 ( 큰 스터디에 모임이 많다 )
+        //     1. 모임 날짜는 now 기준 -60 ~ +60 일, 지난 모임의 확정 인원은 70% 출석
+        void events() {
+            SplittableRandom random = random(3);
+            int[] eventsPerStudy = byRank(random, studyZipf.distribute(spec.getEvents(), Integer.MAX_VALUE));
+            int[] enrollmentCounts = spec.getEvents() == 0 ? new int[0]
+                    : byRank(random, new Zipf(spec.getEvents(), spec.getEventSkew()).distribute(spec.getEnrollments(), accountIds.length));
+
+            Inserter event = new Inserter(null, "event", "event_id", "study_id", "account_id", "title", "description",
+                    "created_date_time", "end_enrollment_date_time", "start_date_time", "end_date_time",
+                    "limit_of_enrollments", "accepted_count", "event_type");
+            Inserter enrollment = new Inserter(event, "enrollment", "enrollment_id", "event_id", "account_id",
+                    "enrolled_at", "accepted", "attended");
+
+            int index = 0;
+            for (int i = 0; i < studyIds.length; i++) {
+                for (int e = 0; e < eventsPerStudy[i]; e++, index++) {
+                    long id = idAllocator.next();
+                    LocalDateTime startAt = spec.getNow().plusDays(random.nextInt(121) - 60).plusHours(9 + random.nextInt(12));
+                    LocalDateTime createdAt = startAt.minusDays(14);
+                    boolean past = startAt.isBefore(spec.getNow());
+                    EventType eventType = random.nextBoolean() ? EventType.FCFS : EventType.CONFIRMATIVE;
+                    int limit = 2 + random.nextInt(49);
+                    int count = enrollmentCounts[index];
+                    int accepted = Math.min(count, eventType == EventType.FCFS ? limit : limit / 2);
+
+                    event.add(id, studyIds[i], managerIds[i], "모임 " + index, "<p>모임 " + index + " 소개</p>",
+                            timestamp(createdAt), timestamp(startAt.minusDays(1)), timestamp(startAt), timestamp(startAt.plusHours(2)),
+                            limit, accepted, eventType.name());
+
+                    Permutation permutation = new Permutation(random, accountIds.length);
+                    for (int j = 0; j < count; j++) {
+                        boolean isAccepted = j < accepted;
+                        enrollment.add(idAllocator.next(), id, accountIds[permutation.get(j)],
+                                timestamp(createdAt.plusSeconds(j)), isAccepted, isAccepted && past && random.nextInt(10) < 7);
+                    }
+                }
+            }
+            event.finish();
+            enrollment.finish();
+        }
+
+        //TODO 순위별 개수를 스터디 / 모임 순서와 섞는다 ( id 가 작을수록 크지 않도록 )
+        private int[] byRank(SplittableRandom random, int[] countsByRank) {
+            int[] counts = new int[countsByRank.length];
+            Permutation permutation = new Permutation(random, counts.length);
+            for (int rank = 0; rank < counts.length; rank++) {
+                counts[permutation.get(rank)] = countsByRank[rank];
+            }
+            return counts;
+        }
+
+        //TODO Zipf 로 서로 다른 값을 count 개 ( 후보가 적으면 그보다 적게 ) 뽑는다
+        private long[] sample(SplittableRandom random, Zipf zipf, long[] values, int count) {
+            int size = Math.min(count, values.length);
+            long[] picked = new long[size];
+            int picks = 0;
+            for (int attempt = 0; picks < size && attempt < size * 10; attempt++) {
+                long value = values[zipf.sample(random)];
+                boolean duplicated = false;
+                for (int i = 0; i < picks; i++) {
+                    duplicated |= picked[i] == value;
+                }
+                if (!duplicated) {
+                    picked[picks++] = value;
+                }
+            }
+            return picks == size ? picked : Arrays.copyOf(picked, picks);
+        }
+
+        //TODO 단계마다 따로 난수를 만들어서 한 단계의 크기를 바꿔도 다른 단계의 데이터는 그대로
+        private SplittableRandom random(int phase) {
+            return new SplittableRandom(spec.getSeed() * 0x9E3779B97F4A7C15L + phase);
+        }
+
+        private Timestamp timestamp(LocalDateTime dateTime) {
+            return Timestamp.valueOf(dateTime);
+        }
+
+        //TODO 테이블 하나의 배치 insert ( BATCH_SIZE 행마다 한 트랜잭션 )
+        //     1. 참조하는 테이블 ( parent ) 의 남은 행을 먼저 넣는다 ( 외래 키 )
+        private class Inserter {
+            private final Inserter parent;
+            private final String table;
+            private final String sql;
+            private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+            private final long start = System.nanoTime();
+            private long count;
+
+            Inserter(Inserter parent, String table, String... columns) {
+                this.parent = parent;
+                this.table = table;
+                this.sql = "insert into " + table + " (" + String.join(", ", columns) + ") values (?" +
+                        String.join("", Collections.nCopies(columns.length - 1, ", ?")) + ")";
+            }
+
+            void add(Object... values) {
+                rows.add(values);
+                if (rows.size() == BATCH_SIZE) {
+                    flush();
+                }
+            }
+
+            void finish() {
+                flush();
+                counts.put(table, count);
+                long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+                log.info("inserted {} rows into {} in {} ms ({} rows/s)", count, table, millis, count * 1000 / millis);
+            }
+
+            private void flush() {
+                if (rows.isEmpty()) {
+                    return;
+                }
+                if (parent != null) {
+                    parent.flush();
+                }
+                transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(sql, rows));
+                count += rows.size();
+                rows.clear();
+            }
+        }
+    }
+
+    //TODO hibernate_sequence 에서 ID_BLOCK_SIZE 개씩 받아서 할당
+    //     1. 값마다 next value 를 호출하므로 앱이 동시에 id 를 받아도 겹치지 않는다 ( 연속되지 않을 수는 있다 )
+    private class IdAllocator {
+        private List<Long> block = Collections.emptyList();
+        private int next;
+
+        long next() {
+            if (next == block.size()) {
+                block = jdbcTemplate.queryForList(
+                        "select next value for hibernate_sequence from system_range(1, ?)", Long.class, ID_BLOCK_SIZE);
+                next = 0;
+            }
+            return block.get(next++);
+        }
+    }
+
+    //TODO 0 ~ size - 1 의 아핀 순열 ( a * j + b ) mod size, a 와 size 는 서로소
+    private static class Permutation {
+        private final long a;
+        private final long b;
+        private final long size;
+
+        Permutation(SplittableRandom random, int size) {
+            long a = size == 1 ? 1 : 1 + random.nextInt(size - 1);
+            while (gcd(a, size) != 1) {
+                a++;
+            }
+            this.a = a;
+            this.b = random.nextInt(size);
+            this.size = size;
+        }
+
+        int get(long j) {
+            return (int) ((a * j + b) % size);
+        }
+
+        private static long gcd(long x, long y) {
+            return y == 0 ? x : gcd(y, x % y);
+        }
+    }
+
+    @Getter
+    public static class Result {
+        private final Map<String, Long> rows;
+        private final long elapsedMillis;
+
+        Result(Map<String, Long> rows, long elapsedMillis) {
+            this.rows = Collections.unmodifiableMap(new LinkedHashMap<>(rows));
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public long getTotalRows() {
+            return rows.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        public long getRowsPerSecond() {
+            return getTotalRows() * 1000 / Math.max(1, elapsedMillis);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.studyolle.datagen;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+//TODO datagen 프로필로 시작하면 대량 데이터를 만든다
+//     1. 데이터가 남아 있어야 하므로 파일 / 서버 H2 를 쓰는 dev 프로필과 함께 사용
+//      ex). java -jar studyolle-0.0.1-SNAPSHOT-exec.jar --spring.profiles.active=dev,datagen
+//               --datagen.accounts=1000000 --datagen.seed=7
+//     2. 지정하지 않은 값은 DataSetSpec.large() 의 값 ( datagen.prefix, seed, accounts, studies, memberships,
+//        events, enrollments, tags, study-skew, event-skew, tag-skew, zone-skew )
+//     3. datagen.clear=true 면 같은 prefix 로 만든 데이터를 먼저 지운다
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+public class DataGeneratorRunner implements ApplicationRunner {
+
+    private final DataGenerator dataGenerator;
+    private final Environment environment;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        DataSetSpec spec = DataSetSpec.large();
+        spec.setPrefix(environment.getProperty("datagen.prefix", spec.getPrefix()));
+        spec.setSeed(environment.getProperty("datagen.seed", Long.class, spec.getSeed()));
+        spec.setAccounts(environment.getProperty("datagen.accounts", Integer.class, spec.getAccounts()));
+        spec.setStudies(environment.getProperty("datagen.studies", Integer.class, spec.getStudies()));
+        spec.setMemberships(environment.getProperty("datagen.memberships", Long.class, spec.getMemberships()));
+        spec.setEvents(environment.getProperty("datagen.events", Integer.class, spec.getEvents()));
+        spec.setEnrollments(environment.getProperty("datagen.enrollments", Long.class, spec.getEnrollments()));
+        spec.setTags(environment.getProperty("datagen.tags", Integer.class, spec.getTags()));
+        spec.setStudySkew(environment.getProperty("datagen.study-skew", Double.class, spec.getStudySkew()));
+        spec.setEventSkew(environment.getProperty("datagen.event-skew", Double.class, spec.getEventSkew()));
+        spec.setTagSkew(environment.getProperty("datagen.tag-skew", Double.class, spec.getTagSkew()));
+        spec.setZoneSkew(environment.getProperty("datagen.zone-skew", Double.class, spec.getZoneSkew()));
+
+        if (environment.getProperty("datagen.clear", Boolean.class, false)) {
+            dataGenerator.clear(spec.getPrefix());
+        }
+        dataGenerator.generate(spec);
+    }
+}
@@ -0,0 +1,84 @@
+package com.studyolle.datagen;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
+
+//TODO DataGenerator 로 만드는 데이터의 크기와 분포
+//     1. 같은 seed / 크기 / now 면 같은 데이터 ( id 는 시퀀스에서 받으므로 다를 수 있다 )
+//     2. prefix 로 만든 데이터를 구분 ( 닉네임 / 이메일 / 스터디 경로 / 태그 이름 ) -> DataGenerator.clear(prefix) 로 삭제
+//     3. skew 는 Zipf 지수 ( 0 이면 균등, 클수록 상위 순위에 집중 )
+//      1). studySkew : 스터디별 멤버 수 / 모임 수
+//      2). eventSkew : 모임별 참가 신청 수
+//      3). tagSkew / zoneSkew : 회원 / 스터디의 관심 주제 / 지역
+@Getter @Setter
+public class DataSetSpec {
+
+    private static final Pattern PREFIX = Pattern.compile("^[a-z0-9]{1,10}$");
+
+    private String prefix = "gen";
+
+    private long seed = 42;
+
+    private int accounts;
+
+    private int studies;
+
+    //TODO 스터디 멤버 ( 관리자 제외 ) 수의 합
+    private long memberships;
+
+    private int events;
+
+    private long enrollments;
+
+    private int tags;
+
+    private double studySkew = 1.0;
+
+    private double eventSkew = 1.0;
+
+    private double tagSkew = 1.0;
+
+    private double zoneSkew = 1.0;
+
+    //TODO 가입 / 모임 날짜의 기준 시각 ( 모임의 절반 정도는 지난 모임, 나머지는 예정된 모임 )
+    private LocalDateTime now = LocalDate.now().atStartOfDay();
+
+    public static DataSetSpec of(int accounts, int studies, long memberships, int events, long enrollments, int tags) {
+        DataSetSpec spec = new DataSetSpec();
+        spec.setAccounts(accounts);
+        spec.setStudies(studies);
+        spec.setMemberships(memberships);
+        spec.setEvents(events);
+        spec.setEnrollments(enrollments);
+        spec.setTags(tags);
+        return spec;
+    }
+
+    //TODO 회원 100만, 스터디 10만, 참가 신청 1000만
+    public static DataSetSpec large() {
+        return of(1_000_000, 100_000, 5_000_000, 500_000, 10_000_000, 5_000);
+    }
+
+    public static DataSetSpec small() {
+        return of(2_000, 100, 5_000, 300, 10_000, 50);
+    }
+
+    public void validate() {
+        if (prefix == null || !PREFIX.matcher(prefix).matches()) {
+            throw new IllegalArgumentException("prefix 는 영문 소문자 / 숫자 1 ~ 10 자 이어야 합니다. : " + prefix);
+        }
+        if (accounts < 2 || studies < 1 || tags < 1) {
+            throw new IllegalArgumentException("회원은 2명 이상, 스터디 / 태그는 1개 이상이어야 합니다.");
+        }
+        if (memberships < 0 || events < 0 || enrollments < 0) {
+            throw new IllegalArgumentException("멤버 / 모임 / 참가 신청 수는 0 이상이어야 합니다.");
+        }
+        if (studySkew < 0 || eventSkew < 0 || tagSkew < 0 || zoneSkew < 0) {
+            throw new IllegalArgumentException("skew 는 0 이상이어야 합니다.");
+        }
+    }
+}
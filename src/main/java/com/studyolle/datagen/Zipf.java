@@ -0,0 +1,66 @@
+package com.studyolle.datagen;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+//TODO Zipf 분포 ( 순위 k 의 확률 ∝ 1 / k^exponent )
+//     1. 누적 확률을 한번만 계산해 두고 표본 추출은 이진 탐색 ( O(log n) )
+//     2. 인기 태그 / 지역, 큰 스터디, 사람이 몰리는 모임처럼 소수에 집중되는 데이터를 만들 때 사용
+public class Zipf {
+
+    private final double[] cumulative;
+
+    public Zipf(int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다.");
+        }
+        this.cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+
+    public double probability(int rank) {
+        return rank == 0 ? cumulative[0] : cumulative[rank] - cumulative[rank - 1];
+    }
+
+    //TODO 0 부터 시작하는 순위 하나를 뽑는다
+    public int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    //TODO total 개를 순위별 확률에 맞게 나눈다 ( 순위마다 최대 cap 개 )
+    //     1. 내림으로 나눈 뒤 남은 개수는 앞 순위부터 하나씩
+    //     2. cap 때문에 못 넣은 개수는 자리가 남은 앞 순위부터 채운다
+    //     3. 모두 채울 수 없으면 ( total > size * cap ) 넣을 수 있는 만큼만
+    public int[] distribute(long total, int cap) {
+        int[] counts = new int[cumulative.length];
+        long remaining = total;
+        for (int rank = 0; rank < counts.length; rank++) {
+            counts[rank] = (int) Math.min(cap, (long) Math.floor(total * probability(rank)));
+            remaining -= counts[rank];
+        }
+        for (int rank = 0; rank < counts.length && remaining > 0; rank++) {
+            if (counts[rank] < cap) {
+                counts[rank]++;
+                remaining--;
+            }
+        }
+        for (int rank = 0; rank < counts.length && remaining > 0; rank++) {
+            int added = (int) Math.min(remaining, cap - counts[rank]);
+            counts[rank] += added;
+            remaining -= added;
+        }
+        return counts;
+    }
+}
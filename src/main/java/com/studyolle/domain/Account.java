@@ -55,7 +55,9 @@ public class Account {
     private String location;
 
     //TODO 프로필 이미지 - 유저를 로딩할때 거의 같이 사용할 것이라 EAGER 설정 -> 나중에 LAZY 로 변경해서 해보기
-    @Lob //@Basic(fetch = FetchType.LAZY)
+    //     1. data URL 을 그대로 저장하던 @Lob 컬럼에서 ImageStore 에 저장된 이미지의 SHA-256 해시만 저장하도록 변경
+    //     2. 실제 이미지는 /img/{hash}/{size} ( 24, 64, 256 ) 로 제공
+    @Column(length = 64)
     private String profileImage;
 
     //TODO 스터디 생성 결과를 이메일로 받을지 여부
@@ -96,8 +98,8 @@ public class Account {
     //     이메일 토큰을 생성할때 현재시간을 삽입
     private LocalDateTime emailCheckTokenGeneratedAt;
 
-    public void removeTag(String tagTitle) {
-        accountTags.removeIf(a -> a.getTag().getTitle().equals(tagTitle));
+    public boolean removeTag(String tagTitle) {
+        return accountTags.removeIf(a -> a.getTag().getTitle().equals(tagTitle));
     }
 
     public void addAccountTag(AccountTag accountTag) {
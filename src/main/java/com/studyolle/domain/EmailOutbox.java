@@ -0,0 +1,119 @@
+package com.studyolle.domain;
+
+import com.studyolle.email.EmailMessage;
+import com.studyolle.enums.EmailOutboxStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+//TODO 이메일 아웃박스
+//     1. 회원가입 / 로그인 링크 메일을 트랜잭션 안에서 바로 전송하지 않고 같은 트랜잭션으로 이 테이블에 저장
+//      1). 트랜잭션이 롤백되면 메일도 저장되지 않고, 커밋되면 반드시 한번은 전송 시도
+//      2). SMTP 서버가 느려도 가입 요청이 DB 커넥션과 톰캣 스레드를 잡고 있지 않음
+//     2. EmailDispatcher 가 PENDING 상태의 메일을 배치로 가져가 전송
+//     3. 템플릿으로 만드는 메일은 본문 대신 템플릿 이름과 변수를 저장
+//      1). EmailDispatcher 가 전송할 때 같은 템플릿의 메일을 모아서 한번에 렌더링 ( MailTemplateRenderer.renderAll )
+@Entity
+@Getter @Setter(AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "email_outbox", indexes = @Index(name = "idx_email_outbox_status", columnList = "status, next_attempt_at"))
+public class EmailOutbox {
+
+    @Id @GeneratedValue
+    @Column(name = "email_outbox_id")
+    private Long id;
+
+    private String recipient;
+
+    private String subject;
+
+    @Lob
+    private String message;
+
+    private String template;
+
+    @ElementCollection
+    @CollectionTable(name = "email_outbox_variable", joinColumns = @JoinColumn(name = "email_outbox_id"))
+    @MapKeyColumn(name = "variable_name")
+    @Column(name = "variable_value", length = 1000)
+    private Map<String, String> templateVariables = new HashMap<>();
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 10, nullable = false)
+    private EmailOutboxStatus status;
+
+    private int attempts;
+
+    //TODO PENDING : 다음 전송 시도 가능 시각, SENDING : 임대 만료 시각
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    //TODO 디스패처가 가져간 배치를 식별하기 위한 값
+    @Column(length = 36)
+    private String claimToken;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    public static EmailOutbox createBy(EmailMessage emailMessage) {
+        EmailOutbox emailOutbox = new EmailOutbox();
+        emailOutbox.setRecipient(emailMessage.getTo());
+        emailOutbox.setSubject(emailMessage.getSubject());
+        emailOutbox.setMessage(emailMessage.getMessage());
+        emailOutbox.setStatus(EmailOutboxStatus.PENDING);
+        emailOutbox.setCreatedAt(LocalDateTime.now());
+        emailOutbox.setNextAttemptAt(emailOutbox.getCreatedAt());
+        return emailOutbox;
+    }
+
+    //TODO 본문은 비워두고 전송할 때 template 을 templateVariables 로 렌더링
+    public static EmailOutbox createBy(EmailMessage emailMessage, String template, Map<String, String> templateVariables) {
+        EmailOutbox emailOutbox = createBy(emailMessage);
+        emailOutbox.setTemplate(template);
+        emailOutbox.getTemplateVariables().putAll(templateVariables);
+        return emailOutbox;
+    }
+
+    public EmailMessage toEmailMessage() {
+        EmailMessage emailMessage = new EmailMessage();
+        emailMessage.setTo(recipient);
+        emailMessage.setSubject(subject);
+        emailMessage.setMessage(message);
+        return emailMessage;
+    }
+
+    public void sent() {
+        this.status = EmailOutboxStatus.SENT;
+        this.sentAt = LocalDateTime.now();
+        this.claimToken = null;
+        this.lastError = null;
+    }
+
+    //TODO 전송 실패
+    //     1. 최대 시도 횟수를 넘으면 DEAD ( dead-letter ) 로 더이상 시도하지 않음
+    //     2. 아니라면 지수 백오프 ( backoff * 2^(attempts-1), 최대 maxBackoffSeconds ) 뒤에 다시 시도
+    public void failed(String error, int maxAttempts, long backoffSeconds, long maxBackoffSeconds) {
+        this.attempts++;
+        this.claimToken = null;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+
+        if (attempts >= maxAttempts) {
+            this.status = EmailOutboxStatus.DEAD;
+            return;
+        }
+
+        long delay = Math.min(maxBackoffSeconds, backoffSeconds << Math.min(attempts - 1, 20));
+        this.status = EmailOutboxStatus.PENDING;
+        this.nextAttemptAt = LocalDateTime.now().plusSeconds(delay);
+    }
+}
@@ -1,6 +1,5 @@
 package com.studyolle.domain;
 
-import com.studyolle.enums.EventType;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,6 +10,10 @@ import java.time.LocalDateTime;
 @Entity
 @Getter @Setter
 @EqualsAndHashCode(of = "id")
+//TODO 한 회원은 한 모임에 한번만 신청 ( 동시에 두번 신청해도 하나만 저장 )
+//     대기자 조회 ( event_id, accepted, enrolled_at ) 인덱스
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_enrollment_event_account", columnNames = {"event_id", "account_id"}),
+        indexes = @Index(name = "idx_enrollment_waitlist", columnList = "event_id, accepted, enrolled_at"))
 public class Enrollment {
 
     @Id @GeneratedValue
@@ -30,6 +33,7 @@ public class Enrollment {
     //         1 번째 참가 신청한 사람이 취소하게되면 자동으로 6번째 대기자가 참가 확정이 되어야한다.
     //      2. 이때 참가 신청한 시간을 가져와서 정렬하고 6번째 대기자를 찾아 참가 확정처리하기 때문에
     //         매우 중요한 값이 된다.
+    @Column(name = "enrolled_at")
     private LocalDateTime enrolledAt;
 
     //TODO 62. 모임 도메인
@@ -40,16 +44,13 @@ public class Enrollment {
     //      1. 실제로 모임에 참가를 했는지 안했는지 판단
     private boolean attended;
 
-    public static Enrollment createBy(Event event, Account account) {
+    //TODO 참가 확정 여부는 EventService 에서 자리를 확보 ( claimSeat ) 했는지로 결정
+    public static Enrollment createBy(Event event, Account account, boolean accepted) {
         Enrollment enrollment = new Enrollment();
         enrollment.setEvent(event);
         enrollment.setAccount(account);
         enrollment.setEnrolledAt(LocalDateTime.now());
-
-        if(event.isFCFSEnrollment()) {
-            enrollment.setAccepted(true);
-        }
-
+        enrollment.setAccepted(accepted);
         return enrollment;
     }
 }
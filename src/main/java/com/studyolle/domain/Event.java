@@ -6,8 +6,8 @@ import lombok.*;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.NoSuchElementException;
 
 //TODO 62. 모임 도메인
 
@@ -15,6 +15,7 @@ import java.util.NoSuchElementException;
 @Getter @Setter(AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode(of = "id")
+@Table(indexes = @Index(name = "idx_event_study_end_date_time", columnList = "study_id, end_date_time, event_id"))
 public class Event {
 
     @Id @GeneratedValue
@@ -48,7 +49,7 @@ public class Event {
     @Column(nullable = false)
     private LocalDateTime startDateTime;
 
-    @Column(nullable = false)
+    @Column(name = "end_date_time", nullable = false)
     private LocalDateTime endDateTime;
 
     //TODO 62. 모임 도메인
@@ -57,7 +58,15 @@ public class Event {
     private Integer limitOfEnrollments;
 
     @OneToMany(mappedBy = "event", cascade = CascadeType.PERSIST, orphanRemoval = true)
-    private List<Enrollment> enrollments;
+    private List<Enrollment> enrollments = new ArrayList<>();
+
+    //TODO 참가 확정된 인원 수
+    //     1. enrollments 를 읽지 않고 남은 자리를 계산하기 위해 따로 유지
+    //     2. EventRepository 의 조건부 update 쿼리 ( claimSeat / releaseSeat ) 로만 증감
+    //      1). accepted_count < limit_of_enrollments 일 때만 증가 -> 동시에 신청해도 정원을 넘지 않는다
+    //      2). updatable = false -> 모임 수정으로 update 될 때 메모리의 값으로 덮어쓰지 않는다
+    @Column(name = "accepted_count", columnDefinition = "integer default 0 not null", updatable = false)
+    private int acceptedCount;
 
     @Enumerated(EnumType.STRING)
     private EventType eventType;
@@ -92,31 +101,23 @@ public class Event {
         this.endEnrollmentDateTime = endEnrollmentDateTime;
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
-
-        if(isFCFSEnrollment()) {
-            nextAccountEnrollEvent();
-        }
     }
 
     public int numberOfRemainSpots() {
-        return limitOfEnrollments - (int)enrollments.stream().
-                filter(er -> er.isAccepted()).count();
+        return Math.max(0, limitOfEnrollments - acceptedCount);
     }
 
     public boolean isEnrollableFor(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        return getEnrollmentAccountCount(account.getId()) == 0;
+        return getEnrollmentAccountCount(userAccount.getId()) == 0;
     }
 
     public boolean isDisenrollableFor(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        return getEnrollmentAccountCount(account.getId()) > 0;
+        return getEnrollmentAccountCount(userAccount.getId()) > 0;
     }
 
     public boolean isAttended(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
         return enrollments.stream()
-                .filter(e -> e.getAccount().equals(account) && e.isAttended())
+                .filter(e -> e.getAccount().getId().equals(userAccount.getId()) && e.isAttended())
                 .count() > 0;
     }
 
@@ -137,47 +138,12 @@ public class Event {
     }
 
     private Long getEnrollmentAccountCount(Long accountId) {
-        return enrollments.stream().filter(e -> e.getAccount().getId() == accountId)
+        return enrollments.stream().filter(e -> e.getAccount().getId().equals(accountId))
                 .count();
     }
 
-    public void disEnrollEvent(Account account) {
-        Enrollment enrollment = enrollments.stream()
-                .filter(r -> r.getAccount().equals(account))
-                .findAny()
-                .orElseThrow(() -> new NoSuchElementException("회원정보가 잘못되었습니다."));
-
-        enrollments.remove(enrollment);
-
-        if(isFCFSEnrollment()) {
-            nextAccountEnrollEvent();
-        }
-    }
-
-    private void nextAccountEnrollEvent() {
-        for(Enrollment enrollment : enrollments) {
-            if (!isEnroll()) {
-                break;
-            }
-
-            enrollment.setAccepted(true);
-        }
-
-//        Enrollment enrollment = enrollments.stream().filter(e -> !e.isAccepted())
-//                .findFirst().orElse(null);
-//
-//        if(enrollment == null) {
-//            return;
-//        }
-//
-//        enrollment.setAccepted(true);
-    }
-
+    //TODO 선착순 모임 -> 남은 자리가 있으면 신청과 동시에 참가 확정
     public boolean isFCFSEnrollment() {
-        return eventType == EventType.FCFS && isEnroll();
-    }
-
-    private boolean isEnroll() {
-        return numberOfRemainSpots() != 0;
+        return eventType == EventType.FCFS;
     }
 }
@@ -0,0 +1,33 @@
+package com.studyolle.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+//TODO 기준 데이터 ( zones_kr.csv 등 ) 를 마지막으로 적재한 파일의 체크섬
+//     1. ReferenceDataLoader 가 시작할 때 파일의 체크섬과 비교해서 같으면 적재를 건너뛴다
+@Entity
+@Getter @Setter
+@Table(name = "reference_data_checksum")
+public class ReferenceDataChecksum {
+
+    //TODO 클래스패스 리소스 이름
+    @Id
+    @Column(length = 128, nullable = false)
+    private String name;
+
+    //TODO SHA-256 ( hex )
+    @Column(length = 64, nullable = false)
+    private String checksum;
+
+    @Column(name = "row_count", nullable = false)
+    private long rowCount;
+
+    @Column(name = "loaded_at", nullable = false)
+    private LocalDateTime loadedAt;
+}
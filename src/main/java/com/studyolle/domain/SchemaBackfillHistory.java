@@ -0,0 +1,30 @@
+package com.studyolle.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+//TODO 적용한 데이터 백필 기록
+//     1. ddl-auto=update 로 컬럼 형식 / 의미가 바뀐 기존 데이터를 SchemaBackfill 이 한번만 보정하도록 기록
+@Entity
+@Getter @Setter
+@Table(name = "schema_backfill")
+public class SchemaBackfillHistory {
+
+    //TODO 백필 이름
+    @Id
+    @Column(length = 128, nullable = false)
+    private String name;
+
+    //TODO 보정한 행 수
+    @Column(name = "row_count", nullable = false)
+    private long rowCount;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
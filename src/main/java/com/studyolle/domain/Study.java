@@ -1,6 +1,7 @@
 package com.studyolle.domain;
 
 import com.studyolle.account.UserAccount;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.BatchSize;
@@ -11,12 +12,15 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 //TODO 2021.01.26 50. 스터디 도메인 개발
 
 @Entity
 @Getter @Setter
+@Table(indexes = @Index(name = "idx_study_member_count", columnList = "member_count"))
 //@NamedEntityGraph(name = "studyWithAll", attributeNodes = {
 //        @NamedAttributeNode("studyTags"),
 //        @NamedAttributeNode("studyZones"),
@@ -85,6 +89,19 @@ public class Study {
     //TODO 스터디 베너 사용 여부
     private boolean useBanner;
 
+    //TODO 스터디 멤버 수 ( 관리자 제외 )
+    //     1. studyAccounts 를 읽지 않고 정렬 / 목록 / 검색에 사용하기 위해 따로 유지
+    //     2. 가입 / 탈퇴 시 StudyRepository 의 update 쿼리 한번으로만 증감
+    //      1). updatable = false -> 다른 변경으로 스터디가 update 될 때 메모리의 값으로 덮어쓰지 않는다
+    @Setter(AccessLevel.NONE)
+    @Column(name = "member_count", columnDefinition = "integer default 0 not null", updatable = false)
+    private int memberCount;
+
+    //TODO 구성원 인덱스 ( getMembership ) - 저장하지 않는 값
+    @Transient
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private StudyMembership membership;
+
     public void addStudyManager(StudyManager studyManager) {
         this.studyManagers.add(studyManager);
         studyManager.setStudy(this);
@@ -98,6 +115,7 @@ public class Study {
     public void addStudyAccount(StudyAccount studyAccount) {
         this.studyAccounts.add(studyAccount);
         studyAccount.setStudy(this);
+        this.membership = null;
     }
 
     //TODO 2021.01.27 52. 스터디 조회
@@ -109,45 +127,53 @@ public class Study {
     //                  3). 해당 회원이 해당 스터디에 가입되지 않은 상태이고
     //                  4). 해당 회원이 해당 스터디의 관리자가 아닐때
     //                 3. 그 결과로 스터디 가입버튼 보여주기
-    //                  1). th:if="${study.isJoinable(#authentication.principal)}"
+    //                  1). th:if="${flags.joinable}" ( viewFlags 참고 )
     public boolean isJoinable(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        boolean result = this.isPublished() && this.isRecruiting() &&
-                this.studyAccounts.stream()
-                        .filter(sa -> sa.getAccount().getId() == account.getId()).count() != 0;
-
-        return result;
+        return this.isPublished() && this.isRecruiting() && !getMembership().contains(userAccount.getId());
 //        return this.isPublished() && this.isRecruiting()
 //                && !this.studyMembers.contains(account) && !this.studyManagers.contains(account);
     }
 
     //TODO 2021.01.27 52. 스터디 조회
-    //                 1. 해당 스터디에 해당 회원이 가입되어있는지 확인
+    //                 1. 해당 스터디에 해당 회원이 가입되어있는지 ( 관리자가 아닌 멤버 ) 확인
     //                 2. 그 결과로 스터디 탈퇴 버튼 보여주기
-    //                  1). th:if="${!study.closed && study.isMember(#authentication.principal)}"
+    //                  1). th:if="${!study.closed && flags.member}"
     //                  2). 타임리프 탬플릿의 추가 조건 -> 해당스터디가 종료 상태가 아니고
     public boolean isMember(UserAccount userAccount) {
-        return this.studyMembers.contains(userAccount.getAccount());
+        return getMembership().isMember(userAccount.getId());
     }
 
     //TODO 2021.01.27 52. 스터디 조회
     //                 1. 해당 스터디에 해당 회원이 매니저인지 확인
     //                 2. 그 결과로 모임만들기 버튼 보여주기
-    //                  1). th:if="${study.published && !study.closed && study.isManager(#authentication.principal)}
+    //                  1). th:if="${study.published && !study.closed && flags.manager}
     //                  2). 타임리프 탬플릿의 추가 조건
     //                   -. 해당 스터디가 공개 되었고
     //                   -. 해당 스터디가 종료 되지 않았고
     public boolean isManager(UserAccount userAccount) {
-        for (StudyAccount studyAccount : studyAccounts) {
-            if(studyAccount.isManager(userAccount.getAccount())) {
-                return true;
-            }
+        return getMembership().isManager(userAccount.getId());
+    }
+
+    //TODO 구성원 인덱스는 처음 사용할 때 studyAccounts 로 한번만 만들고 구성원이 바뀌면 다시 만든다
+    public StudyMembership getMembership() {
+        if (membership == null) {
+            membership = StudyMembership.of(studyAccounts);
         }
-        return false;
+        return membership;
     }
 
-    public Long getStudyMemberCount() {
-        return studyAccounts.stream().filter(account -> !account.isManager()).count();
+    //TODO 화면에서 현재 사용자에 대한 관리자 / 멤버 / 가입 가능 여부를 한번에 계산
+    public StudyViewFlags viewFlags(Object principal) {
+        return StudyViewFlags.of(getMembership(), published, recruiting, principal);
+    }
+
+    //TODO 스터디 목록 ( fragments.html :: study-list ) 에서 사용
+    public List<Tag> getTags() {
+        return studyTags.stream().map(StudyTag::getTag).collect(Collectors.toList());
+    }
+
+    public List<Zone> getZones() {
+        return studyZones.stream().map(StudyZone::getZone).collect(Collectors.toList());
     }
 
     public String getEncodingPath() throws UnsupportedEncodingException {
@@ -159,8 +185,8 @@ public class Study {
         studyTag.setStudy(this);
     }
 
-    public void removeStudyTag(Tag tag) {
-        studyTags.removeIf(at -> at.getTag().equals(tag));
+    public boolean removeStudyTag(Tag tag) {
+        return studyTags.removeIf(at -> at.getTag().equals(tag));
     }
 
     public void addStudyZone(StudyZone studyZone) {
@@ -219,7 +245,17 @@ public class Study {
         }
     }
 
-    public void leaveAccount(Account account) {
-        studyAccounts.removeIf(sa -> sa.getAccount().equals(account));
+    //TODO 멤버 수를 줄여야 하는지 알 수 있도록 관리자가 아닌 멤버가 제거되었는지 반환
+    public boolean leaveAccount(Account account) {
+        boolean memberRemoved = false;
+        for (Iterator<StudyAccount> iterator = studyAccounts.iterator(); iterator.hasNext(); ) {
+            StudyAccount studyAccount = iterator.next();
+            if (studyAccount.getAccount().equals(account)) {
+                iterator.remove();
+                memberRemoved |= !studyAccount.isManager();
+            }
+        }
+        this.membership = null;
+        return memberRemoved;
     }
 }
\ No newline at end of file
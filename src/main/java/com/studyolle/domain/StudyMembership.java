@@ -0,0 +1,69 @@
+package com.studyolle.domain;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+//TODO 스터디 구성원 인덱스
+//     1. 스터디를 읽을 때 한번만 studyAccounts 를 훑어서 관리자 / 멤버의 계정 id 를 정렬된 long 배열로 보관
+//      1). 조회는 이진 탐색 -> 구성원이 수천명이어도 확인 한번에 수십번 비교
+//      2). Account 엔티티를 비교하지 않으므로 프록시 초기화 / equals 호출이 없다
+//     2. 생성 후 변경되지 않으므로 여러 요청이 같은 객체를 읽어도 안전 ( StudySnapshot 에서 공유 )
+public final class StudyMembership {
+
+    public static final StudyMembership EMPTY = new StudyMembership(new long[0], new long[0]);
+
+    private final long[] managerIds;
+    private final long[] memberIds;
+
+    private StudyMembership(long[] managerIds, long[] memberIds) {
+        this.managerIds = managerIds;
+        this.memberIds = memberIds;
+    }
+
+    public static StudyMembership of(Collection<StudyAccount> studyAccounts) {
+        long[] managerIds = new long[studyAccounts.size()];
+        long[] memberIds = new long[studyAccounts.size()];
+        int managerCount = 0;
+        int memberCount = 0;
+        for (StudyAccount studyAccount : studyAccounts) {
+            Long accountId = studyAccount.getAccount().getId();
+            if (studyAccount.isManager()) {
+                managerIds[managerCount++] = accountId;
+            } else {
+                memberIds[memberCount++] = accountId;
+            }
+        }
+        return new StudyMembership(sorted(managerIds, managerCount), sorted(memberIds, memberCount));
+    }
+
+    private static long[] sorted(long[] ids, int length) {
+        long[] result = Arrays.copyOf(ids, length);
+        Arrays.sort(result);
+        return result;
+    }
+
+    public boolean isManager(Long accountId) {
+        return contains(managerIds, accountId);
+    }
+
+    public boolean isMember(Long accountId) {
+        return contains(memberIds, accountId);
+    }
+
+    //TODO 관리자 또는 멤버로 스터디에 속해 있는지
+    public boolean contains(Long accountId) {
+        return isManager(accountId) || isMember(accountId);
+    }
+
+    public int getManagerCount() {
+        return managerIds.length;
+    }
+
+    public int getMemberCount() {
+        return memberIds.length;
+    }
+
+    private static boolean contains(long[] ids, Long accountId) {
+        return accountId != null && Arrays.binarySearch(ids, accountId) >= 0;
+    }
+}
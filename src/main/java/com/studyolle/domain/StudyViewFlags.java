@@ -0,0 +1,40 @@
+package com.studyolle.domain;
+
+import com.studyolle.account.UserAccount;
+import lombok.Getter;
+
+//TODO 스터디 화면에서 현재 사용자에 대해 한번만 계산하는 표시 여부
+//     1. 템플릿은 th:with="flags=${study.viewFlags(#authentication?.principal)}" 로 한번 받아서
+//        flags.manager / flags.member / flags.joinable 을 읽는다
+//     2. 로그인하지 않은 사용자 ( principal 이 UserAccount 가 아닌 경우 ) 는 모두 false
+@Getter
+public final class StudyViewFlags {
+
+    private static final StudyViewFlags NONE = new StudyViewFlags(false, false, false);
+
+    //TODO 스터디 관리자 -> 설정 메뉴, 모임 만들기, 참가 신청 관리
+    private final boolean manager;
+
+    //TODO 관리자가 아닌 멤버 -> 스터디 탈퇴
+    private final boolean member;
+
+    //TODO 공개 / 모집중인 스터디에 속해 있지 않은 사용자 -> 스터디 가입
+    private final boolean joinable;
+
+    private StudyViewFlags(boolean manager, boolean member, boolean joinable) {
+        this.manager = manager;
+        this.member = member;
+        this.joinable = joinable;
+    }
+
+    public static StudyViewFlags of(StudyMembership membership, boolean published, boolean recruiting, Object principal) {
+        if (!(principal instanceof UserAccount)) {
+            return NONE;
+        }
+
+        Long accountId = ((UserAccount) principal).getId();
+        boolean manager = membership.isManager(accountId);
+        boolean member = membership.isMember(accountId);
+        return new StudyViewFlags(manager, member, published && recruiting && !manager && !member);
+    }
+}
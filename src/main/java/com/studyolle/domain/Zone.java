@@ -2,19 +2,23 @@ package com.studyolle.domain;
 
 import lombok.*;
 
-import javax.persistence.Column;
-import javax.persistence.Entity;
-import javax.persistence.GeneratedValue;
-import javax.persistence.Id;
+import javax.persistence.*;
 import java.util.Objects;
 
 @Entity
 @Getter @Setter
 @EqualsAndHashCode(of = "id")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_zone_city_province", columnNames = {"city", "province"}))
 public class Zone {
 
-    @Id @GeneratedValue
+    //TODO 지역 정보 id 는 전용 시퀀스에서 ID_ALLOCATION_SIZE 개씩 한번에 할당 ( pooled-lo )
+    //     1. ReferenceDataLoader 도 같은 시퀀스 / 같은 크기로 id 를 할당하므로 JPA 로 저장해도 충돌하지 않는다
+    public static final int ID_ALLOCATION_SIZE = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "zone_seq")
+    @SequenceGenerator(name = "zone_seq", sequenceName = "zone_seq", allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "zone_id")
     private Long id;
 
@@ -0,0 +1,110 @@
+package com.studyolle.email;
+
+import com.studyolle.enums.EmailOutboxStatus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+//TODO 이메일 디스패처 지표
+//     1. 대기열 길이 ( PENDING / DEAD 개수 )
+//     2. 전송 성공 / 실패 / dead-letter 누적 횟수
+//     3. 전송 지연 시간 ( SMTP 전송에 걸린 시간 ) 과 대기 시간 ( 아웃박스 저장 ~ 전송 완료 )
+//     4. MeterBinder 로 등록되어 위 값들을 email.outbox.* 지표로 내보낸다 ( 대기열 길이는 수집할 때 count 쿼리 )
+@Component
+@RequiredArgsConstructor
+public class EmailDispatchStats implements MeterBinder {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+
+    private final AtomicLong sendLatencyTotalNanos = new AtomicLong();
+    private final AtomicLong sendLatencyMaxNanos = new AtomicLong();
+    private final AtomicLong queueLatencyTotalMillis = new AtomicLong();
+    private final AtomicLong queueLatencyMaxMillis = new AtomicLong();
+
+    public void recordSent(long sendNanos, Duration queued) {
+        sent.incrementAndGet();
+        sendLatencyTotalNanos.addAndGet(sendNanos);
+        sendLatencyMaxNanos.accumulateAndGet(sendNanos, Math::max);
+        queueLatencyTotalMillis.addAndGet(queued.toMillis());
+        queueLatencyMaxMillis.accumulateAndGet(queued.toMillis(), Math::max);
+    }
+
+    public void recordFailed(boolean deadLettered) {
+        failed.incrementAndGet();
+        if (deadLettered) {
+            dead.incrementAndGet();
+        }
+    }
+
+    public long getQueueDepth() {
+        return emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING)
+                + emailOutboxRepository.countByStatus(EmailOutboxStatus.SENDING);
+    }
+
+    public long getDeadLetterCount() {
+        return emailOutboxRepository.countByStatus(EmailOutboxStatus.DEAD);
+    }
+
+    public long getSent() {
+        return sent.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public long getDead() {
+        return dead.get();
+    }
+
+    public double getAverageSendLatencyMillis() {
+        long count = sent.get();
+        return count == 0 ? 0 : sendLatencyTotalNanos.get() / 1_000_000.0 / count;
+    }
+
+    public double getMaxSendLatencyMillis() {
+        return sendLatencyMaxNanos.get() / 1_000_000.0;
+    }
+
+    public double getAverageQueueLatencyMillis() {
+        long count = sent.get();
+        return count == 0 ? 0 : (double) queueLatencyTotalMillis.get() / count;
+    }
+
+    public long getMaxQueueLatencyMillis() {
+        return queueLatencyMaxMillis.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("email.outbox.queue.depth", this, EmailDispatchStats::getQueueDepth)
+                .description("PENDING + SENDING 상태의 메일 수")
+                .register(registry);
+        Gauge.builder("email.outbox.dead.letters", this, EmailDispatchStats::getDeadLetterCount)
+                .description("DEAD 상태의 메일 수")
+                .register(registry);
+
+        FunctionCounter.builder("email.outbox.sent", this, EmailDispatchStats::getSent).register(registry);
+        FunctionCounter.builder("email.outbox.failed", this, EmailDispatchStats::getFailed).register(registry);
+        FunctionCounter.builder("email.outbox.dead", this, EmailDispatchStats::getDead).register(registry);
+
+        Gauge.builder("email.outbox.send.latency.avg", this, EmailDispatchStats::getAverageSendLatencyMillis)
+                .baseUnit("milliseconds").register(registry);
+        Gauge.builder("email.outbox.send.latency.max", this, EmailDispatchStats::getMaxSendLatencyMillis)
+                .baseUnit("milliseconds").register(registry);
+        Gauge.builder("email.outbox.queue.latency.avg", this, EmailDispatchStats::getAverageQueueLatencyMillis)
+                .baseUnit("milliseconds").register(registry);
+        Gauge.builder("email.outbox.queue.latency.max", this, EmailDispatchStats::getMaxQueueLatencyMillis)
+                .baseUnit("milliseconds").register(registry);
+    }
+}
@@ -0,0 +1,204 @@
+package com.studyolle.email;
+
+import com.studyolle.config.AppProperties;
+import com.studyolle.domain.EmailOutbox;
+import com.studyolle.enums.EmailOutboxStatus;
+import com.studyolle.monitoring.jfr.EmailSendEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailSendException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+//TODO 이메일 아웃박스 디스패처
+//     1. 주기적으로 전송할 차례가 된 메일을 배치 단위로 선점 ( PENDING -> SENDING )
+//     2. 템플릿으로 저장된 메일은 템플릿별로 모아서 MailTemplateRenderer.renderAll 로 한번에 렌더링
+//     3. EmailService.sendEmails 로 배치 단위 전송 ( 병렬 처리 / 연결 재사용은 구현체가 담당 )
+//     4. 결과 반영
+//      1). 성공 -> SENT
+//      2). 실패 -> 지수 백오프 후 재시도, 최대 시도 횟수를 넘으면 DEAD ( dead-letter )
+@Slf4j
+@Component
+public class EmailDispatcher {
+
+    private static final List<EmailOutboxStatus> DUE_STATUSES =
+            Collections.unmodifiableList(Arrays.asList(EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING));
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final MailTemplateRenderer mailTemplateRenderer;
+    private final EmailDispatchStats emailDispatchStats;
+    private final AppProperties appProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public EmailDispatcher(EmailOutboxRepository emailOutboxRepository, EmailService emailService,
+                           MailTemplateRenderer mailTemplateRenderer, EmailDispatchStats emailDispatchStats,
+                           AppProperties appProperties, PlatformTransactionManager transactionManager) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailService = emailService;
+        this.mailTemplateRenderer = mailTemplateRenderer;
+        this.emailDispatchStats = emailDispatchStats;
+        this.appProperties = appProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    //TODO 한번 깨어나면 대기중인 메일이 배치 크기보다 적어질 때까지 계속 전송
+    @Scheduled(fixedDelayString = "${app.mail-poll-interval-ms:1000}")
+    public void poll() {
+        try {
+            while (dispatchBatch() >= appProperties.getMailBatchSize()) {
+                log.debug("email outbox has more messages, continue dispatching");
+            }
+        } catch (RuntimeException e) {
+            log.error("failed to dispatch email outbox", e);
+        }
+    }
+
+    //TODO 배치 하나를 선점해서 전송하고 결과를 반영, 처리한 메일 수 반환
+    public int dispatchBatch() {
+        List<EmailOutbox> batch = claimBatch();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, String> failures = send(batch);
+        complete(batch, failures);
+        return batch.size();
+    }
+
+    private List<EmailOutbox> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = emailOutboxRepository.findDueIds(DUE_STATUSES, now,
+                    PageRequest.of(0, appProperties.getMailBatchSize()));
+            if (ids.isEmpty()) {
+                return Collections.<EmailOutbox>emptyList();
+            }
+
+            String token = UUID.randomUUID().toString();
+            LocalDateTime leaseUntil = now.plusSeconds(appProperties.getMailLeaseSeconds());
+            emailOutboxRepository.claim(ids, DUE_STATUSES, token, now, leaseUntil);
+            return emailOutboxRepository.findByClaimToken(token);
+        });
+    }
+
+    //TODO EmailService.sendEmails 로 배치를 한번에 전송하고 실패한 메일의 id 와 에러 메시지를 반환
+    //     1. 전송 지연 시간은 배치 전체 시간을 메일 수로 나눈 값으로 기록
+    private Map<Long, String> send(List<EmailOutbox> batch) {
+        Map<EmailMessage, EmailOutbox> messages = new IdentityHashMap<>(batch.size());
+        Map<String, List<EmailOutbox>> templated = new LinkedHashMap<>();
+        for (EmailOutbox emailOutbox : batch) {
+            if (emailOutbox.getTemplate() == null) {
+                messages.put(emailOutbox.toEmailMessage(), emailOutbox);
+            } else {
+                templated.computeIfAbsent(emailOutbox.getTemplate(), template -> new ArrayList<>()).add(emailOutbox);
+            }
+        }
+
+        Map<Long, String> failures = new HashMap<>();
+        templated.forEach((template, emailOutboxes) -> render(template, emailOutboxes, messages, failures));
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        EmailSendEvent event = new EmailSendEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            emailService.sendEmails(messages.keySet());
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                log.warn("failed to send email outbox batch", e);
+                messages.values().forEach(emailOutbox -> failures.put(emailOutbox.getId(), String.valueOf(e.getMessage())));
+                sent(event, batch.size(), failures.size());
+                return failures;
+            }
+            e.getFailedMessages().forEach((message, exception) -> {
+                EmailOutbox emailOutbox = messages.get(message);
+                if (emailOutbox != null) {
+                    log.warn("failed to send email outbox {} to {}", emailOutbox.getId(), emailOutbox.getRecipient(), exception);
+                    failures.put(emailOutbox.getId(), String.valueOf(exception.getMessage()));
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("failed to send email outbox batch", e);
+            messages.values().forEach(emailOutbox -> failures.put(emailOutbox.getId(), String.valueOf(e.getMessage())));
+        }
+        sent(event, batch.size(), failures.size());
+
+        long sendNanos = (System.nanoTime() - start) / batch.size();
+        LocalDateTime now = LocalDateTime.now();
+        for (EmailOutbox emailOutbox : batch) {
+            if (!failures.containsKey(emailOutbox.getId())) {
+                emailDispatchStats.recordSent(sendNanos, Duration.between(emailOutbox.getCreatedAt(), now));
+            }
+        }
+        return failures;
+    }
+
+    //TODO 같은 템플릿의 메일을 한번에 렌더링
+    //     1. 렌더링에 실패하면 그 템플릿의 메일은 모두 실패로 처리 ( 백오프 후 재시도 )
+    private void render(String template, List<EmailOutbox> emailOutboxes,
+                        Map<EmailMessage, EmailOutbox> messages, Map<Long, String> failures) {
+        List<Map<String, String>> variablesList = new ArrayList<>(emailOutboxes.size());
+        for (EmailOutbox emailOutbox : emailOutboxes) {
+            variablesList.add(emailOutbox.getTemplateVariables());
+        }
+
+        List<String> rendered;
+        try {
+            rendered = mailTemplateRenderer.renderAll(template, variablesList);
+        } catch (RuntimeException e) {
+            log.warn("failed to render email outbox template {}", template, e);
+            emailOutboxes.forEach(emailOutbox -> failures.put(emailOutbox.getId(), String.valueOf(e.getMessage())));
+            return;
+        }
+
+        for (int i = 0; i < emailOutboxes.size(); i++) {
+            EmailMessage emailMessage = emailOutboxes.get(i).toEmailMessage();
+            emailMessage.setMessage(rendered.get(i));
+            messages.put(emailMessage, emailOutboxes.get(i));
+        }
+    }
+
+    private static void sent(EmailSendEvent event, int batchSize, int failures) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.batchSize = batchSize;
+            event.failures = failures;
+            event.commit();
+        }
+    }
+
+    //TODO 결과 반영
+    //     1. 선점할 때 읽은 메일에 결과를 계산하고 claimToken 이 그대로인 행에만 반영 ( EmailOutboxRepository.complete )
+    //     2. 그 사이 임대 시간이 지나 다른 디스패처가 다시 가져간 메일은 그쪽 결과를 덮어쓰지 않는다
+    private void complete(List<EmailOutbox> batch, Map<Long, String> failures) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (EmailOutbox emailOutbox : batch) {
+                String token = emailOutbox.getClaimToken();
+                boolean failed = failures.containsKey(emailOutbox.getId());
+                if (failed) {
+                    emailOutbox.failed(failures.get(emailOutbox.getId()), appProperties.getMailMaxAttempts(),
+                            appProperties.getMailBackoffSeconds(), appProperties.getMailMaxBackoffSeconds());
+                } else {
+                    emailOutbox.sent();
+                }
+
+                if (emailOutboxRepository.complete(emailOutbox, token) == 0) {
+                    log.warn("email outbox {} was claimed again by another dispatcher, result is discarded", emailOutbox.getId());
+                    continue;
+                }
+                if (failed) {
+                    emailDispatchStats.recordFailed(emailOutbox.getStatus() == EmailOutboxStatus.DEAD);
+                }
+            }
+        });
+    }
+}
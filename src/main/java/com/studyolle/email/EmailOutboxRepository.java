@@ -0,0 +1,55 @@
+package com.studyolle.email;
+
+import com.studyolle.domain.EmailOutbox;
+import com.studyolle.enums.EmailOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    //TODO 전송할 차례가 된 메일
+    //     1. PENDING 이면서 다음 시도 시각이 지난 메일
+    //     2. SENDING 이지만 임대 시간이 지난 메일 ( 전송 도중 서버가 종료된 경우 )
+    @Query("select o.id from EmailOutbox o " +
+            "where o.status in :statuses and o.nextAttemptAt <= :now " +
+            "order by o.id")
+    List<Long> findDueIds(@Param("statuses") List<EmailOutboxStatus> statuses,
+                          @Param("now") LocalDateTime now, Pageable pageable);
+
+    //TODO 조건부 update 로 배치를 선점 - 다른 디스패처가 먼저 가져간 메일은 제외된다
+    @Modifying
+    @Query("update EmailOutbox o " +
+            "set o.status = com.studyolle.enums.EmailOutboxStatus.SENDING, " +
+            "o.claimToken = :token, o.nextAttemptAt = :leaseUntil " +
+            "where o.id in :ids and o.status in :statuses and o.nextAttemptAt <= :now")
+    @Transactional
+    int claim(@Param("ids") List<Long> ids, @Param("statuses") List<EmailOutboxStatus> statuses,
+              @Param("token") String token, @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    //TODO 전송할 때 ( 트랜잭션 밖에서 ) 렌더링하므로 템플릿 변수까지 같이 조회
+    @EntityGraph(attributePaths = "templateVariables")
+    List<EmailOutbox> findByClaimToken(String claimToken);
+
+    //TODO 전송 결과 반영 - 아직 선점한 배치 ( claimToken ) 가 그대로일 때만
+    //     1. 전송이 임대 시간보다 오래 걸려서 다른 디스패처가 다시 가져간 메일이면 0 을 반환하고 바꾸지 않는다
+    @Modifying
+    @Query("update EmailOutbox o " +
+            "set o.status = :#{#emailOutbox.status}, o.attempts = :#{#emailOutbox.attempts}, " +
+            "o.nextAttemptAt = :#{#emailOutbox.nextAttemptAt}, o.lastError = :#{#emailOutbox.lastError}, " +
+            "o.sentAt = :#{#emailOutbox.sentAt}, o.claimToken = null " +
+            "where o.id = :#{#emailOutbox.id} and o.claimToken = :token")
+    @Transactional
+    int complete(@Param("emailOutbox") EmailOutbox emailOutbox, @Param("token") String token);
+
+    long countByStatus(EmailOutboxStatus status);
+}
@@ -1,5 +1,11 @@
 package com.studyolle.email;
 
+import org.springframework.mail.MailSendException;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 //TODO 2021.01.25 47. MimeMessage 전송하기, EmailService 추상화
 //                 1. EmailService 추상화
 //                 2. AccountService 에서 사용하던 javaMailSender 의 구현체인 ConsoleMailSender 를
@@ -8,4 +14,23 @@ package com.studyolle.email;
 //                    local 환경 일때는 console 로 dev 환경일때는 html 이메일 전송 코드를 주입 받아서 사용할 수 있도록 수정 
 public interface EmailService {
     void sendEmail(EmailMessage emailMessage);
+
+    //TODO 여러 메일 한번에 전송
+    //     1. 기본 구현은 sendEmail 을 하나씩 호출
+    //     2. 일부가 실패해도 나머지는 계속 전송하고
+    //        실패한 메일은 MailSendException 의 failedMessages ( EmailMessage -> 예외 ) 로 전달
+    default void sendEmails(Collection<EmailMessage> emailMessages) {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        for (EmailMessage emailMessage : emailMessages) {
+            try {
+                sendEmail(emailMessage);
+            } catch (RuntimeException e) {
+                failedMessages.put(emailMessage, e);
+            }
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
 }
@@ -1,21 +1,41 @@
 package com.studyolle.email;
 
-import lombok.RequiredArgsConstructor;
+import com.studyolle.config.AppProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Profile("dev")
 @Slf4j
-@RequiredArgsConstructor
 @Component
 public class HtmlEmailService implements EmailService {
     private final JavaMailSender javaMailSender;
+    private final int workerCount;
+    private final ExecutorService workers;
+
+    public HtmlEmailService(JavaMailSender javaMailSender, AppProperties appProperties) {
+        this.javaMailSender = javaMailSender;
+        this.workerCount = Math.max(1, appProperties.getMailWorkers());
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "html-email-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
     //TODO 2021.01.25 47. MimeMessage 전송하기, EmailService 추상화
     //                 1. 대부분 이메일 전송하는 것들을 보면 HTML 로 이루어짐
@@ -28,6 +48,84 @@ public class HtmlEmailService implements EmailService {
     //                 5. EmailMessage 에 전송 데이터를 담아 전송
     @Override
     public void sendEmail(EmailMessage emailMessage) {
+        MimeMessage mimeMessage = createMimeMessage(emailMessage);
+        javaMailSender.send(mimeMessage);
+        log.info("send mail : {}" ,emailMessage.getMessage());
+    }
+
+    //TODO 여러 메일 한번에 전송
+    //     1. sendEmail 은 메일 한통마다 SMTP 연결 ( + STARTTLS 핸드셰이크 ) 을 새로 맺는다
+    //     2. 메일을 워커 수만큼 나누고 워커마다
+    //      1). MimeMessage 를 만들고 ( 워커끼리 병렬 )
+    //      2). javaMailSender.send(MimeMessage...) 로 한번에 전송 -> 연결 하나를 열어 두고 모두 전송
+    //     3. 실패한 메일은 MailSendException 의 failedMessages ( EmailMessage -> 예외 ) 로 모아서 던진다
+    @Override
+    public void sendEmails(Collection<EmailMessage> emailMessages) {
+        if (emailMessages.isEmpty()) {
+            return;
+        }
+
+        List<EmailMessage> messages = new ArrayList<>(emailMessages);
+        int chunkSize = (messages.size() + workerCount - 1) / workerCount;
+        Map<Object, Exception> failedMessages = new ConcurrentHashMap<>();
+        List<Future<?>> futures = new ArrayList<>(workerCount);
+
+        for (int from = 0; from < messages.size(); from += chunkSize) {
+            List<EmailMessage> chunk = messages.subList(from, Math.min(from + chunkSize, messages.size()));
+            futures.add(workers.submit(() -> sendChunk(chunk, failedMessages)));
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MailSendException("interrupted while sending emails", e);
+            } catch (ExecutionException e) {
+                throw new MailSendException("failed to send emails", e.getCause());
+            }
+        }
+
+        log.info("send mails : {} (failed {})", messages.size(), failedMessages.size());
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    private void sendChunk(List<EmailMessage> chunk, Map<Object, Exception> failedMessages) {
+        //TODO 실패한 MimeMessage 를 원래 EmailMessage 로 되돌리기 위해 객체 동일성으로 매핑
+        Map<MimeMessage, EmailMessage> prepared = new IdentityHashMap<>(chunk.size());
+        for (EmailMessage emailMessage : chunk) {
+            try {
+                prepared.put(createMimeMessage(emailMessage), emailMessage);
+            } catch (MailException e) {
+                failedMessages.put(emailMessage, e);
+            }
+        }
+        if (prepared.isEmpty()) {
+            return;
+        }
+
+        try {
+            javaMailSender.send(prepared.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failed = e.getFailedMessages();
+            if (failed.isEmpty()) {
+                prepared.values().forEach(emailMessage -> failedMessages.put(emailMessage, e));
+                return;
+            }
+            failed.forEach((mimeMessage, exception) -> {
+                EmailMessage emailMessage = prepared.get(mimeMessage);
+                if (emailMessage != null) {
+                    failedMessages.put(emailMessage, exception);
+                }
+            });
+        } catch (MailException e) {
+            prepared.values().forEach(emailMessage -> failedMessages.put(emailMessage, e));
+        }
+    }
+
+    private MimeMessage createMimeMessage(EmailMessage emailMessage) {
         MimeMessage mimeMessage = javaMailSender.createMimeMessage();
         try {
             MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
@@ -37,11 +135,16 @@ public class HtmlEmailService implements EmailService {
             //TODO 2021.01.25 47. MimeMessage 전송하기, EmailService 추상화
             //                 1. setText 의 boolean html 이 true 이여야 html 형식으로 이메일 전송
             mimeMessageHelper.setText(emailMessage.getMessage(), true);
-            javaMailSender.send(mimeMessage);
-            log.info("send mail : {}" ,emailMessage.getMessage());
+            return mimeMessage;
         } catch (MessagingException e) {
-            log.error("failed to send email {}", e);
-            e.printStackTrace();
+            //TODO 아웃박스 디스패처가 재시도할 수 있도록 실패를 삼키지 않고 던진다
+            log.error("failed to prepare email to {}", emailMessage.getTo(), e);
+            throw new MailPreparationException(e);
         }
     }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
 }
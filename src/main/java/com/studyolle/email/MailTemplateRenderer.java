@@ -0,0 +1,67 @@
+package com.studyolle.email;
+
+import com.studyolle.monitoring.jfr.EmailRenderEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import javax.annotation.PostConstruct;
+import java.util.*;
+
+//TODO 메일 템플릿 렌더러
+//     1. 화면과 같은 ( 자동 설정된 ) TemplateEngine 을 사용 - 템플릿 캐시 / 로케일 설정을 그대로 따른다
+//      1). 템플릿을 한번만 파싱하는 것은 템플릿 캐시가 켜져 있을 때 ( spring.thymeleaf.cache=true, 기본 값 ) 뿐이다
+//          -> devtools 가 켜진 개발 환경에서는 캐시가 꺼져서 렌더링마다 다시 파싱
+//      2). 시작할 때 한번 렌더링해서 ( warm-up ) 첫 메일이 파싱 비용을 내지 않도록 한다
+//     2. 같은 템플릿을 쓰는 여러 수신자의 메일은 renderAll 로 한번에 렌더링 ( EmailDispatcher 가 배치마다 호출 )
+//      1). Context 하나를 변수만 바꿔가며 재사용하고, 배치 전체를 JFR 이벤트 하나로 기록
+@Component
+@RequiredArgsConstructor
+public class MailTemplateRenderer {
+
+    public static final String SIMPLE_LINK = "mail/simple-link";
+
+    private final TemplateEngine templateEngine;
+
+    @PostConstruct
+    public void warmUp() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("nickname", "warm-up");
+        variables.put("message", "warm-up");
+        variables.put("host", "http://localhost");
+        variables.put("link", "/");
+        variables.put("linkName", "warm-up");
+        render(SIMPLE_LINK, variables);
+    }
+
+    public String render(String template, Map<String, Object> variables) {
+        return renderAll(template, Collections.singletonList(variables)).get(0);
+    }
+
+    //TODO 같은 템플릿 / 같은 Context 객체로 변수만 바꿔가며 렌더링
+    public List<String> renderAll(String template, List<? extends Map<String, ?>> variablesList) {
+        EmailRenderEvent event = new EmailRenderEvent();
+        event.begin();
+
+        List<String> messages = new ArrayList<>(variablesList.size());
+        long length = 0;
+        Context context = new Context();
+        for (Map<String, ?> variables : variablesList) {
+            context.clearVariables();
+            variables.forEach(context::setVariable);
+            String message = templateEngine.process(template, context);
+            messages.add(message);
+            length += message.length();
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.template = template;
+            event.count = messages.size();
+            event.length = length;
+            event.commit();
+        }
+        return messages;
+    }
+}
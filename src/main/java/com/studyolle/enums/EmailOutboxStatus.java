@@ -0,0 +1,12 @@
+package com.studyolle.enums;
+
+public enum EmailOutboxStatus {
+    //TODO 전송 대기
+    PENDING,
+    //TODO 디스패처가 가져가서 전송중 ( 임대 시간이 지나면 다시 가져갈 수 있음 )
+    SENDING,
+    //TODO 전송 완료
+    SENT,
+    //TODO 최대 재시도 횟수 초과 ( dead-letter )
+    DEAD
+}
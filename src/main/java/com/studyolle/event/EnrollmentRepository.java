@@ -0,0 +1,34 @@
+package com.studyolle.event;
+
+import com.studyolle.domain.Account;
+import com.studyolle.domain.Enrollment;
+import com.studyolle.domain.Event;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+
+    boolean existsByEventAndAccount(Event event, Account account);
+
+    Enrollment findByEventAndAccount(Event event, Account account);
+
+    //TODO 참가 확정할 대기자 id ( 신청한 순서, 같은 시각이면 먼저 저장된 순서 ) - Pageable 로 남은 자리 수만큼만 조회
+    @Query("select en.id from Enrollment en " +
+            "where en.event = :event and en.accepted = false " +
+            "order by en.enrolledAt asc, en.id asc")
+    List<Long> findWaitlistIds(@Param("event") Event event, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("update Enrollment en set en.accepted = true where en.id in :ids")
+    int acceptAll(@Param("ids") List<Long> ids);
+
+    long countByEventAndAccepted(Event event, boolean accepted);
+}
@@ -1,18 +1,22 @@
 package com.studyolle.event;
 
 import com.studyolle.account.CurrentUser;
+import com.studyolle.account.UserAccount;
 import com.studyolle.domain.Account;
 import com.studyolle.domain.Event;
 import com.studyolle.domain.Study;
+import com.studyolle.event.form.EventCursor;
 import com.studyolle.event.form.EventForm;
 import com.studyolle.event.validator.EventFormValidator;
 import com.studyolle.study.StudyRepository;
 import com.studyolle.study.StudyService;
+import com.studyolle.study.StudySnapshot;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
@@ -23,9 +27,7 @@ import org.springframework.web.bind.annotation.*;
 import javax.validation.Valid;
 import java.io.UnsupportedEncodingException;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.stream.Collectors;
 
 @Controller
 @RequiredArgsConstructor
@@ -48,7 +50,7 @@ public class EventController {
     //                 1. 모임 만들기 폼에 필요한 데이터를 랜더링하여 클라이언트로 반환
     @GetMapping("/new-event")
     public String createEventForm(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudyToUpdate(account, path);
+        StudySnapshot study = studyService.getStudySnapshot(path);
 
         model.addAttribute("account", account);
         model.addAttribute("study", study);
@@ -78,9 +80,9 @@ public class EventController {
     }
 
     @GetMapping("/events/{event-id}")
-    public String showEvents(@CurrentUser Account account, @PathVariable String path,
+    public String showEvents(@CurrentUser UserAccount account, @PathVariable String path,
                              @PathVariable(value = "event-id") Long eventId, Model model) {
-        Study study = studyRepository.findStudyAccountsByPath(path);
+        StudySnapshot study = studyService.getStudySnapshot(path);
         Event event = eventRepository.findWithCreateByWithEnrollmentsById(eventId);
 
         model.addAttribute("account", account);
@@ -130,7 +132,13 @@ public class EventController {
     public String enrollEvent(@CurrentUser Account account, @PathVariable String path,
                               @PathVariable(value = "event-id") Long eventId) throws UnsupportedEncodingException {
 
-        Event event = eventService.enrollEvent(eventId, account);
+        Event event;
+        try {
+            event = eventService.enrollEvent(eventId, account);
+        } catch (DataIntegrityViolationException e) {
+            //TODO 같은 회원의 동시 신청 - 먼저 저장된 신청이 있으면 중복 신청과 같이 아무것도 하지 않는다
+            event = eventService.findEnrolledEvent(eventId, account).orElseThrow(() -> e);
+        }
         return "redirect:/study/" + event.getStudy().getEncodingPath() + "/events/" + event.getId();
     }
 
@@ -143,22 +151,24 @@ public class EventController {
         return "redirect:/study/" + event.getStudy().getEncodingPath() + "/events/" + event.getId();
     }
 
+    //TODO 모임 목록
+    //     1. 새 모임 / 지난 모임을 각각 데이터베이스에서 나눠서 한 페이지씩 조회 ( 신청 수는 쿼리에서 집계 )
+    //     2. 다음 페이지는 newCursor / oldCursor 파라미터 ( 마지막 모임의 종료 일시_id ) 로 이어서 조회
     @GetMapping("/events")
-    public String showEvents(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyRepository.findByPath(path);
-
-        List<Event> events = eventRepository.findAllByStudyId(study.getId());
-
-        List<Event> oldEvents = events.stream().filter(e -> e.getEndDateTime().isBefore(LocalDateTime.now()))
-                .collect(Collectors.toList());
-
-        List<Event> newEvents = events.stream().filter(e -> e.getEndDateTime().isAfter(LocalDateTime.now()))
-                .collect(Collectors.toList());
+    public String showEvents(@CurrentUser UserAccount account, @PathVariable String path,
+                             @RequestParam(required = false) String newCursor,
+                             @RequestParam(required = false) String oldCursor, Model model) {
+        StudySnapshot study = studyService.getStudySnapshot(path);
+        LocalDateTime now = LocalDateTime.now();
 
         model.addAttribute("account", account);
         model.addAttribute("study", study);
-        model.addAttribute("oldEvents", oldEvents);
-        model.addAttribute("newEvents", newEvents);
+        model.addAttribute("newEvents", eventService.getUpcomingEvents(study.getId(),
+                EventCursor.parse(newCursor, EventCursor.upcoming(now))));
+        model.addAttribute("oldEvents", eventService.getPastEvents(study.getId(),
+                EventCursor.parse(oldCursor, EventCursor.past(now))));
+        model.addAttribute("newEventCount", eventRepository.countByStudyIdAndEndDateTimeAfter(study.getId(), now));
+        model.addAttribute("oldEventCount", eventRepository.countByStudyIdAndEndDateTimeBefore(study.getId(), now));
         return "study/events";
     }
 
@@ -1,11 +1,15 @@
 package com.studyolle.event;
 
 import com.studyolle.domain.Event;
+import com.studyolle.event.form.EventSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Transactional(readOnly = true)
@@ -25,9 +29,64 @@ public interface EventRepository extends JpaRepository<Event, Long> {
             "order by em.enrolledAt asc")
     Event findWithStudyWithEnrollmentsById(@Param("eventId") Long eventId);
 
-    @Query("select distinct e from Event e " +
-            "left join fetch e.enrollments " +
-            "join fetch e.study s " +
-            "where s.id = :studyId")
-    List<Event> findAllByStudyId(@Param("studyId") Long StudyId);
+    //TODO 모임 목록 ( 키셋 페이징 )
+    //     1. 모임과 신청 수 집계를 한번에 조회 ( 신청 엔티티는 읽지 않는다 )
+    //     2. ( study_id, end_date_time ) 인덱스를 따라 커서 ( 종료 일시, id ) 다음부터 Pageable 크기만큼만 읽는다
+    String EVENT_SUMMARY = "select new com.studyolle.event.form.EventSummary(" +
+            "e.id, e.title, e.startDateTime, e.endEnrollmentDateTime, e.endDateTime, e.limitOfEnrollments, " +
+            "sum(case when en.accepted = true then 1L else 0L end), count(en.id)) " +
+            "from Event e left join e.enrollments en ";
+
+    String EVENT_SUMMARY_GROUP_BY = "group by e.id, e.title, e.startDateTime, e.endEnrollmentDateTime, " +
+            "e.endDateTime, e.limitOfEnrollments ";
+
+    //     3. 새 모임 - 종료 일시가 빠른 순서
+    @Query(EVENT_SUMMARY +
+            "where e.study.id = :studyId " +
+            "and (e.endDateTime > :endDateTime or (e.endDateTime = :endDateTime and e.id > :id)) " +
+            EVENT_SUMMARY_GROUP_BY +
+            "order by e.endDateTime asc, e.id asc")
+    List<EventSummary> findUpcomingSummaries(@Param("studyId") Long studyId, @Param("endDateTime") LocalDateTime endDateTime,
+                                             @Param("id") Long id, Pageable pageable);
+
+    //     4. 지난 모임 - 최근에 끝난 순서
+    @Query(EVENT_SUMMARY +
+            "where e.study.id = :studyId " +
+            "and (e.endDateTime < :endDateTime or (e.endDateTime = :endDateTime and e.id < :id)) " +
+            EVENT_SUMMARY_GROUP_BY +
+            "order by e.endDateTime desc, e.id desc")
+    List<EventSummary> findPastSummaries(@Param("studyId") Long studyId, @Param("endDateTime") LocalDateTime endDateTime,
+                                         @Param("id") Long id, Pageable pageable);
+
+    long countByStudyIdAndEndDateTimeAfter(Long studyId, LocalDateTime now);
+
+    long countByStudyIdAndEndDateTimeBefore(Long studyId, LocalDateTime now);
+
+    @Query("select e from Event e " +
+            "join fetch e.study " +
+            "where e.id = :eventId")
+    Event findWithStudyById(@Param("eventId") Long eventId);
+
+    //TODO 선착순 자리 확보
+    //     1. 남은 자리가 있을 때만 참가 확정 인원을 1 증가시키는 조건부 update
+    //     2. 데이터베이스가 행 단위로 직렬화하므로 동시에 신청해도 정원을 넘지 않는다
+    //     3. 1 이면 자리 확보, 0 이면 정원 초과 ( 대기자 )
+    @Modifying
+    @Transactional
+    @Query("update Event e set e.acceptedCount = e.acceptedCount + 1 " +
+            "where e.id = :eventId and e.acceptedCount < e.limitOfEnrollments")
+    int claimSeat(@Param("eventId") Long eventId);
+
+    //TODO 참가 확정된 신청이 취소되면 자리 반납
+    @Modifying
+    @Transactional
+    @Query("update Event e set e.acceptedCount = e.acceptedCount - 1 " +
+            "where e.id = :eventId and e.acceptedCount > 0")
+    int releaseSeat(@Param("eventId") Long eventId);
+
+    //TODO 대기자 참가 확정 ( EventService.acceptWaitlist ) - 모임 행을 잠근 상태에서만 호출
+    @Modifying
+    @Transactional
+    @Query("update Event e set e.acceptedCount = e.acceptedCount + :count where e.id = :eventId")
+    int addAcceptedCount(@Param("eventId") Long eventId, @Param("count") int count);
 }
@@ -5,28 +5,38 @@ import com.studyolle.domain.Enrollment;
 import com.studyolle.domain.Event;
 import com.studyolle.domain.Study;
 import com.studyolle.enums.EventType;
+import com.studyolle.event.form.EventCursor;
 import com.studyolle.event.form.EventForm;
+import com.studyolle.event.form.EventSlice;
+import com.studyolle.monitoring.jfr.EnrollmentDecisionEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class EventService {
 
+    //TODO 모임 목록 한 페이지의 크기
+    public static final int EVENT_PAGE_SIZE = 20;
+
     private final EventRepository eventRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EntityManager em;
 
     public Event createNewEvent(Account account, Study study, EventForm eventForm) {
         Event event = Event.createByEvent(account, study, eventForm.getTitle(), eventForm.getDescription(),
                 eventForm.getEndEnrollmentDateTime(), eventForm.getStartDateTime(), eventForm.getEndDateTime(),
                 eventForm.getLimitOfEnrollments(), eventForm.getEventType());
 
-        Enrollment enrollment = Enrollment.createBy(event, account);
-
         return eventRepository.save(event);
     }
 
@@ -38,18 +48,128 @@ public class EventService {
                 form.getEndEnrollmentDateTime(),
                 form.getStartDateTime(),
                 form.getEndDateTime());
+
+        //TODO 정원이 늘어났으면 대기자를 신청한 순서대로 참가 확정
+        acceptWaitlist(event);
+    }
+
+    //TODO 새 모임 / 지난 모임 목록 ( 커서 다음부터 한 페이지 )
+    @Transactional(readOnly = true)
+    public EventSlice getUpcomingEvents(Long studyId, EventCursor cursor) {
+        return EventSlice.of(eventRepository.findUpcomingSummaries(studyId, cursor.getEndDateTime(), cursor.getId(),
+                PageRequest.of(0, EVENT_PAGE_SIZE + 1)), EVENT_PAGE_SIZE);
+    }
+
+    @Transactional(readOnly = true)
+    public EventSlice getPastEvents(Long studyId, EventCursor cursor) {
+        return EventSlice.of(eventRepository.findPastSummaries(studyId, cursor.getEndDateTime(), cursor.getId(),
+                PageRequest.of(0, EVENT_PAGE_SIZE + 1)), EVENT_PAGE_SIZE);
     }
 
+    //TODO 모임 참가 신청
+    //     1. 모임의 신청 목록을 읽지 않는다
+    //     2. 선착순 모임이면 조건부 update ( claimSeat ) 로 자리를 확보한 경우에만 참가 확정, 아니면 대기자
+    //     3. 자리 확보와 신청 저장은 같은 트랜잭션
+    //      1). 같은 회원의 중복 신청은 ( event_id, account_id ) 유니크 제약으로 실패 -> 확보한 자리도 함께 롤백
+    //     4. 대기자로 저장할 때는 모임 행을 잠근 뒤 저장 ( claimSeatOrWait )
     public Event enrollEvent(Long eventId, Account account) {
-        Event event = eventRepository.findWithStudyWithEnrollmentsById(eventId);
-        Enrollment enrollment = Enrollment.createBy(event, account);
-        event.addEnrollment(enrollment);
+        EnrollmentDecisionEvent decision = new EnrollmentDecisionEvent();
+        decision.begin();
+
+        Event event = eventRepository.findWithStudyById(eventId);
+        if (enrollmentRepository.existsByEventAndAccount(event, account)) {
+            decided(decision, event, account, false, true);
+            return event;
+        }
+
+        boolean accepted = event.isFCFSEnrollment() && claimSeatOrWait(event);
+        enrollmentRepository.save(Enrollment.createBy(event, account, accepted));
+        decided(decision, event, account, accepted, false);
         return event;
     }
 
+    //TODO 선착순 자리 확보 ( 실패하면 대기자 )
+    //     1. claimSeat 가 0 이면 모임 행을 잠그고 ( select ... for update ) 한번 더 자리 확보를 시도
+    //      1). 잠금 없이 대기자로 저장하면, 커밋 전에 다른 트랜잭션의 취소 / 정원 증가 ( acceptWaitlist ) 가
+    //          이 신청을 보지 못하고 끝나서 남은 자리가 있는데도 대기자로 남는다
+    //      2). 잠금은 커밋할 때까지 유지되므로 이후의 취소 / 정원 증가는 이 대기자 신청을 보고 참가 확정한다
+    //      3). 잠그는 동안 먼저 끝난 취소가 대기자 없이 자리를 남겼으면 두번째 claimSeat 로 그 자리를 확보
+    private boolean claimSeatOrWait(Event event) {
+        if (eventRepository.claimSeat(event.getId()) == 1) {
+            return true;
+        }
+
+        em.refresh(event, LockModeType.PESSIMISTIC_WRITE);
+        return eventRepository.claimSeat(event.getId()) == 1;
+    }
+
+    //TODO 같은 회원의 신청이 동시에 들어와 ( event_id, account_id ) 유니크 제약으로 커밋이 실패한 경우
+    //     1. 먼저 커밋된 신청이 있으면 중복 신청과 같이 처리 ( 실패한 쪽이 확보한 자리는 함께 롤백됨 )
+    @Transactional(readOnly = true)
+    public Optional<Event> findEnrolledEvent(Long eventId, Account account) {
+        Event event = eventRepository.findWithStudyById(eventId);
+        if (event == null || !enrollmentRepository.existsByEventAndAccount(event, account)) {
+            return Optional.empty();
+        }
+        return Optional.of(event);
+    }
+
+    private static void decided(EnrollmentDecisionEvent decision, Event event, Account account,
+                                boolean accepted, boolean duplicate) {
+        decision.end();
+        if (decision.shouldCommit()) {
+            decision.eventId = event.getId();
+            decision.accountId = account.getId();
+            decision.fcfs = event.isFCFSEnrollment();
+            decision.accepted = accepted;
+            decision.duplicate = duplicate;
+            decision.commit();
+        }
+    }
+
+    //TODO 모임 참가 신청 취소
+    //     1. 참가 확정된 신청이었으면 자리를 반납하고 대기자를 참가 확정
     public Event disEnrollEvent(Long eventId, Account account) {
-        Event event = eventRepository.findWithStudyWithEnrollmentsById(eventId);
-        event.disEnrollEvent(account);
+        Event event = eventRepository.findWithStudyById(eventId);
+        Enrollment enrollment = enrollmentRepository.findByEventAndAccount(event, account);
+        if (enrollment == null) {
+            throw new NoSuchElementException("회원정보가 잘못되었습니다.");
+        }
+
+        enrollmentRepository.delete(enrollment);
+        if (enrollment.isAccepted()) {
+            eventRepository.releaseSeat(eventId);
+            acceptWaitlist(event);
+        }
         return event;
     }
+
+    //TODO 선착순 모임의 대기자를 신청한 순서대로 남은 자리만큼 참가 확정
+    //     1. 모임 행을 잠그고 ( select ... for update ) 최신 정원 / 참가 확정 인원을 다시 읽는다
+    //      1). 동시에 들어온 신청 ( claimSeat ) 과 다른 취소는 이 트랜잭션이 끝날 때까지 대기
+    //      2). 변경된 정원이 먼저 반영되도록 flush 후 refresh
+    //     2. 남은 자리 수만큼만 대기자 id 를 신청 순서로 조회 ( 신청 목록 전체를 읽지 않는다 )
+    //     3. 대기자 참가 확정과 참가 확정 인원 증가를 각각 update 한번으로 처리
+    private void acceptWaitlist(Event event) {
+        if (!event.isFCFSEnrollment()) {
+            return;
+        }
+
+        em.flush();
+        Event lockedEvent = em.find(Event.class, event.getId());
+        em.refresh(lockedEvent, LockModeType.PESSIMISTIC_WRITE);
+
+        int remainSpots = lockedEvent.numberOfRemainSpots();
+        if (remainSpots == 0) {
+            return;
+        }
+
+        List<Long> enrollmentIds = enrollmentRepository.findWaitlistIds(lockedEvent, PageRequest.of(0, remainSpots));
+        if (enrollmentIds.isEmpty()) {
+            return;
+        }
+
+        enrollmentRepository.acceptAll(enrollmentIds);
+        eventRepository.addAcceptedCount(lockedEvent.getId(), enrollmentIds.size());
+    }
 }
@@ -0,0 +1,50 @@
+package com.studyolle.event.form;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+//TODO 모임 목록 키셋 페이징의 위치 ( 마지막으로 보여준 모임의 종료 일시, id )
+//     1. offset 대신 ( end_date_time, id ) 인덱스에서 이 위치 다음부터 읽으므로 뒤 페이지도 조회 비용이 같다
+//     2. 요청 파라미터로는 "종료일시_id" 문자열로 주고 받는다
+@Getter
+@RequiredArgsConstructor
+public class EventCursor {
+
+    private static final String SEPARATOR = "_";
+
+    private final LocalDateTime endDateTime;
+    private final Long id;
+
+    //TODO 첫 페이지 - 기준 시각에서 시작, 기준 시각에 끝나는 모임은 새 모임 / 지난 모임 어디에도 포함하지 않는다
+    //     1. 새 모임 ( id 오름차순 ) -> id > Long.MAX_VALUE 인 모임은 없음
+    //     2. 지난 모임 ( id 내림차순 ) -> id < 0 인 모임은 없음
+    public static EventCursor upcoming(LocalDateTime now) {
+        return new EventCursor(now, Long.MAX_VALUE);
+    }
+
+    public static EventCursor past(LocalDateTime now) {
+        return new EventCursor(now, 0L);
+    }
+
+    //TODO 값이 없거나 잘못된 값이면 첫 페이지 ( first )
+    public static EventCursor parse(String value, EventCursor first) {
+        if (value == null || !value.contains(SEPARATOR)) {
+            return first;
+        }
+
+        int index = value.lastIndexOf(SEPARATOR);
+        try {
+            return new EventCursor(LocalDateTime.parse(value.substring(0, index)), Long.parseLong(value.substring(index + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return first;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return endDateTime + SEPARATOR + id;
+    }
+}
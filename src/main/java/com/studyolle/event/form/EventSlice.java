@@ -0,0 +1,35 @@
+package com.studyolle.event.form;
+
+import lombok.Getter;
+
+import java.util.List;
+
+//TODO 키셋 페이징으로 읽은 모임 목록 한 페이지와 다음 페이지 위치 ( 없으면 null )
+@Getter
+public class EventSlice {
+
+    private final List<EventSummary> events;
+    private final EventCursor next;
+
+    //TODO 한 건 더 읽어서 ( size + 1 ) 다음 페이지가 있는지 판단
+    public static EventSlice of(List<EventSummary> events, int size) {
+        if (events.size() <= size) {
+            return new EventSlice(events, null);
+        }
+        List<EventSummary> page = events.subList(0, size);
+        return new EventSlice(page, page.get(size - 1).toCursor());
+    }
+
+    private EventSlice(List<EventSummary> events, EventCursor next) {
+        this.events = events;
+        this.next = next;
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.studyolle.event.form;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+//TODO 모임 목록 ( study/events.html ) 에 필요한 값만 담는 조회 전용 객체
+//     1. 참가 확정 / 전체 신청 수는 신청 목록을 읽지 않고 쿼리에서 집계 ( EventRepository.findUpcomingSummaries )
+@Getter
+public class EventSummary {
+
+    private final Long id;
+    private final String title;
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endEnrollmentDateTime;
+    private final LocalDateTime endDateTime;
+    private final Integer limitOfEnrollments;
+    private final long acceptedCount;
+    private final long enrollmentCount;
+
+    public EventSummary(Long id, String title, LocalDateTime startDateTime, LocalDateTime endEnrollmentDateTime,
+                        LocalDateTime endDateTime, Integer limitOfEnrollments, Long acceptedCount, Long enrollmentCount) {
+        this.id = id;
+        this.title = title;
+        this.startDateTime = startDateTime;
+        this.endEnrollmentDateTime = endEnrollmentDateTime;
+        this.endDateTime = endDateTime;
+        this.limitOfEnrollments = limitOfEnrollments;
+        this.acceptedCount = acceptedCount == null ? 0 : acceptedCount;
+        this.enrollmentCount = enrollmentCount == null ? 0 : enrollmentCount;
+    }
+
+    public long numberOfRemainSpots() {
+        return limitOfEnrollments == null ? 0 : Math.max(0, limitOfEnrollments - acceptedCount);
+    }
+
+    //TODO 다음 페이지를 이 모임 뒤부터 조회하기 위한 위치
+    public EventCursor toCursor() {
+        return new EventCursor(endDateTime, id);
+    }
+}
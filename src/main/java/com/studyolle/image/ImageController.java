@@ -0,0 +1,58 @@
+package com.studyolle.image;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.PathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+//TODO 프로필 이미지 제공
+//     1. /img/{hash}/{size} 의 내용은 절대 바뀌지 않음
+//      1). 강한 ETag ( "hash-size" ) 와 1년짜리 immutable Cache-Control 을 같이 내려준다
+//      2). If-None-Match 가 일치하면 본문 없이 304 응답
+@Controller
+@RequiredArgsConstructor
+public class ImageController {
+
+    private final ImageStore imageStore;
+
+    @GetMapping("/img/{hash}/{size}")
+    public ResponseEntity<Resource> image(@PathVariable String hash, @PathVariable int size, WebRequest webRequest) {
+        if (!imageStore.isHash(hash) || !imageStore.isSupportedSize(size)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String etag = "\"" + hash + "-" + size + "\"";
+        //TODO 스프링 5.2 의 CacheControl 은 immutable 디렉티브를 지원하지 않아 직접 덧붙인다
+        String cacheControl = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().getHeaderValue() + ", immutable";
+
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                    .build();
+        }
+
+        Path path = imageStore.path(hash, size);
+        if (!Files.exists(path)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                .contentType(MediaType.IMAGE_PNG)
+                .body(new PathResource(path));
+    }
+}
@@ -0,0 +1,180 @@
+package com.studyolle.image;
+
+import com.studyolle.config.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+//TODO 프로필 이미지 저장소
+//     1. 기존에는 크롭된 이미지의 data URL ( base64 ) 을 Account.profileImage 컬럼에 그대로 저장
+//      1). 계정을 로딩할때마다 수백 KB 의 문자열을 같이 읽고, 모든 페이지 HTML 에 인라인으로 포함되는 문제
+//     2. 이미지 바이트의 SHA-256 해시를 키로 사용하는 콘텐츠 주소 기반 저장소로 변경
+//      1). 같은 이미지는 한번만 저장
+//      2). 24 / 64 / 256 px 크기의 PNG 를 미리 만들어 두고 /img/{hash}/{size} 로 제공
+//      3). 해시가 바뀌지 않는 한 내용도 바뀌지 않으므로 브라우저에서 영구 캐싱이 가능
+@Slf4j
+@Component
+public class ImageStore {
+
+    public static final List<Integer> SIZES = Collections.unmodifiableList(Arrays.asList(24, 64, 256));
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("^[0-9a-f]{64}$");
+    private static final String DATA_URL_PREFIX = "data:";
+    private static final String BASE64_MARKER = ";base64,";
+
+    private final Path root;
+
+    public ImageStore(AppProperties appProperties) {
+        this.root = Paths.get(appProperties.getImageDir());
+    }
+
+    //TODO 폼으로 전달된 프로필 이미지 값을 저장 후 해시로 변환
+    //     1. 빈 값 -> null ( 이미지 삭제 )
+    //     2. 이미 해시인 경우 ( 이미지를 변경하지 않고 저장 ) -> 그대로 사용
+    //     3. data URL 인 경우 -> 디코딩 후 저장하고 해시 반환
+    public String resolve(String profileImage) {
+        if (profileImage == null || profileImage.trim().isEmpty()) {
+            return null;
+        }
+
+        if (isHash(profileImage)) {
+            return profileImage;
+        }
+
+        return store(decode(profileImage));
+    }
+
+    //TODO 폼 검증용 ( ProfileValidator ) - resolve 가 예외 없이 처리할 수 있는 값인지
+    //     1. 빈 값 / 해시 -> 그대로 사용 가능
+    //     2. data URL -> base64 디코딩 후 이미지로 읽을 수 있어야 한다
+    public boolean isValid(String profileImage) {
+        if (profileImage == null || profileImage.trim().isEmpty() || isHash(profileImage)) {
+            return true;
+        }
+
+        try {
+            read(decode(profileImage));
+            return true;
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            return false;
+        }
+    }
+
+    public String store(byte[] bytes) {
+        String hash = sha256(bytes);
+
+        if (exists(hash)) {
+            return hash;
+        }
+
+        BufferedImage source = read(bytes);
+        for (Integer size : SIZES) {
+            write(resize(source, size), path(hash, size));
+        }
+        return hash;
+    }
+
+    public Path path(String hash, int size) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash + "_" + size + ".png");
+    }
+
+    public boolean isHash(String value) {
+        return value != null && HASH_PATTERN.matcher(value).matches();
+    }
+
+    public boolean isSupportedSize(int size) {
+        return SIZES.contains(size);
+    }
+
+    private boolean exists(String hash) {
+        for (Integer size : SIZES) {
+            if (!Files.exists(path(hash, size))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] decode(String dataUrl) {
+        if (!dataUrl.startsWith(DATA_URL_PREFIX) || !dataUrl.contains(BASE64_MARKER)) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+        }
+
+        String base64 = dataUrl.substring(dataUrl.indexOf(BASE64_MARKER) + BASE64_MARKER.length());
+        return Base64.getDecoder().decode(base64);
+    }
+
+    private BufferedImage read(byte[] bytes) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+            if (image == null) {
+                throw new IllegalArgumentException("이미지를 읽을 수 없습니다.");
+            }
+            return image;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //TODO 가운데를 기준으로 정사각형으로 자른 뒤 size x size 로 축소
+    private BufferedImage resize(BufferedImage source, int size) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        int x = (source.getWidth() - side) / 2;
+        int y = (source.getHeight() - side) / 2;
+
+        BufferedImage target = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, size, size, x, y, x + side, y + side, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    //TODO 임시 파일에 쓴 뒤 이동시켜 읽는 쪽에서 쓰다만 파일을 보지 않도록 처리
+    private void write(BufferedImage image, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), "img", ".tmp");
+            try {
+                ImageIO.write(image, "png", temp.toFile());
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+                sb.append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
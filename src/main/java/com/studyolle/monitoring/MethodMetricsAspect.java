@@ -0,0 +1,139 @@
+package com.studyolle.monitoring;
+
+import com.studyolle.monitoring.jfr.RepositoryQueryEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+//TODO 서비스 ( @Service ) / 리포지토리 ( Spring Data ) 의 public 메서드 실행 시간
+//     1. studyolle.service / studyolle.repository 타이머 ( class, method, exception 태그 )
+//      1). 호출 수 = 타이머의 count, 실패 수 = exception 태그가 none 이 아닌 타이머의 count
+//      2). 백분위 ( p50 / p99 ) 는 application.properties 의 히스토그램 설정으로 Prometheus 에서 계산
+//     2. 타이머는 ( 클래스, 메서드 ) 마다 한번만 찾아서 보관 -> 호출마다 태그 / Id 를 만들지 않는다
+//     3. 같은 빈 안에서 자기 메서드를 부르는 경우 ( self-invocation ) 는 프록시를 거치지 않으므로 기록되지 않는다
+//     4. 리포지토리 메서드는 JFR 기록 중이면 RepositoryQueryEvent ( 리포지토리, 쿼리 메서드 이름, 결과 행 수 ) 도 남긴다
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MethodMetricsAspect {
+
+    public static final String SERVICE_METRIC = "studyolle.service";
+    public static final String REPOSITORY_METRIC = "studyolle.repository";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Class<?>, Map<Method, MethodTimers>> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * *(..)) && within(@org.springframework.stereotype.Service *)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_METRIC, joinPoint.getTarget().getClass(), joinPoint);
+    }
+
+    @Around("execution(public * *(..)) && this(org.springframework.data.repository.Repository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryQueryEvent event = new RepositoryQueryEvent();
+        event.begin();
+        Object result = time(REPOSITORY_METRIC, joinPoint.getThis().getClass(), joinPoint);
+        event.end();
+        if (event.shouldCommit()) {
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            event.repository = name(REPOSITORY_METRIC, joinPoint.getThis().getClass());
+            event.query = method.getName();
+            event.rows = rows(method, result);
+            event.commit();
+        }
+        return result;
+    }
+
+    private static long rows(Method method, Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Slice) {
+            return ((Slice<?>) result).getNumberOfElements();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        if (result instanceof Number && method.isAnnotationPresent(Modifying.class)) {
+            return ((Number) result).longValue();
+        }
+        return 1;
+    }
+
+    private Object time(String metric, Class<?> type, ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodTimers methodTimers = timers.computeIfAbsent(type, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, key -> new MethodTimers(metric, name(metric, type), key.getName()));
+
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            methodTimers.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            methodTimers.failure(e.getClass()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    //TODO 리포지토리는 JDK 프록시이므로 프록시가 구현한 애플리케이션의 리포지토리 인터페이스 이름을 사용
+    private static String name(String metric, Class<?> type) {
+        if (REPOSITORY_METRIC.equals(metric)) {
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (Repository.class.isAssignableFrom(candidate) && candidate != Repository.class) {
+                    return candidate.getSimpleName();
+                }
+            }
+        }
+        return type.getSimpleName();
+    }
+
+    private class MethodTimers {
+
+        private final String metric;
+        private final String className;
+        private final String methodName;
+        private final Timer success;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+
+        MethodTimers(String metric, String className, String methodName) {
+            this.metric = metric;
+            this.className = className;
+            this.methodName = methodName;
+            this.success = timer(NONE);
+        }
+
+        Timer failure(Class<?> exceptionType) {
+            return failures.computeIfAbsent(exceptionType, key -> timer(key.getSimpleName()));
+        }
+
+        private Timer timer(String exception) {
+            return Timer.builder(metric)
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("exception", exception)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.studyolle.monitoring;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+//TODO HTTP 요청 하나에서 실행한 SQL 통계
+//     1. QueryStatsFilter 가 요청을 시작할 때 현재 스레드에 만들고 끝날 때 제거
+//     2. Hibernate 가 기록 ( JdbcTemplate 등 Hibernate 를 거치지 않는 SQL 은 포함되지 않는다 )
+//      1). 문장 수 / 문장별 실행 횟수 - QueryStatsInspector ( StatementInspector )
+//      2). 읽은 엔티티 수 ( rows ) - QueryStatsInterceptor
+//      3). JDBC 실행 시간 - QueryStatsSessionListener
+//     3. 같은 문장 ( 바인딩 전 SQL ) 이 여러 번 실행되면 N+1 로 의심한다
+public class QueryStats {
+
+    public static final String REQUEST_ATTRIBUTE = QueryStats.class.getName();
+
+    //TODO 요청 하나에서 서로 다른 문장을 너무 많이 들고 있지 않도록 제한
+    private static final int MAX_DISTINCT_STATEMENTS = 1_000;
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> statements = new LinkedHashMap<>();
+    private int statementCount;
+    private long rowCount;
+    private long jdbcNanos;
+
+    public static QueryStats start() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    void statement(String sql) {
+        statementCount++;
+        if (statements.size() < MAX_DISTINCT_STATEMENTS || statements.containsKey(sql)) {
+            statements.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void rowLoaded() {
+        rowCount++;
+    }
+
+    void executed(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getJdbcMillis() {
+        return jdbcNanos / 1_000_000;
+    }
+
+    //TODO threshold 번 이상 실행된 문장과 실행 횟수
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        statements.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+
+    public Map<String, Integer> getStatements() {
+        return Collections.unmodifiableMap(statements);
+    }
+
+    @Override
+    public String toString() {
+        return statementCount + " statements, " + rowCount + " rows, " + getJdbcMillis() + " ms";
+    }
+}
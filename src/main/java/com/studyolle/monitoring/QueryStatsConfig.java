@@ -0,0 +1,32 @@
+package com.studyolle.monitoring;
+
+import com.studyolle.config.AppProperties;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+//TODO 요청별 SQL 통계 설정
+//     1. Hibernate 에 StatementInspector / Interceptor / 세션 이벤트 리스너 등록
+//     2. 시큐리티 필터보다 먼저 QueryStatsFilter 를 실행 ( 로그인 사용자 조회도 포함 )
+@Configuration
+public class QueryStatsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryStatsHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryStatsInspector());
+            properties.put(AvailableSettings.INTERCEPTOR, new QueryStatsInterceptor());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryStatsSessionListener.class.getName());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryStatsFilter> queryStatsFilter(AppProperties appProperties) {
+        FilterRegistrationBean<QueryStatsFilter> registration = new FilterRegistrationBean<>(new QueryStatsFilter(appProperties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,55 @@
+package com.studyolle.monitoring;
+
+import com.studyolle.config.AppProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+
+//TODO 요청마다 SQL 통계 ( QueryStats ) 를 모으고 기준을 넘으면 로그로 남긴다
+//     1. 화면 렌더링 중 지연 로딩 ( OSIV ) 까지 포함하도록 가장 바깥에서 감싼다
+//     2. 문장 수가 app.query-budget 을 넘으면 경고
+//     3. 같은 문장이 app.query-repeat-threshold 번 이상 실행되면 N+1 로 의심하고 문장과 횟수를 경고
+//     4. 결과는 요청 속성 ( QueryStats.REQUEST_ATTRIBUTE ) 으로 남겨서 테스트에서 확인할 수 있게 한다
+@Slf4j
+@RequiredArgsConstructor
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    private final AppProperties appProperties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryStats stats = QueryStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStats.stop();
+            request.setAttribute(QueryStats.REQUEST_ATTRIBUTE, stats);
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryStats stats) {
+        if (stats.getStatementCount() == 0) {
+            return;
+        }
+
+        String uri = request.getMethod() + " " + request.getRequestURI();
+        if (stats.getStatementCount() > appProperties.getQueryBudget()) {
+            log.warn("{} exceeded query budget {}: {}", uri, appProperties.getQueryBudget(), stats);
+        } else {
+            log.debug("{}: {}", uri, stats);
+        }
+
+        for (Map.Entry<String, Integer> repeated : stats.getRepeatedStatements(appProperties.getQueryRepeatThreshold()).entrySet()) {
+            log.warn("{} possible N+1, executed {} times: {}", uri, repeated.getValue(), repeated.getKey());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.studyolle.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+//TODO Hibernate 가 문장을 준비할 때마다 현재 요청의 QueryStats 에 기록 ( SQL 은 바꾸지 않는다 )
+public class QueryStatsInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.statement(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,19 @@
+package com.studyolle.monitoring;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+
+//TODO 결과에서 엔티티를 하나 만들 때마다 현재 요청의 읽은 행 수를 올린다
+public class QueryStatsInterceptor extends EmptyInterceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Serializable id, Object[] state, String[] propertyNames, Type[] types) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.rowLoaded();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,38 @@
+package com.studyolle.monitoring;
+
+import org.hibernate.BaseSessionEventListener;
+
+//TODO 세션마다 하나씩 만들어지는 리스너 ( hibernate.session.events.auto )
+//     1. JDBC 문장 / 배치 실행 시간을 현재 요청의 QueryStats 에 더한다
+public class QueryStatsSessionListener extends BaseSessionEventListener {
+
+    private long start = -1;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        start = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        executed();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        start = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        executed();
+    }
+
+    private void executed() {
+        QueryStats stats = QueryStats.current();
+        if (stats != null && start >= 0) {
+            stats.executed(System.nanoTime() - start);
+        }
+        start = -1;
+    }
+}
@@ -0,0 +1,26 @@
+package com.studyolle.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+//TODO 메일 본문 렌더링 ( EmailDispatcher -> MailTemplateRenderer.renderAll )
+@Name("com.studyolle.EmailRender")
+@Label("Email Render")
+@Category({"Studyolle", "Email"})
+@Description("같은 템플릿을 쓰는 메일들을 렌더링하는데 걸린 시간")
+public class EmailRenderEvent extends Event {
+
+    @Label("Template")
+    public String template;
+
+    @Label("Count")
+    @Description("렌더링한 메일 수")
+    public int count;
+
+    @Label("Length")
+    @Description("렌더링된 본문의 글자 수 ( 합계 )")
+    public long length;
+}
@@ -0,0 +1,21 @@
+package com.studyolle.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+//TODO 메일 배치 전송 ( EmailDispatcher -> EmailService.sendEmails )
+@Name("com.studyolle.EmailSend")
+@Label("Email Send")
+@Category({"Studyolle", "Email"})
+@Description("아웃박스 메일 배치 하나를 전송하는데 걸린 시간")
+public class EmailSendEvent extends Event {
+
+    @Label("Batch Size")
+    public int batchSize;
+
+    @Label("Failures")
+    public int failures;
+}
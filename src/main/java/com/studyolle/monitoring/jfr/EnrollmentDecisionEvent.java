@@ -0,0 +1,30 @@
+package com.studyolle.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+//TODO 모임 참가 신청 처리 ( EventService.enrollEvent ) - 자리 확보 여부 결정까지 걸린 시간
+@Name("com.studyolle.EnrollmentDecision")
+@Label("Enrollment Decision")
+@Category({"Studyolle", "Domain"})
+@Description("모임 참가 신청을 참가 확정 / 대기자 / 중복으로 결정하는데 걸린 시간")
+public class EnrollmentDecisionEvent extends Event {
+
+    @Label("Event Id")
+    public long eventId;
+
+    @Label("Account Id")
+    public long accountId;
+
+    @Label("First Come First Served")
+    public boolean fcfs;
+
+    @Label("Accepted")
+    public boolean accepted;
+
+    @Label("Duplicate")
+    public boolean duplicate;
+}
@@ -0,0 +1,25 @@
+package com.studyolle.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+//TODO 리포지토리 메서드 ( 쿼리 메서드 / @Query ) 하나의 실행 시간과 결과 행 수 ( MethodMetricsAspect )
+//     1. rows - 목록 / Slice 는 요소 수, 단건은 0 또는 1, @Modifying 은 변경된 행 수
+@Name("com.studyolle.RepositoryQuery")
+@Label("Repository Query")
+@Category({"Studyolle", "JPA"})
+@Description("Spring Data 리포지토리 메서드 실행 시간과 결과 행 수")
+public class RepositoryQueryEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Query")
+    public String query;
+
+    @Label("Rows")
+    public long rows;
+}
@@ -0,0 +1,24 @@
+package com.studyolle.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+//TODO 경로로 스터디를 읽은 시간 ( StudyService )
+@Name("com.studyolle.StudyLoad")
+@Label("Study Load")
+@Category({"Studyolle", "Domain"})
+@Description("경로로 스터디 ( 엔티티 / 스냅샷 ) 를 읽는데 걸린 시간")
+public class StudyLoadEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+}
@@ -0,0 +1,26 @@
+package com.studyolle.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+//TODO 자동완성 목록 ( 지역 ) 을 만들고 직렬화한 시간
+@Name("com.studyolle.WhitelistBuild")
+@Label("Whitelist Build")
+@Category({"Studyolle", "Domain"})
+@Description("지역 자동완성 목록을 만들고 직렬화하는데 걸린 시간")
+public class WhitelistBuildEvent extends Event {
+
+    @Label("Kind")
+    public String kind;
+
+    @Label("Entries")
+    public int entries;
+
+    @Label("Serialized Size")
+    @DataAmount(DataAmount.BYTES)
+    public long bytes;
+}
@@ -0,0 +1,80 @@
+package com.studyolle.search;
+
+import com.studyolle.account.CurrentUser;
+import com.studyolle.account.UserAccount;
+import com.studyolle.domain.Study;
+import com.studyolle.search.StudySearchIndex.SortProperty;
+import com.studyolle.study.StudyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.*;
+
+//TODO 스터디 검색
+//     1. 검색은 StudySearchIndex ( 메모리 역색인 ) 에서 하고 데이터베이스에서는 해당 페이지의 스터디만 id 로 조회
+//     2. 정렬 : publishedDateTime ( 기본 ) / memberCount, 모두 내림차순
+@Controller
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final StudySearchIndex studySearchIndex;
+    private final StudyRepository studyRepository;
+
+    @GetMapping("/search/study")
+    public String searchStudy(@CurrentUser UserAccount account,
+                              @RequestParam(defaultValue = "") String keyword,
+                              @PageableDefault(size = 9, sort = "publishedDateTime", direction = Sort.Direction.DESC)
+                                      Pageable pageable,
+                              Model model) {
+        if (account != null) {
+            model.addAttribute("account", account);
+        }
+
+        //TODO page 에는 상한이 없으므로 ( ?page=200000000 ) int 범위를 넘는 offset 은 잘라낸다 -> 빈 페이지
+        String sortProperty = sortProperty(pageable);
+        int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+        StudySearchResult result = studySearchIndex.search(keyword,
+                "memberCount".equals(sortProperty) ? SortProperty.MEMBER_COUNT : SortProperty.PUBLISHED_DATE_TIME,
+                offset, pageable.getPageSize());
+
+        Page<Study> studyPage = new PageImpl<>(findAllInOrder(result.getStudyIds()), pageable, result.getTotal());
+        model.addAttribute("studyPage", studyPage);
+        model.addAttribute("keyword", keyword);
+        model.addAttribute("sortProperty", sortProperty);
+        return "search";
+    }
+
+    private String sortProperty(Pageable pageable) {
+        Iterator<Sort.Order> orders = pageable.getSort().iterator();
+        return orders.hasNext() && "memberCount".equals(orders.next().getProperty()) ? "memberCount" : "publishedDateTime";
+    }
+
+    //TODO findAllById 는 순서를 보장하지 않으므로 검색 결과 순서대로 다시 정렬
+    private List<Study> findAllInOrder(List<Long> studyIds) {
+        if (studyIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Study> studies = new HashMap<>();
+        for (Study study : studyRepository.findAllById(studyIds)) {
+            studies.put(study.getId(), study);
+        }
+
+        List<Study> result = new ArrayList<>(studyIds.size());
+        for (Long studyId : studyIds) {
+            Study study = studies.get(studyId);
+            if (study != null) {
+                result.add(study);
+            }
+        }
+        return result;
+    }
+}
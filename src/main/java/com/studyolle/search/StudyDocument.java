@@ -0,0 +1,55 @@
+package com.studyolle.search;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Locale;
+
+//TODO 검색 색인에 올라가는 스터디 한건
+//     1. 검색 대상 필드 ( 제목, 짧은 소개, 태그, 지역 ) 를 소문자로 바꾼 뒤 줄바꿈으로 이어붙인 text
+//      1). 필드 사이에는 줄바꿈이 들어가므로 두 필드에 걸친 문자열은 검색되지 않는다
+//     2. 정렬에 사용할 공개 일자 / 멤버 수
+@Getter
+public class StudyDocument {
+
+    static final char FIELD_SEPARATOR = '\n';
+
+    private final Long studyId;
+    private final String text;
+    private final long publishedAt;
+    private final long memberCount;
+
+    public StudyDocument(Long studyId, String title, String shortDescription, Collection<String> tags,
+                         Collection<String> zones, LocalDateTime publishedDateTime, long memberCount) {
+        this.studyId = studyId;
+        this.publishedAt = publishedDateTime == null ? 0 : publishedDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        this.memberCount = memberCount;
+
+        StringBuilder text = new StringBuilder();
+        append(text, title);
+        append(text, shortDescription);
+        tags.forEach(tag -> append(text, tag));
+        zones.forEach(zone -> append(text, zone));
+        this.text = text.toString();
+    }
+
+    private static void append(StringBuilder text, String field) {
+        if (field == null || field.isEmpty()) {
+            return;
+        }
+        if (text.length() > 0) {
+            text.append(FIELD_SEPARATOR);
+        }
+        text.append(normalize(field));
+    }
+
+    static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    boolean contains(String term) {
+        return text.contains(term);
+    }
+}
@@ -0,0 +1,384 @@
+package com.studyolle.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+//TODO 스터디 검색 색인 ( 메모리 역색인 )
+//     1. 문서의 text 를 공백 / 필드 구분자로 나눈 단어마다 모든 부분 문자열 ( 최대 MAX_GRAM 글자 ) 을
+//        gram -> 문서 번호 목록 ( posting ) 으로 만든다
+//      1). 검색어 단어에는 공백이 없으므로 "text 가 단어를 포함한다" == "text 의 어떤 단어가 검색어 단어를 포함한다"
+//      2). 따라서 MAX_GRAM 이하의 검색어 단어는 posting 자체가 정확한 결과 -> 기존 LIKE '%keyword%' 와 같은 결과를 전체 스캔 없이 얻는다
+//      3). MAX_GRAM 보다 긴 단어는 MAX_GRAM 길이 조각들의 교집합을 구한 뒤 text.contains 로 확인
+//     2. 검색어는 공백으로 나눠 각 단어를 모두 포함하는 ( AND ) 스터디를 찾는다 -> posting 을 짧은 것부터 교집합
+//     3. 문서 번호는 추가할 때마다 증가 -> posting 은 항상 정렬된 상태로 뒤에만 추가된다
+//      1). 수정 / 삭제는 posting 에서 기존 번호를 지우고 새 번호로 추가
+//      2). 비어있는 번호가 살아있는 문서보다 많아지면 메모리 안에서 다시 만든다 ( compact )
+//     4. 정렬 ( 공개일 / 멤버 수 ) 은 문서 번호로 바로 접근하는 long 배열에서 비교하고
+//        offset + limit 개만 유지하는 힙으로 상위 k 개만 고른다
+//      1). 힙 크기는 min(offset + limit, 후보 수) - 요청한 페이지가 커도 후보 수보다 큰 배열을 만들지 않는다
+//      2). offset 이 결과 수 이상이면 빈 페이지
+//     5. 메모리 / 비용
+//      1). 길이 L 인 단어의 gram 은 최대 L * MAX_GRAM 개 -> 문서 하나의 gram ( posting 항목 ) 은 text 길이 * MAX_GRAM 이하
+//          ( 제목 50 자 + 짧은 소개 100 자 기준 문서당 수천개, 중복 gram 은 하나로 센다 )
+//      2). posting 에서 문서 번호 제거는 배열 복사 ( O(posting 길이) ) - 스터디 수정 / 삭제 한번에 gram 수 * posting 길이
+//          검색보다 훨씬 드문 작업이라 정렬된 배열 ( 교집합 / 메모리 ) 을 유지하는 쪽을 택했다
+@Component
+public class StudySearchIndex {
+
+    public enum SortProperty {
+        PUBLISHED_DATE_TIME, MEMBER_COUNT
+    }
+
+    static final int MAX_GRAM = 10;
+    private static final int MIN_COMPACT_SIZE = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<StudyDocument> documents = new ArrayList<>();
+    private final Map<Long, Integer> documentNumbers = new HashMap<>();
+    private final Map<String, IntList> postings = new HashMap<>();
+    private long[] studyIds = new long[16];
+    private long[] publishedAts = new long[16];
+    private long[] memberCounts = new long[16];
+
+    public void replaceAll(Collection<StudyDocument> newDocuments) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            newDocuments.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(StudyDocument document) {
+        lock.writeLock().lock();
+        try {
+            delete(document.getStudyId());
+            add(document);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long studyId) {
+        lock.writeLock().lock();
+        try {
+            delete(studyId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentNumbers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public StudySearchResult search(String keyword, SortProperty sortProperty, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset / limit must not be negative : " + offset + ", " + limit);
+        }
+        List<String> terms = terms(keyword);
+
+        lock.readLock().lock();
+        try {
+            long[] keys = sortProperty == SortProperty.MEMBER_COUNT ? memberCounts : publishedAts;
+            List<String> unverified = new ArrayList<>();
+            IntList candidates = candidates(terms, unverified);
+
+            int total = 0;
+            int candidateCount = candidates == null ? documents.size() : candidates.size;
+            TopK top = new TopK(keys, (int) Math.min((long) offset + limit, candidateCount));
+            for (int i = 0; i < candidateCount; i++) {
+                int number = candidates == null ? i : candidates.values[i];
+                if (candidates == null && documents.get(number) == null) {
+                    continue;
+                }
+                if (!unverified.isEmpty() && !containsAll(documents.get(number), unverified)) {
+                    continue;
+                }
+
+                total++;
+                top.offer(number);
+            }
+
+            int[] sorted = top.sortedDescending();
+            if (offset >= sorted.length) {
+                return new StudySearchResult(Collections.emptyList(), total);
+            }
+            List<Long> result = new ArrayList<>(sorted.length - offset);
+            for (int i = offset; i < sorted.length; i++) {
+                result.add(studyIds[sorted[i]]);
+            }
+            return new StudySearchResult(result, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<String> terms(String keyword) {
+        List<String> terms = new ArrayList<>();
+        if (keyword == null) {
+            return terms;
+        }
+        for (String term : StudyDocument.normalize(keyword).split("\\s+")) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    //TODO 모든 검색어 단어의 posting 교집합, 검색어가 없으면 null ( 전체 문서 )
+    //     1. MAX_GRAM 보다 긴 단어는 unverified 에 담아서 호출한 쪽에서 contains 로 확인
+    private IntList candidates(List<String> terms, List<String> unverified) {
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        List<IntList> lists = new ArrayList<>();
+        for (String term : terms) {
+            if (term.length() > MAX_GRAM) {
+                unverified.add(term);
+            }
+            for (int i = 0; i + Math.min(term.length(), MAX_GRAM) <= term.length(); i++) {
+                IntList posting = postings.get(term.substring(i, i + Math.min(term.length(), MAX_GRAM)));
+                if (posting == null) {
+                    return new IntList();
+                }
+                lists.add(posting);
+            }
+        }
+
+        lists.sort(Comparator.comparingInt(list -> list.size));
+        IntList result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.size > 0; i++) {
+            if (lists.get(i) != result) {
+                result = intersect(result, lists.get(i));
+            }
+        }
+        return result;
+    }
+
+    private boolean containsAll(StudyDocument document, List<String> terms) {
+        for (String term : terms) {
+            if (!document.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(StudyDocument document) {
+        int number = documents.size();
+        documents.add(document);
+        documentNumbers.put(document.getStudyId(), number);
+
+        if (number == studyIds.length) {
+            studyIds = Arrays.copyOf(studyIds, number * 2);
+            publishedAts = Arrays.copyOf(publishedAts, number * 2);
+            memberCounts = Arrays.copyOf(memberCounts, number * 2);
+        }
+        studyIds[number] = document.getStudyId();
+        publishedAts[number] = document.getPublishedAt();
+        memberCounts[number] = document.getMemberCount();
+
+        for (String gram : grams(document.getText())) {
+            postings.computeIfAbsent(gram, key -> new IntList()).add(number);
+        }
+    }
+
+    private void delete(Long studyId) {
+        Integer number = documentNumbers.remove(studyId);
+        if (number == null) {
+            return;
+        }
+
+        for (String gram : grams(documents.get(number).getText())) {
+            IntList posting = postings.get(gram);
+            posting.remove(number);
+            if (posting.size == 0) {
+                postings.remove(gram);
+            }
+        }
+        documents.set(number, null);
+    }
+
+    private void compactIfNeeded() {
+        int holes = documents.size() - documentNumbers.size();
+        if (holes < MIN_COMPACT_SIZE || holes < documentNumbers.size()) {
+            return;
+        }
+
+        List<StudyDocument> live = new ArrayList<>(documentNumbers.size());
+        for (StudyDocument document : documents) {
+            if (document != null) {
+                live.add(document);
+            }
+        }
+        clear();
+        live.forEach(this::add);
+    }
+
+    private void clear() {
+        documents.clear();
+        documentNumbers.clear();
+        postings.clear();
+    }
+
+    //TODO 문서 text 의 단어별 부분 문자열 ( 최대 MAX_GRAM 글자 )
+    static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        int start = 0;
+        for (int end = 0; end <= text.length(); end++) {
+            if (end < text.length() && !isDelimiter(text.charAt(end))) {
+                continue;
+            }
+            for (int from = start; from < end; from++) {
+                for (int to = from + 1; to <= Math.min(end, from + MAX_GRAM); to++) {
+                    grams.add(text.substring(from, to));
+                }
+            }
+            start = end + 1;
+        }
+        return grams;
+    }
+
+    private static boolean isDelimiter(char c) {
+        return c == StudyDocument.FIELD_SEPARATOR || Character.isWhitespace(c);
+    }
+
+    //TODO 길이 차이가 크면 긴 쪽을 이진 탐색으로 건너뛰며 ( galloping ) 교집합
+    private static IntList intersect(IntList small, IntList large) {
+        IntList result = new IntList();
+        int j = 0;
+        for (int i = 0; i < small.size && j < large.size; i++) {
+            int value = small.values[i];
+            j = gallop(large, j, value);
+            if (j < large.size && large.values[j] == value) {
+                result.add(value);
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private static int gallop(IntList list, int from, int value) {
+        int step = 1;
+        int hi = from;
+        while (hi < list.size && list.values[hi] < value) {
+            from = hi + 1;
+            hi += step;
+            step <<= 1;
+        }
+        int index = Arrays.binarySearch(list.values, from, Math.min(hi + 1, list.size), value);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    //TODO 박싱 없이 문서 번호를 담는 posting ( 오름차순 )
+    private static class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void remove(int value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+            }
+        }
+    }
+
+    //TODO 정렬 키가 큰 순서로 상위 k 개의 문서 번호를 고르는 최소 힙 ( 키가 같으면 스터디 id 가 큰 것 우선 )
+    private class TopK {
+        private final long[] keys;
+        private final int[] heap;
+        private int size;
+
+        TopK(long[] keys, int k) {
+            this.keys = keys;
+            this.heap = new int[k];
+        }
+
+        void offer(int number) {
+            if (size < heap.length) {
+                heap[size] = number;
+                siftUp(size++);
+            } else if (size > 0 && compare(number, heap[0]) > 0) {
+                heap[0] = number;
+                siftDown(0);
+            }
+        }
+
+        int[] sortedDescending() {
+            Integer[] numbers = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                numbers[i] = heap[i];
+            }
+            Arrays.sort(numbers, (a, b) -> compare(b, a));
+            int[] sorted = new int[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = numbers[i];
+            }
+            return sorted;
+        }
+
+        private int compare(int a, int b) {
+            int result = Long.compare(keys[a], keys[b]);
+            return result != 0 ? result : Long.compare(studyIds[a], studyIds[b]);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (compare(heap[index], heap[parent]) >= 0) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = index * 2 + 1;
+                int right = left + 1;
+                if (left < size && compare(heap[left], heap[smallest]) < 0) {
+                    smallest = left;
+                }
+                if (right < size && compare(heap[right], heap[smallest]) < 0) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int temp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = temp;
+        }
+    }
+}
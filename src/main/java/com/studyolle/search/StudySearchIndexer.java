@@ -0,0 +1,80 @@
+package com.studyolle.search;
+
+import com.studyolle.study.StudyChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+//TODO 검색 색인 갱신
+//     1. 애플리케이션 시작 시 공개된 스터디 전체로 색인을 새로 만든다 ( 스터디 id 를 CHUNK_SIZE 개씩 나눠서 조회 )
+//     2. StudyChangedEvent 를 받으면 커밋 후 해당 스터디만 다시 읽어서 색인에 반영
+//      1). 공개되지 않았거나 삭제된 스터디는 색인에서 제거
+//      2). 커밋 후에는 기존 트랜잭션을 사용할 수 없으므로 새 읽기 전용 트랜잭션에서 조회
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudySearchIndexer {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final StudySearchRepository studySearchRepository;
+    private final StudySearchIndex studySearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Long> studyIds = studySearchRepository.findPublishedStudyIds();
+        List<StudyDocument> documents = new ArrayList<>(studyIds.size());
+        for (int from = 0; from < studyIds.size(); from += CHUNK_SIZE) {
+            documents.addAll(load(studyIds.subList(from, Math.min(from + CHUNK_SIZE, studyIds.size()))));
+        }
+
+        studySearchIndex.replaceAll(documents);
+        log.info("study search index rebuilt : {} studies in {} ms", documents.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onStudyChanged(StudyChangedEvent event) {
+        List<StudyDocument> documents = load(Collections.singletonList(event.getStudyId()));
+        if (documents.isEmpty()) {
+            studySearchIndex.remove(event.getStudyId());
+            return;
+        }
+        studySearchIndex.put(documents.get(0));
+    }
+
+    private List<StudyDocument> load(List<Long> studyIds) {
+        Map<Long, List<String>> tags = new HashMap<>();
+        for (Object[] row : studySearchRepository.findTagTitles(studyIds)) {
+            tags.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        Map<Long, List<String>> zones = new HashMap<>();
+        for (Object[] row : studySearchRepository.findZoneNames(studyIds)) {
+            List<String> names = zones.computeIfAbsent((Long) row[0], id -> new ArrayList<>());
+            names.add((String) row[1]);
+            names.add((String) row[2]);
+        }
+
+        List<StudyDocument> documents = new ArrayList<>(studyIds.size());
+        for (Object[] row : studySearchRepository.findPublishedStudies(studyIds)) {
+            Long studyId = (Long) row[0];
+            documents.add(new StudyDocument(studyId, (String) row[1], (String) row[2],
+                    tags.getOrDefault(studyId, Collections.emptyList()),
+                    zones.getOrDefault(studyId, Collections.emptyList()),
+                    (LocalDateTime) row[3],
+                    (Integer) row[4]));
+        }
+        return documents;
+    }
+}
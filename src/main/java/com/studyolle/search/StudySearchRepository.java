@@ -0,0 +1,34 @@
+package com.studyolle.search;
+
+import com.studyolle.domain.Study;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+//TODO 검색 색인을 만들 때 사용하는 조회 전용 쿼리
+//     1. 엔티티를 읽지 않고 색인에 필요한 컬럼만 읽는다
+//     2. 스터디 id 묶음 단위로 조회해서 태그 / 지역을 한번에 가져온다
+@Transactional(readOnly = true)
+public interface StudySearchRepository extends Repository<Study, Long> {
+
+    @Query("select s.id from Study s where s.published = true order by s.id")
+    List<Long> findPublishedStudyIds();
+
+    @Query("select s.id, s.title, s.shortDescription, s.publishedDateTime, s.memberCount from Study s " +
+            "where s.published = true and s.id in :studyIds")
+    List<Object[]> findPublishedStudies(@Param("studyIds") Collection<Long> studyIds);
+
+    @Query("select st.study.id, t.title from StudyTag st " +
+            "join st.tag t " +
+            "where st.study.id in :studyIds")
+    List<Object[]> findTagTitles(@Param("studyIds") Collection<Long> studyIds);
+
+    @Query("select sz.study.id, z.localNameOfCity, z.city from StudyZone sz " +
+            "join sz.zone z " +
+            "where sz.study.id in :studyIds")
+    List<Object[]> findZoneNames(@Param("studyIds") Collection<Long> studyIds);
+}
@@ -0,0 +1,15 @@
+package com.studyolle.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+//TODO 검색 결과 - 요청한 페이지의 스터디 id ( 정렬 순서 ) 와 전체 검색 결과 수
+@Getter
+@RequiredArgsConstructor
+public class StudySearchResult {
+
+    private final List<Long> studyIds;
+    private final long total;
+}
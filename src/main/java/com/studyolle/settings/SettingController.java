@@ -1,17 +1,18 @@
 package com.studyolle.settings;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studyolle.account.AccountService;
 import com.studyolle.account.CurrentUser;
 import com.studyolle.domain.Account;
 import com.studyolle.domain.Tag;
 import com.studyolle.domain.Zone;
 import com.studyolle.tag.TagRepository;
-import com.studyolle.zone.ZoneRepository;
+import com.studyolle.tag.TagService;
+import com.studyolle.tag.TagSuggester;
+import com.studyolle.zone.ZoneCatalog;
 import com.studyolle.settings.form.*;
 import com.studyolle.settings.validator.NicknameFormValidator;
 import com.studyolle.settings.validator.PasswordFormValidator;
+import com.studyolle.settings.validator.ProfileValidator;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
@@ -33,9 +34,10 @@ public class SettingController {
     private final AccountService accountService;
     private final ModelMapper modelMapper;
     private final NicknameFormValidator nicknameFormValidator;
-    private final ObjectMapper objectMapper;
+    private final ProfileValidator profileValidator;
     private final TagRepository tagRepository;
-    private final ZoneRepository zoneRepository;
+    private final TagService tagService;
+    private final ZoneCatalog zoneCatalog;
 
     //TODO 2021.01.17 28. 패스워드 수정
     //     1. 비밀번호 검증 Validator 를 WebDataBinder 에 등록
@@ -50,6 +52,11 @@ public class SettingController {
         webDataBinder.addValidators(nicknameFormValidator);
     }
 
+    @InitBinder("profile")
+    public void initProfileBinder(WebDataBinder webDataBinder) {
+        webDataBinder.addValidators(profileValidator);
+    }
+
     //TODO 2021.01.16 25.프로필 수정
     //     1. 프로필 수정화면으로 이동 요청을 처리하는 핸들러
     //     2. 인증된 유저의 정보 @CurrentUser Account account 와
@@ -72,6 +79,10 @@ public class SettingController {
                                 @CurrentUser Account account, Model model,
                                 RedirectAttributes attributes) {
         if (errors.hasErrors()) {
+            //TODO 잘못된 이미지 값은 화면에 다시 그리지 않고 현재 이미지로 되돌린다
+            if (errors.hasFieldErrors("profileImage")) {
+                profile.setProfileImage(account.getProfileImage());
+            }
             model.addAttribute("account", account);
             return "settings/profile";
         }
@@ -199,7 +210,7 @@ public class SettingController {
     //     2. 기존에 등록한 태그를 유저에게 보여줄 수 있도록 유저가 등록한 태그 조회 후 
     //        태그의 이름을 가지고 리스트로 변환환 후 model 에 담아 함께 전달
     @GetMapping("/settings/tags")
-    public String updateTags(@CurrentUser Account account, Model model) throws JsonProcessingException {
+    public String updateTags(@CurrentUser Account account, Model model) {
         model.addAttribute("account", account);
 
 
@@ -214,12 +225,8 @@ public class SettingController {
         model.addAttribute("tags", tags);
 
         //TODO 2021.01.20 39. 관심주제 자동완성
-        List<String> allTags = tagRepository.findAll().stream()
-                .map(t -> t.getTitle())
-                .collect(Collectors.toList());
-
-        //TODO 2021.01.20 39. 관심주제 자동완성
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allTags));
+        //     1. 태그 목록은 화면에 넣지 않고 자동완성 ( TagSuggester ) 주소만 전달 ( 입력할 때마다 접두어로 조회 )
+        model.addAttribute("whitelist", TagSuggester.SUGGEST_URL);
         return "settings/tags";
     }
 
@@ -230,11 +237,7 @@ public class SettingController {
     public ResponseEntity addTag(@CurrentUser Account account, @RequestBody TagForm tagForm) {
         String title = tagForm.getTagTitle();
 
-        Tag tag = tagRepository.findByTitle(title);
-
-        if(tag == null) {
-            tag = tagRepository.save(Tag.createTag(title));
-        }
+        Tag tag = tagService.getTag(title);
 
         //TODO 2021.01.19 36.관심 주제 등록 뷰
         //     1. 폼에서 Ajax 로 전달된 태그로 조회
@@ -271,17 +274,13 @@ public class SettingController {
     //     3. ZoneService 의 @PostConstruct 에서 등록한 지역정보를 화이트 리스트로 json 형태로 변환하여 폼에 전달
     //      1). List<String> 형식 - Java8 의 stream Api 사용 stream().map().collect()
     @GetMapping("/settings/zones")
-    public String updateZonesForm(@CurrentUser Account account, Model model) throws JsonProcessingException {
+    public String updateZonesForm(@CurrentUser Account account, Model model) {
         model.addAttribute("account", account);
 
         List<String> zoneList = accountService.getZones(account);
 
-        List<String> whiteList = zoneRepository.findAll().stream()
-                .map(z -> z.toString())
-                .collect(Collectors.toList());
-
         model.addAttribute("zones", zoneList);
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(whiteList));
+        model.addAttribute("whitelist", zoneCatalog.getWhitelistJson());
 
         return "settings/zones";
     }
@@ -299,7 +298,7 @@ public class SettingController {
     @PostMapping("/settings/zones/add")
     @ResponseBody
     public ResponseEntity addAccountZone(@CurrentUser Account account, @RequestBody ZoneForm zoneForm) {
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCity(), zoneForm.getProvince());
+        Zone zone = zoneCatalog.findByCityAndProvince(zoneForm.getCity(), zoneForm.getProvince());
 
         if (zone == null) {
             return ResponseEntity.badRequest().build();
@@ -322,10 +321,10 @@ public class SettingController {
     @PostMapping("/settings/zones/remove")
     @ResponseBody
     public ResponseEntity removeAccountZone(@CurrentUser Account account, @RequestBody ZoneForm zoneForm) {
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCity(), zoneForm.getProvince());
+        Zone zone = zoneCatalog.findByCityAndProvince(zoneForm.getCity(), zoneForm.getProvince());
 
         if(zone == null) {
-            ResponseEntity.badRequest().build();
+            return ResponseEntity.badRequest().build();
         }
 
         accountService.removeAccountZone(account, zone);
@@ -0,0 +1,30 @@
+package com.studyolle.settings.validator;
+
+import com.studyolle.image.ImageStore;
+import com.studyolle.settings.form.Profile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+//TODO 프로필 이미지 검증
+//     1. hidden 필드로 넘어오는 값은 사용자가 바꿀 수 있으므로 ImageStore 가 처리할 수 있는 값인지 확인
+//     2. 잘못된 값은 저장 단계에서 예외 ( 500 ) 가 되지 않도록 바인딩 오류로 처리
+@Component
+@RequiredArgsConstructor
+public class ProfileValidator implements Validator {
+    private final ImageStore imageStore;
+
+    @Override
+    public boolean supports(Class<?> aClass) {
+        return Profile.class.isAssignableFrom(aClass);
+    }
+
+    @Override
+    public void validate(Object object, Errors errors) {
+        Profile profile = (Profile)object;
+        if (!imageStore.isValid(profile.getProfileImage())) {
+            errors.rejectValue("profileImage", "wrong.value", "사용할 수 없는 프로필 이미지입니다.");
+        }
+    }
+}
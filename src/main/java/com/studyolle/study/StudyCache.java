@@ -0,0 +1,90 @@
+package com.studyolle.study;
+
+import com.studyolle.config.AppProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+//TODO 스터디 조회 캐시 ( path -> StudySnapshot )
+//     1. 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거 ( LRU )
+//     2. id -> path 색인을 같이 유지해서 스터디 id 만으로 제거할 수 있다
+//      1). 경로 변경 ( updateStudyPath ) 후에도 id 로 이전 경로의 항목을 찾아 제거
+//     3. StudyChangedEvent 를 받으면 즉시 제거하고, 트랜잭션 커밋 후 한번 더 제거
+//      1). 커밋 전에 다른 요청이 이전 값으로 캐시를 다시 채우는 경우를 방지
+//      2). 제거가 일어날 때마다 세대 ( generation ) 를 올리고, 조회를 시작할 때의 세대와 다르면 캐시에 넣지 않는다
+//          -> 조회 도중에 변경이 커밋되어도 이전 값이 캐시에 남지 않는다
+@Component
+public class StudyCache {
+
+    private final Map<String, StudySnapshot> cache;
+    private final Map<Long, String> paths = new HashMap<>();
+    private long generation;
+
+    public StudyCache(AppProperties appProperties) {
+        int maxSize = appProperties.getStudyCacheSize();
+        this.cache = new LinkedHashMap<String, StudySnapshot>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StudySnapshot> eldest) {
+                if (size() > maxSize) {
+                    paths.remove(eldest.getValue().getId());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public StudySnapshot get(String path, Supplier<StudySnapshot> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            StudySnapshot snapshot = cache.get(path);
+            if (snapshot != null) {
+                return snapshot;
+            }
+            loadGeneration = generation;
+        }
+
+        StudySnapshot snapshot = loader.get();
+        synchronized (this) {
+            if (loadGeneration == generation) {
+                cache.put(snapshot.getPath(), snapshot);
+                paths.put(snapshot.getId(), snapshot.getPath());
+            }
+        }
+        return snapshot;
+    }
+
+    public synchronized void evict(Long studyId) {
+        generation++;
+        String path = paths.remove(studyId);
+        if (path != null) {
+            cache.remove(path);
+        }
+    }
+
+    //TODO 전체 제거 ( 테스트처럼 이벤트 없이 스터디를 직접 지운 경우 )
+    public synchronized void clear() {
+        generation++;
+        cache.clear();
+        paths.clear();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    @EventListener
+    public void onStudyChanging(StudyChangedEvent event) {
+        evict(event.getStudyId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudyChanged(StudyChangedEvent event) {
+        evict(event.getStudyId());
+    }
+}
@@ -0,0 +1,14 @@
+package com.studyolle.study;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+//TODO 스터디 변경 이벤트
+//     1. 스터디 정보 ( 제목, 소개, 태그, 지역, 공개 여부, 멤버 등 ) 가 바뀌면 StudyService 가 발행
+//     2. 트랜잭션 커밋 후 검색 색인 등 스터디를 따로 들고 있는 곳에서 갱신하는데 사용
+@Getter
+@RequiredArgsConstructor
+public class StudyChangedEvent {
+
+    private final Long studyId;
+}
@@ -1,6 +1,7 @@
 package com.studyolle.study;
 
 import com.studyolle.account.CurrentUser;
+import com.studyolle.account.UserAccount;
 import com.studyolle.domain.Account;
 import com.studyolle.domain.Study;
 import com.studyolle.domain.StudyManager;
@@ -55,7 +56,7 @@ public class StudyController {
 
     @GetMapping("/study/{path}")
     public String viewStudy(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudyToUpdate(account, path);
+        StudySnapshot study = studyService.getStudySnapshot(path);
 
         model.addAttribute("account", account);
         model.addAttribute("study", study);
@@ -64,7 +65,7 @@ public class StudyController {
     }
 
     @GetMapping("/study/{path}/members")
-    public String showMembers(@CurrentUser Account account, @PathVariable String path , Model model) {
+    public String showMembers(@CurrentUser UserAccount account, @PathVariable String path , Model model) {
         Study study = studyService.findMembers(path);
 
         model.addAttribute("account", account);
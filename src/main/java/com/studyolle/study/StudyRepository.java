@@ -6,6 +6,7 @@ import com.studyolle.domain.StudyMember;
 import com.studyolle.domain.StudyTag;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
@@ -68,4 +69,15 @@ public interface StudyRepository extends JpaRepository<Study, Long> {
             "left outer join fetch sz.zone " +
             "where path = :path")
     Study findStudyZonesByPath(@Param("path") String path);
+
+    //TODO 스터디 멤버 수 증감 - 읽지 않고 update 한번으로 처리 ( 동시에 가입 / 탈퇴해도 누락 없음 )
+    @Modifying
+    @Transactional
+    @Query("update Study s set s.memberCount = s.memberCount + 1 where s.id = :studyId")
+    int incrementMemberCount(@Param("studyId") Long studyId);
+
+    @Modifying
+    @Transactional
+    @Query("update Study s set s.memberCount = s.memberCount - 1 where s.id = :studyId and s.memberCount > 0")
+    int decrementMemberCount(@Param("studyId") Long studyId);
 }
@@ -1,11 +1,14 @@
 package com.studyolle.study;
 
 import com.studyolle.domain.*;
+import com.studyolle.monitoring.jfr.StudyLoadEvent;
 import com.studyolle.study.form.StudyDescriptionForm;
 import com.studyolle.study.form.StudyForm;
 import com.studyolle.study.form.StudyMembersDto;
+import com.studyolle.tag.TagUsageChangedEvent;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +26,8 @@ import java.util.stream.Collectors;
 public class StudyService {
     private final StudyRepository studyRepository;
     private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StudyCache studyCache;
 
     private final EntityManager em;
 
@@ -32,15 +37,17 @@ public class StudyService {
         StudyAccount studyAccount = StudyAccount.createStudyManager(account);
         study.addStudyAccount(studyAccount);
 
-        return studyRepository.save(study);
+        Study newStudy = studyRepository.save(study);
+        changed(newStudy);
+        return newStudy;
     }
     
     public Study getStudyWithManager(Account account, String path) {
+        StudyLoadEvent event = new StudyLoadEvent();
+        event.begin();
         Study study = studyRepository.findStudyAccountsByPath(path);
-        boolean result = study.getStudyAccounts().stream().filter(s -> s.isManager(account))
-                .count() > 0;
-
-        if(!result) {
+        loaded(event, path, "studyWithManager");
+        if(!study.getMembership().isManager(account.getId())) {
             throw new IllegalArgumentException(path + "에 해당하는 스터디가 없습니다.");
         }
 
@@ -55,8 +62,26 @@ public class StudyService {
         return study;
     }
 
+    //TODO 조회 전용 화면에서 사용하는 스터디 스냅샷 ( StudyCache )
+    //     1. 캐시에 없을 때만 스터디와 태그 / 지역 / 멤버 정보를 읽어서 스냅샷을 만든다
+    @Transactional(readOnly = true)
+    public StudySnapshot getStudySnapshot(String path) {
+        StudyLoadEvent event = new StudyLoadEvent();
+        event.begin();
+        event.cacheHit = true;
+        StudySnapshot snapshot = studyCache.get(path, () -> {
+            event.cacheHit = false;
+            return StudySnapshot.of(getStudy(path));
+        });
+        loaded(event, path, "snapshot");
+        return snapshot;
+    }
+
     private Study getStudy(String path) {
+        StudyLoadEvent event = new StudyLoadEvent();
+        event.begin();
         Study study = studyRepository.findByPath(path);
+        loaded(event, path, "study");
         if(study == null) {
             throw new IllegalArgumentException(path + " 에 해당하는 스터디가 없습니다.");
         }
@@ -64,18 +89,24 @@ public class StudyService {
     }
 
     public Study findMembers(String path) {
-        return studyRepository.findStudyAccountsByPath(path);
+        StudyLoadEvent event = new StudyLoadEvent();
+        event.begin();
+        Study study = studyRepository.findStudyAccountsByPath(path);
+        loaded(event, path, "members");
+        return study;
 
 //        return studyRepository.findStudyAndMembersByPath(path);
     }
 
     public void updateToDescription(Study study, StudyDescriptionForm studyDescriptionForm) {
         modelMapper.map(studyDescriptionForm, study);
+        changed(study);
     }
 
     public Study enableBannerImage(String path) {
         Study study = studyRepository.findByPath(path);
         study.setUseBanner(true);
+        changed(study);
 
         return study;
     }
@@ -83,6 +114,7 @@ public class StudyService {
     public Study disableBannerImage(String path) {
         Study study = studyRepository.findByPath(path);
         study.setUseBanner(false);
+        changed(study);
 
         return study;
     }
@@ -90,6 +122,7 @@ public class StudyService {
     public Study updateBannerImage(String path, String image) {
         Study study = getStudy(path);
         study.setImage(image);
+        changed(study);
         return study;
     }
 
@@ -98,12 +131,17 @@ public class StudyService {
 
         StudyTag studyTag = StudyTag.createStudyTag(study, tag);
         study.addStudyTag(studyTag);
+        eventPublisher.publishEvent(new TagUsageChangedEvent(tag.getTitle(), 1));
+        changed(study);
     }
 
     public void removeTag(String path, Tag tag) {
         Study study = studyRepository.findStudyTagsByPath(path);
 
-        study.removeStudyTag(tag);
+        if (study.removeStudyTag(tag)) {
+            eventPublisher.publishEvent(new TagUsageChangedEvent(tag.getTitle(), -1));
+        }
+        changed(study);
     }
 
     public void addZone(String path, Zone zone) {
@@ -111,40 +149,49 @@ public class StudyService {
 
         StudyZone studyZone = StudyZone.createStudyZone(study, zone);
         study.addStudyZone(studyZone);
+        changed(study);
     }
 
     public void removeZone(String path, Zone zone) {
         Study study = studyRepository.findStudyZonesByPath(path);
         study.removeStudyZone(zone);
+        changed(study);
     }
 
     public void publishStudy(Study study) {
         study.publish();
+        changed(study);
     }
 
     public void closeStudy(Study study) {
         study.close();
+        changed(study);
     }
 
     public void startRecruit(Study study) {
         study.startRecruit();
+        changed(study);
     }
 
     public void stopRecruit(Study study) {
         study.stopRecruit();
+        changed(study);
     }
 
     public void updateStudyPath(Study study, String path) {
         study.setPath(path);
+        changed(study);
     }
 
     public void updateStudyTitle(Study study, String newTitle) {
         study.setTitle(newTitle);
+        changed(study);
     }
 
     public void removeStudy(Study study) {
         if(study.isRemovable()) {
             studyRepository.delete(study);
+            changed(study);
             return;
         }
 
@@ -154,9 +201,30 @@ public class StudyService {
     public void joinStudy(Study study, Account account) {
         StudyAccount studyAccount = StudyAccount.createStudyMember(account);
         study.addStudyAccount(studyAccount);
+        em.persist(studyAccount);
+        studyRepository.incrementMemberCount(study.getId());
+        changed(study);
     }
 
     public void leaveStudy(Study study, Account account) {
-        study.leaveAccount(account);
+        if (study.leaveAccount(account)) {
+            studyRepository.decrementMemberCount(study.getId());
+            changed(study);
+        }
+    }
+
+    //TODO JFR 기록 중일 때만 이벤트 필드를 채워서 남긴다 ( 기록하지 않으면 begin / end 외에 비용 없음 )
+    private static void loaded(StudyLoadEvent event, String path, String operation) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.operation = operation;
+            event.commit();
+        }
+    }
+
+    //TODO 커밋 후 검색 색인 등에서 다시 읽어갈 수 있도록 변경 이벤트 발행
+    private void changed(Study study) {
+        eventPublisher.publishEvent(new StudyChangedEvent(study.getId()));
     }
 }
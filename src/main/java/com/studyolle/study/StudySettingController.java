@@ -1,7 +1,5 @@
 package com.studyolle.study;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studyolle.account.CurrentUser;
 import com.studyolle.domain.Account;
 import com.studyolle.domain.Study;
@@ -10,8 +8,8 @@ import com.studyolle.domain.Zone;
 import com.studyolle.study.form.*;
 import com.studyolle.tag.TagRepository;
 import com.studyolle.tag.TagService;
-import com.studyolle.zone.ZoneRepository;
-import com.studyolle.zone.ZoneService;
+import com.studyolle.tag.TagSuggester;
+import com.studyolle.zone.ZoneCatalog;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
@@ -34,15 +32,13 @@ public class StudySettingController {
     private final StudyService studyService;
     private final ModelMapper modelMapper;
     private final TagRepository tagRepository;
-    private final ObjectMapper objectMapper;
-    private final ZoneRepository zoneRepository;
+    private final ZoneCatalog zoneCatalog;
 
     private final TagService tagService;
-    private final ZoneService zoneService;
 
     @GetMapping("/description")
     public String showSettings(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudyToUpdate(account, path);
+        StudySnapshot study = studyService.getStudySnapshot(path);
         model.addAttribute("account", account);
         model.addAttribute("study", study);
         model.addAttribute("studyDescriptionForm", modelMapper.map(study, StudyDescriptionForm.class));
@@ -67,7 +63,7 @@ public class StudySettingController {
 
     @GetMapping("/banner")
     public String viewBannerImage(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudyToUpdate(account, path);
+        StudySnapshot study = studyService.getStudySnapshot(path);
 
         model.addAttribute("account", account);
         model.addAttribute("study", study);
@@ -96,18 +92,16 @@ public class StudySettingController {
     }
 
     @GetMapping("/tags")
-    public String viewTags(@CurrentUser Account account, @PathVariable String path, Model model) throws JsonProcessingException {
-        Study study = studyRepository.findStudyTagsByPath(path);
-
-        List<String> whitelist = tagService.getTagWhiteList();
+    public String viewTags(@CurrentUser Account account, @PathVariable String path, Model model) {
+        StudySnapshot study = studyService.getStudySnapshot(path);
 
-        List<String> tags = study.getStudyTags().stream().map(t -> t.getTag().getTitle())
+        List<String> tags = study.getTags().stream().map(StudySnapshot.TagView::getTitle)
                 .collect(Collectors.toList());
 
         model.addAttribute("account", account);
         model.addAttribute("study", study);
         model.addAttribute("tags", tags);
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(whitelist));
+        model.addAttribute("whitelist", TagSuggester.SUGGEST_URL);
 
         return "study/settings/tags";
     }
@@ -144,19 +138,17 @@ public class StudySettingController {
 
     @GetMapping("/zones")
     public String viewZones(@CurrentUser Account account, Model model,
-                            @PathVariable String path) throws JsonProcessingException {
-        Study study = studyRepository.findStudyZonesByPath(path);
+                            @PathVariable String path) {
+        StudySnapshot study = studyService.getStudySnapshot(path);
 
-        List<String> zones = study.getStudyZones().stream()
-                .map(z -> z.getZone().toString())
+        List<String> zones = study.getZones().stream()
+                .map(StudySnapshot.ZoneView::toString)
                 .collect(Collectors.toList());
 
-        List<String> whitelist = zoneService.getZoneWhiteList();
-
         model.addAttribute("account", account);
         model.addAttribute("study", study);
         model.addAttribute("zones", zones);
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(whitelist));
+        model.addAttribute("whitelist", zoneCatalog.getWhitelistJson());
 
         return "study/settings/zones";
     }
@@ -166,9 +158,9 @@ public class StudySettingController {
     public ResponseEntity addZone(@CurrentUser Account account, @PathVariable String path,
                                   @RequestBody ZoneForm zoneForm) {
 
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCity(), zoneForm.getProvince());
+        Zone zone = zoneCatalog.findByCityAndProvince(zoneForm.getCity(), zoneForm.getProvince());
         if(zone == null) {
-            ResponseEntity.badRequest().build();
+            return ResponseEntity.badRequest().build();
         }
 
         studyService.addZone(path, zone);
@@ -179,7 +171,7 @@ public class StudySettingController {
     @PostMapping("zones/remove")
     public ResponseEntity removeZone(@CurrentUser Account account, @PathVariable String path,
                                      @RequestBody ZoneForm zoneForm) {
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCity(), zoneForm.getProvince());
+        Zone zone = zoneCatalog.findByCityAndProvince(zoneForm.getCity(), zoneForm.getProvince());
 
         if(zone == null) {
             return ResponseEntity.badRequest().build();
@@ -192,7 +184,7 @@ public class StudySettingController {
 
     @GetMapping("/study")
     public String showStudy(@CurrentUser Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudyToUpdate(account, path);
+        StudySnapshot study = studyService.getStudySnapshot(path);
         model.addAttribute("account", account);
         model.addAttribute("study", study);
         return "study/settings/study";
@@ -0,0 +1,138 @@
+package com.studyolle.study;
+
+import com.studyolle.account.UserAccount;
+import com.studyolle.domain.Study;
+import com.studyolle.domain.StudyMembership;
+import com.studyolle.domain.StudyTag;
+import com.studyolle.domain.StudyViewFlags;
+import com.studyolle.domain.StudyZone;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+//TODO 스터디 조회 화면용 불변 스냅샷
+//     1. 스터디 화면 상단 ( 제목, 상태, 태그, 지역, 멤버 수, 가입 / 관리자 여부 ) 과
+//        조회 전용 화면에서 사용하는 값만 엔티티에서 복사
+//     2. 엔티티와 같은 이름의 프로퍼티 / 메소드를 제공하므로 템플릿은 Study 와 StudySnapshot 모두 사용 가능
+//     3. 여러 요청이 동시에 같은 객체를 읽으므로 생성 후 변경되지 않는다
+//     4. 관리자 / 멤버 여부는 엔티티가 만든 구성원 인덱스 ( StudyMembership ) 를 그대로 공유
+@Getter
+public class StudySnapshot {
+
+    private final Long id;
+    private final String path;
+    private final String title;
+    private final String shortDescription;
+    private final String fullDescription;
+    private final String image;
+    private final boolean useBanner;
+    private final boolean published;
+    private final boolean closed;
+    private final boolean recruiting;
+    private final LocalDateTime publishedDateTime;
+    private final LocalDateTime closedDateTime;
+    private final LocalDateTime recruitingUpdateDatetime;
+    private final int memberCount;
+    private final List<TagView> tags;
+    private final List<ZoneView> zones;
+
+    @Getter(AccessLevel.NONE)
+    private final StudyMembership membership;
+
+    private StudySnapshot(Study study) {
+        this.id = study.getId();
+        this.path = study.getPath();
+        this.title = study.getTitle();
+        this.shortDescription = study.getShortDescription();
+        this.fullDescription = study.getFullDescription();
+        this.image = study.getImage();
+        this.useBanner = study.isUseBanner();
+        this.published = study.isPublished();
+        this.closed = study.isClosed();
+        this.recruiting = study.isRecruiting();
+        this.publishedDateTime = study.getPublishedDateTime();
+        this.closedDateTime = study.getClosedDateTime();
+        this.recruitingUpdateDatetime = study.getRecruitingUpdateDatetime();
+        this.memberCount = study.getMemberCount();
+
+        List<TagView> tags = new ArrayList<>();
+        for (StudyTag studyTag : study.getStudyTags()) {
+            tags.add(new TagView(studyTag.getTag().getId(), studyTag.getTag().getTitle()));
+        }
+        this.tags = Collections.unmodifiableList(tags);
+
+        List<ZoneView> zones = new ArrayList<>();
+        for (StudyZone studyZone : study.getStudyZones()) {
+            zones.add(new ZoneView(studyZone.getZone().getId(), studyZone.getZone().getCity(),
+                    studyZone.getZone().getLocalNameOfCity(), studyZone.getZone().getProvince()));
+        }
+        this.zones = Collections.unmodifiableList(zones);
+
+        this.membership = study.getMembership();
+    }
+
+    public static StudySnapshot of(Study study) {
+        return new StudySnapshot(study);
+    }
+
+    public boolean isJoinable(UserAccount userAccount) {
+        return published && recruiting && !membership.contains(userAccount.getId());
+    }
+
+    public boolean isMember(UserAccount userAccount) {
+        return membership.isMember(userAccount.getId());
+    }
+
+    public boolean isManager(UserAccount userAccount) {
+        return membership.isManager(userAccount.getId());
+    }
+
+    public StudyViewFlags viewFlags(Object principal) {
+        return StudyViewFlags.of(membership, published, recruiting, principal);
+    }
+
+    public boolean isRemovable() {
+        return !published && !recruiting;
+    }
+
+    public String getEncodingPath() throws UnsupportedEncodingException {
+        return URLEncoder.encode(this.path, String.valueOf(StandardCharsets.UTF_8));
+    }
+
+    @Getter
+    public static class TagView {
+        private final Long id;
+        private final String title;
+
+        TagView(Long id, String title) {
+            this.id = id;
+            this.title = title;
+        }
+    }
+
+    @Getter
+    public static class ZoneView {
+        private final Long id;
+        private final String city;
+        private final String localNameOfCity;
+        private final String province;
+
+        ZoneView(Long id, String city, String localNameOfCity, String province) {
+            this.id = id;
+            this.city = city;
+            this.localNameOfCity = localNameOfCity;
+            this.province = province;
+        }
+
+        //TODO Zone.toString 과 같은 형식 ( 지역 설정 화면의 Tagify 값 )
+        @Override
+        public String toString() {
+            return String.format("%s(%s)/%s", city, localNameOfCity, province);
+        }
+    }
+}
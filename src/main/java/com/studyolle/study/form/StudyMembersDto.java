@@ -34,16 +34,19 @@ public class StudyMembersDto {
     private List<Account> members;
 
     public boolean isManager(UserAccount userAccount) {
-        return managers.contains(userAccount.getAccount());
+        return contains(managers, userAccount);
     }
 
     public boolean isMember(UserAccount userAccount) {
-        return members.contains(userAccount.getAccount());
+        return contains(members, userAccount);
     }
 
     public boolean isJoinable(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
         return this.isPublished() && this.isRecruiting()
-                && !this.members.contains(account) && !this.managers.contains(account);
+                && !contains(members, userAccount) && !contains(managers, userAccount);
+    }
+
+    private boolean contains(List<Account> accounts, UserAccount userAccount) {
+        return accounts.stream().anyMatch(a -> a.getId().equals(userAccount.getId()));
     }
 }
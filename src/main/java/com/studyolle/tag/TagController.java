@@ -0,0 +1,25 @@
+package com.studyolle.tag;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.List;
+
+//TODO 태그 자동완성 ( TagSuggester )
+//     1. 목록 전체 대신 입력한 접두어로 시작하는 태그만 사용 수가 많은 순서로 limit 개 ( 최대 50 개 )
+@Controller
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagSuggester tagSuggester;
+
+    @GetMapping(TagSuggester.SUGGEST_URL)
+    @ResponseBody
+    public List<String> suggest(@RequestParam(defaultValue = "") String q,
+                                @RequestParam(defaultValue = "" + TagSuggester.DEFAULT_LIMIT) int limit) {
+        return tagSuggester.suggest(q, limit);
+    }
+}
@@ -0,0 +1,139 @@
+package com.studyolle.tag;
+
+import com.studyolle.domain.Tag;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//TODO 태그 이름 -> id 캐시 + 동시에 안전한 get-or-create
+//     1. 처음 사용할 때 한번만 태그 전체의 ( 이름, id ) 를 읽어서 ConcurrentHashMap 에 보관
+//      1). 캐시에 있으면 조회 쿼리 없이 ( id, 이름 ) 만 채운 Tag 를 반환 -> 연관관계 ( AccountTag / StudyTag ) 의 외래키로만 사용
+//     2. 캐시에 없으면 insert 한번으로 만든다 ( id 는 insert 문 안에서 시퀀스로 받고 generated key 로 돌려받음 )
+//      1). 중복 생성을 막는 것은 title 유니크 제약 - 이미 있거나 다른 트랜잭션이 먼저 만들었으면 ( DuplicateKeyException )
+//          그 행의 id 를 읽어서 사용
+//      2). 이름의 해시로 고른 잠금 ( STRIPES 개 ) 은 이 서버 안에서 같은 이름의 insert 를 하나씩 실행할 뿐이다
+//          -. 캐시는 커밋된 뒤에 채워지고 잠금은 커밋 전에 풀리므로, 트랜잭션 안에서는 잠금이 있어도
+//             같은 이름의 insert 가 다시 실행될 수 있다 ( 이때도 1). 의 유니크 제약으로 처리 )
+//      3). 호출한 쪽의 트랜잭션 안이면 커밋된 뒤에 캐시에 넣고 자동완성 ( TagSuggester ) 에 추가한다
+//          -. 롤백된 태그는 캐시에도 자동완성에도 남지 않는다
+//     3. 1). 의 재조회는 실패한 insert 와 같은 트랜잭션에서 실행된다
+//      -. H2 는 실패한 문장이 트랜잭션을 중단시키지 않아서 동작 ( PostgreSQL 처럼 트랜잭션 전체가 중단되는 데이터베이스는 savepoint 필요 )
+@Component
+public class TagRegistry {
+
+    static final int STRIPES = 64;
+
+    private static final String INSERT_SQL =
+            "insert into tag (tag_id, title) values (next value for hibernate_sequence, ?)";
+    private static final String SELECT_ID_SQL = "select tag_id from tag where title = ?";
+
+    private final TagRepository tagRepository;
+    private final TagSuggester tagSuggester;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Object[] locks = new Object[STRIPES];
+    private final Map<String, Long> ids = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public TagRegistry(TagRepository tagRepository, TagSuggester tagSuggester, JdbcTemplate jdbcTemplate) {
+        this.tagRepository = tagRepository;
+        this.tagSuggester = tagSuggester;
+        this.jdbcTemplate = jdbcTemplate;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    //TODO 캐시에서만 찾는다 - 없으면 null ( 쿼리 없음 )
+    public Tag find(String title) {
+        load();
+        Long id = ids.get(title);
+        return id != null ? tag(id, title) : null;
+    }
+
+    //TODO 캐시에 없으면 insert, 이미 누가 만들었으면 그 태그를 반환
+    public Tag insertOrFetch(String title) {
+        load();
+        synchronized (lockFor(title)) {
+            Long id = ids.get(title);
+            if (id == null) {
+                id = insertOrSelect(title);
+                committed(title, id);
+            }
+            return tag(id, title);
+        }
+    }
+
+    private void committed(String title, Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    add(title, id);
+                }
+            });
+            return;
+        }
+        add(title, id);
+    }
+
+    private void add(String title, Long id) {
+        ids.put(title, id);
+        tagSuggester.added(title);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    private Long insertOrSelect(String title) {
+        try {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(INSERT_SQL, new String[]{"tag_id"});
+                statement.setString(1, title);
+                return statement;
+            }, keyHolder);
+            return keyHolder.getKey().longValue();
+        } catch (DuplicateKeyException e) {
+            return jdbcTemplate.queryForObject(SELECT_ID_SQL, Long.class, title);
+        }
+    }
+
+    private void load() {
+        if (!loaded) {
+            loadAll();
+        }
+    }
+
+    private synchronized void loadAll() {
+        if (loaded) {
+            return;
+        }
+        List<Object[]> rows = tagRepository.findAllTitleAndId();
+        for (Object[] row : rows) {
+            ids.putIfAbsent((String) row[0], (Long) row[1]);
+        }
+        loaded = true;
+    }
+
+    private Object lockFor(String title) {
+        int hash = title.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static Tag tag(Long id, String title) {
+        Tag tag = Tag.createTag(title);
+        tag.setId(id);
+        return tag;
+    }
+}
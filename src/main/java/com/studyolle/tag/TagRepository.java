@@ -2,11 +2,24 @@ package com.studyolle.tag;
 
 import com.studyolle.domain.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Transactional(readOnly = true)
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Tag findByTitle(String title);
+
+    //TODO ( 태그 이름, id ) - TagRegistry 캐시를 처음 만들 때 한번만 사용
+    @Query("select t.title, t.id from Tag t")
+    List<Object[]> findAllTitleAndId();
+
+    //TODO 태그별 사용 수 ( 태그 이름, 사용 수 ) - 자동완성 순위 ( TagSuggester ) 를 처음 만들 때 한번만 사용
+    @Query("select t.title, count(at) from AccountTag at join at.tag t group by t.title")
+    List<Object[]> countAccountTagsByTitle();
+
+    @Query("select t.title, count(st) from StudyTag st join st.tag t group by t.title")
+    List<Object[]> countStudyTagsByTitle();
 }
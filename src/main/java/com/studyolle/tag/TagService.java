@@ -4,25 +4,19 @@ import com.studyolle.domain.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 @RequiredArgsConstructor
 public class TagService {
-    private final TagRepository tagRepository;
+    private final TagRegistry tagRegistry;
 
+    //TODO 태그 조회 / 생성 ( TagRegistry )
+    //     1. 캐시에 있으면 쿼리 없이 반환, 없으면 insert 한번 ( 동시에 같은 태그를 추가해도 유니크 제약 오류 없음 )
+    //     2. 새 태그는 커밋된 뒤에 캐시 / 자동완성에 추가된다 ( TagRegistry )
     public Tag getTag(String title) {
-        Tag tag = tagRepository.findByTitle(title);
+        Tag tag = tagRegistry.find(title);
         if(tag == null) {
-            tag = tagRepository.save(Tag.createTag(title));
+            tag = tagRegistry.insertOrFetch(title);
         }
         return tag;
     }
-
-    public List<String> getTagWhiteList() {
-        return tagRepository.findAll().stream()
-                .map(t -> t.getTitle())
-                .collect(Collectors.toList());
-    }
 }
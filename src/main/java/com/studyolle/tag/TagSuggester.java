@@ -0,0 +1,74 @@
+package com.studyolle.tag;
+
+import com.studyolle.domain.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//TODO 태그 자동완성 ( /tags/suggest )
+//     1. 처음 사용할 때 한번만 태그 전체와 태그별 사용 수 ( AccountTag + StudyTag ) 를 읽어서 TagTrie 를 만든다
+//     2. 이후에는 데이터베이스를 읽지 않고 커밋된 변경만 반영
+//      1). 새 태그 - TagRegistry ( 커밋된 뒤에 호출 )
+//      2). 사용 수 증감 - TagUsageChangedEvent ( 계정 / 스터디 태그 추가, 삭제 )
+//     3. 사용 수는 순위를 정하는데만 쓰는 값 -> 처음 읽는 도중에 커밋된 변경이 한번 더 더해지는 정도의 오차는 허용
+@Component
+@RequiredArgsConstructor
+public class TagSuggester {
+
+    public static final String SUGGEST_URL = "/tags/suggest";
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    private final TagRepository tagRepository;
+
+    private final TagTrie trie = new TagTrie();
+    private volatile boolean loaded;
+
+    public List<String> suggest(String prefix, int limit) {
+        //TODO 읽은 뒤에는 lock 없이 volatile 값만 확인 ( 매 입력마다 synchronized 에 들어가지 않도록 )
+        if (!loaded) {
+            load();
+        }
+        return trie.suggest(prefix == null ? "" : prefix, Math.min(Math.max(limit, 1), MAX_LIMIT));
+    }
+
+    private synchronized void load() {
+        if (loaded) {
+            return;
+        }
+
+        Map<String, Integer> scores = new HashMap<>();
+        addScores(scores, tagRepository.countAccountTagsByTitle());
+        addScores(scores, tagRepository.countStudyTagsByTitle());
+        for (Tag tag : tagRepository.findAll()) {
+            trie.add(tag.getTitle(), scores.getOrDefault(tag.getTitle(), 0));
+        }
+        loaded = true;
+    }
+
+    private static void addScores(Map<String, Integer> scores, List<Object[]> counts) {
+        for (Object[] row : counts) {
+            scores.merge((String) row[0], ((Number) row[1]).intValue(), Integer::sum);
+        }
+    }
+
+    //TODO 커밋된 새 태그 등록
+    //     1. 아직 읽지 않았으면 처음 읽을 때 데이터베이스에서 함께 읽히므로 무시
+    //     2. 읽는 중이면 ( load ) 끝날 때까지 기다렸다가 반영 -> 커밋된 새 태그가 빠지지 않는다
+    synchronized void added(String title) {
+        if (loaded) {
+            trie.add(title, 0);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTagUsageChanged(TagUsageChangedEvent event) {
+        if (loaded) {
+            trie.changeScore(event.getTitle(), event.getDelta());
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.studyolle.tag;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+//TODO 태그 자동완성용 압축 트라이 ( radix tree )
+//     1. 키는 소문자로 바꾼 태그 이름, 한 글자씩이 아니라 공통 접두어 단위로 간선을 나눈다
+//     2. 노드마다 하위 트리에서 가장 높은 점수 ( maxScore ) 를 들고 있다
+//      1). 점수 = 태그를 사용하는 AccountTag + StudyTag 수
+//      2). 점수가 오르면 루트까지 올라가며 maxScore 를 올리고, 내리면 그 노드가 최대값이었을 때만 다시 계산
+//     3. 검색은 접두어 노드를 찾은 뒤 maxScore 기준 최선 우선 탐색 -> 하위 트리 전체를 보지 않고 상위 k 개만 꺼낸다
+//     4. 점수가 같으면 짧은 ( 먼저 만나는 ) 태그가 먼저 나온다
+public class TagTrie {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Node root = new Node(null, "");
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    //TODO 태그 추가 - 이미 있으면 점수만 더한다
+    public void add(String title, int score) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(title);
+            if (entry == null) {
+                entry = new Entry(title);
+                entries.put(title, entry);
+                insert(key(title), entry);
+            }
+            changeScore(entry, score);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //TODO 사용 수 증감 - 모르는 태그는 무시 ( 새 태그는 add 로 먼저 들어온다 )
+    public void changeScore(String title, int delta) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(title);
+            if (entry != null) {
+                changeScore(entry, delta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int getScore(String title) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(title);
+            return entry != null ? entry.score : -1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root.children.clear();
+            root.entries.clear();
+            root.maxScore = 0;
+            entries.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //TODO prefix 로 시작하는 태그 중 점수가 높은 순서로 최대 limit 개
+    public List<String> suggest(String prefix, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node start = find(key(prefix));
+            if (start == null) {
+                return Collections.emptyList();
+            }
+
+            List<String> result = new ArrayList<>(Math.min(limit, entries.size()));
+            PriorityQueue<Candidate> queue = new PriorityQueue<>();
+            long order = 0;
+            queue.add(new Candidate(start, null, start.maxScore, order++));
+            while (!queue.isEmpty() && result.size() < limit) {
+                Candidate candidate = queue.poll();
+                if (candidate.entry != null) {
+                    result.add(candidate.entry.title);
+                    continue;
+                }
+                for (Entry entry : candidate.node.entries) {
+                    queue.add(new Candidate(null, entry, entry.score, order++));
+                }
+                for (Node child : candidate.node.children.values()) {
+                    queue.add(new Candidate(child, null, child.maxScore, order++));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String key(String title) {
+        return title.trim().toLowerCase(Locale.ROOT);
+    }
+
+    //TODO prefix 를 모두 소비한 위치의 노드 ( 간선 중간에서 끝나면 그 간선의 아래 노드 )
+    private Node find(String prefix) {
+        Node node = root;
+        int index = 0;
+        while (index < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(index));
+            if (child == null) {
+                return null;
+            }
+            String label = child.label;
+            int common = commonPrefixLength(label, prefix, index);
+            if (index + common == prefix.length()) {
+                return child;
+            }
+            if (common < label.length()) {
+                return null;
+            }
+            index += common;
+            node = child;
+        }
+        return node;
+    }
+
+    private void insert(String key, Entry entry) {
+        Node node = root;
+        int index = 0;
+        while (index < key.length()) {
+            char first = key.charAt(index);
+            Node child = node.children.get(first);
+            if (child == null) {
+                child = new Node(node, key.substring(index));
+                node.children.put(first, child);
+                node = child;
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, key, index);
+            if (common < child.label.length()) {
+                child = split(child, common);
+            }
+            index += common;
+            node = child;
+        }
+        node.entries.add(entry);
+        entry.node = node;
+    }
+
+    //TODO 간선을 at 위치에서 나눠 중간 노드를 만든다
+    private Node split(Node child, int at) {
+        Node parent = child.parent;
+        Node middle = new Node(parent, child.label.substring(0, at));
+        middle.maxScore = child.maxScore;
+        parent.children.put(middle.label.charAt(0), middle);
+
+        child.label = child.label.substring(at);
+        child.parent = middle;
+        middle.children.put(child.label.charAt(0), child);
+        return middle;
+    }
+
+    private void changeScore(Entry entry, int delta) {
+        int oldScore = entry.score;
+        entry.score = Math.max(0, oldScore + delta);
+        if (entry.score > oldScore) {
+            for (Node node = entry.node; node != null && node.maxScore < entry.score; node = node.parent) {
+                node.maxScore = entry.score;
+            }
+        } else if (entry.score < oldScore) {
+            for (Node node = entry.node; node != null && node.maxScore == oldScore; node = node.parent) {
+                node.maxScore = node.computeMaxScore();
+            }
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static class Node {
+        private Node parent;
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        //TODO 소문자로 바꾸면 같아지는 태그 ( Java / java ) 는 같은 노드에 함께 둔다
+        private final List<Entry> entries = new ArrayList<>(1);
+        private int maxScore;
+
+        Node(Node parent, String label) {
+            this.parent = parent;
+            this.label = label;
+        }
+
+        int computeMaxScore() {
+            int max = 0;
+            for (Entry entry : entries) {
+                max = Math.max(max, entry.score);
+            }
+            for (Node child : children.values()) {
+                max = Math.max(max, child.maxScore);
+            }
+            return max;
+        }
+    }
+
+    private static class Entry {
+        private final String title;
+        private Node node;
+        private int score;
+
+        Entry(String title) {
+            this.title = title;
+        }
+    }
+
+    //TODO 우선순위 큐 항목 - 점수 내림차순, 같으면 먼저 넣은 것 ( 얕은 노드 / 태그 ) 부터
+    private static class Candidate implements Comparable<Candidate> {
+        private final Node node;
+        private final Entry entry;
+        private final int score;
+        private final long order;
+
+        Candidate(Node node, Entry entry, int score, long order) {
+            this.node = node;
+            this.entry = entry;
+            this.score = score;
+            this.order = order;
+        }
+
+        @Override
+        public int compareTo(Candidate o) {
+            if (score != o.score) {
+                return Integer.compare(o.score, score);
+            }
+            return Long.compare(order, o.order);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.studyolle.tag;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+//TODO 태그 사용 수 변경 이벤트
+//     1. 계정 / 스터디에 태그를 추가하면 +1, 삭제하면 -1 로 AccountService / StudyService 가 발행
+//     2. 트랜잭션 커밋 후 TagSuggester 가 자동완성 순위에 반영
+@Getter
+@RequiredArgsConstructor
+public class TagUsageChangedEvent {
+
+    private final String title;
+    private final int delta;
+}
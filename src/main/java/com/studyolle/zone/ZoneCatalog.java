@@ -0,0 +1,77 @@
+package com.studyolle.zone;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyolle.domain.Zone;
+import com.studyolle.monitoring.jfr.WhitelistBuildEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+//TODO 지역 정보 카탈로그
+//     1. 지역 정보는 zones_kr.csv 로 한번 저장된 뒤 바뀌지 않으므로 시작할 때 ( ZoneService.initZoneData ) 한번만 읽어서 보관
+//     2. ( city, province ) 로 해시 조회 -> 지역 추가 / 삭제 요청마다 데이터베이스를 조회하지 않는다
+//     3. 자동완성 목록 ( whitelist ) 은 미리 JSON 문자열로 직렬화 ( 걸린 시간은 JFR WhitelistBuildEvent 로 기록 )
+//      -. 지역 설정 화면 ( SettingController / StudySettingController ) 은 getWhitelistJson 을 그대로 사용
+//     4. 보관하는 Zone 은 준영속 엔티티 - 연관 관계 ( AccountZone / StudyZone ) 의 참조로만 사용하고 변경하지 않는다
+@Component
+@RequiredArgsConstructor
+public class ZoneCatalog {
+
+    private final ObjectMapper objectMapper;
+
+    private volatile Zones zones = Zones.EMPTY;
+
+    public void load(List<Zone> zones) {
+        WhitelistBuildEvent event = new WhitelistBuildEvent();
+        event.begin();
+        Zones loaded = new Zones(zones, objectMapper);
+        this.zones = loaded;
+        event.end();
+        if (event.shouldCommit()) {
+            event.kind = "zone";
+            event.entries = loaded.byCityAndProvince.size();
+            event.bytes = loaded.whitelistJson.length();
+            event.commit();
+        }
+    }
+
+    public Zone findByCityAndProvince(String city, String province) {
+        return zones.byCityAndProvince.get(key(city, province));
+    }
+
+    public String getWhitelistJson() {
+        return zones.whitelistJson;
+    }
+
+    public int size() {
+        return zones.byCityAndProvince.size();
+    }
+
+    private static String key(String city, String province) {
+        return city + '\u0000' + province;
+    }
+
+    private static class Zones {
+        private static final Zones EMPTY = new Zones(Collections.emptyList(), new ObjectMapper());
+
+        private final Map<String, Zone> byCityAndProvince;
+        private final String whitelistJson;
+
+        Zones(List<Zone> zones, ObjectMapper objectMapper) {
+            Map<String, Zone> byCityAndProvince = new HashMap<>(zones.size() * 2);
+            List<String> whitelist = new ArrayList<>(zones.size());
+            for (Zone zone : zones) {
+                byCityAndProvince.put(key(zone.getCity(), zone.getProvince()), zone);
+                whitelist.add(zone.toString());
+            }
+            this.byCityAndProvince = byCityAndProvince;
+            try {
+                this.whitelistJson = objectMapper.writeValueAsString(whitelist);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("지역 정보 목록을 직렬화할 수 없습니다.", e);
+            }
+        }
+    }
+}
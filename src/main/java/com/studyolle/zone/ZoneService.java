@@ -1,24 +1,20 @@
 package com.studyolle.zone;
 
-import com.studyolle.domain.Zone;
+import com.studyolle.config.ReferenceDataLoader;
+import com.studyolle.config.ReferenceDataSet;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.annotation.PostConstruct;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ZoneService {
     private final ZoneRepository zoneRepository;
+    private final ZoneCatalog zoneCatalog;
+    private final ReferenceDataLoader referenceDataLoader;
 
     //TODO 2021.01.24 42.지역 정보 도메인
     //     1. 위키피디아의 대한민국 지역정보를 zones_kr.csv 파일로 저장하고
@@ -27,23 +23,11 @@ public class ZoneService {
     //        각 city, localNameOfCity, province 로 저장
     //     3. Spring Ioc Container 가 제공하는 생명주기 인터페이스인 @PostConstruct 를 이용해
     //        ZoneService 스프링 빈이 생성될때 저장하도록 구현
+    //     4. 파일 읽기 / 저장은 ReferenceDataLoader 가 담당 ( 스트리밍, JDBC 배치 upsert, 체크섬이 같으면 건너뜀 )
+    //     5. 저장된 지역 정보를 한번 읽어서 ZoneCatalog 에 보관
     @PostConstruct
-    public void initZoneData() throws IOException {
-        if(zoneRepository.count() == 0) {
-            Resource resource = new ClassPathResource("zones_kr.csv");
-            List<Zone> result = Files.readAllLines(resource.getFile().toPath(), StandardCharsets.UTF_8)
-                    .stream().map(line -> {
-                        String[] split = line.split(",");
-                        return Zone.createZone(split[0], split[1], split[2]);
-
-                    }).collect(Collectors.toList());
-            zoneRepository.saveAll(result);
-        }
-    }
-
-    public List<String> getZoneWhiteList() {
-        return zoneRepository.findAll().stream()
-                .map(z -> z.toString())
-                .collect(Collectors.toList());
+    public void initZoneData() {
+        referenceDataLoader.load(ReferenceDataSet.ZONES);
+        zoneCatalog.load(zoneRepository.findAll());
     }
 }
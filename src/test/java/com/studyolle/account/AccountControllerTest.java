@@ -2,7 +2,7 @@ package com.studyolle.account;
 
 import com.studyolle.account.form.SignUpForm;
 import com.studyolle.domain.Account;
-import com.studyolle.email.EmailMessage;
+import com.studyolle.email.EmailDispatcher;
 import com.studyolle.email.EmailService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,8 +22,10 @@ import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.isNotNull;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.timeout;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.unauthenticated;
@@ -75,6 +77,10 @@ class AccountControllerTest {
     @Autowired
     AccountService accountService;
 
+    //TODO 메일은 아웃박스에 저장된 후 디스패처가 전송하므로 테스트에서는 직접 한번 실행
+    @Autowired
+    EmailDispatcher emailDispatcher;
+
     @AfterEach
     void clear() {
         accountRepository.deleteAll();
@@ -160,7 +166,8 @@ class AccountControllerTest {
         //     아무런 객체를 넣고 메일이 전송됬는지 확인
         //     JavaMailSender 는 개발자가 인터페이스만 관리하고 외부의 서비스를 이용
         //     그렇기 때문에 Mock 객체를 이용해 테스트
-       then(emailService).should().sendEmail(any(EmailMessage.class));
+        emailDispatcher.dispatchBatch();
+        then(emailService).should(timeout(5000)).sendEmails(anyCollection());
     }
 
     //TODO 2021.01.10 - 9.회원가입 패스워드 인코딩
@@ -0,0 +1,64 @@
+package com.studyolle.account;
+
+import com.studyolle.account.form.SignUpForm;
+import com.studyolle.domain.Account;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//TODO loadUserByUsername - 한번의 쿼리 ( 이메일 or 닉네임 ) + UserDetailsCache
+@SpringBootTest
+class LoadUserByUsernameTest {
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    UserDetailsCache userDetailsCache;
+
+    @BeforeEach
+    void setup() {
+        SignUpForm signUpForm = new SignUpForm();
+        signUpForm.setNickname("youngbin");
+        signUpForm.setPassword("12345678");
+        signUpForm.setEmail("yb@email.com");
+        accountService.processNewAccount(signUpForm);
+    }
+
+    @AfterEach
+    void after() {
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("이메일 / 닉네임 어느 쪽으로 조회해도 같은 계정")
+    void 이메일_닉네임_조회() {
+        UserAccount byEmail = (UserAccount) accountService.loadUserByUsername("yb@email.com");
+        UserAccount byNickname = (UserAccount) accountService.loadUserByUsername("youngbin");
+
+        assertThat(byEmail.getId()).isEqualTo(byNickname.getId());
+        assertThat(byNickname.getPassword()).isNotEmpty();
+        assertThat(userDetailsCache.get("yb@email.com").getId()).isEqualTo(byEmail.getId());
+        assertThat(userDetailsCache.get("youngbin").getId()).isEqualTo(byEmail.getId());
+    }
+
+    @Test
+    @DisplayName("닉네임 변경 시 캐시 제거")
+    void 닉네임_변경_캐시_제거() {
+        accountService.loadUserByUsername("youngbin");
+
+        Account account = accountRepository.findByNickname("youngbin");
+        accountService.updateNickname(account, "youngbin2");
+
+        assertThat(userDetailsCache.get("youngbin")).isNull();
+        assertThat(((UserAccount) accountService.loadUserByUsername("youngbin2")).getNickname()).isEqualTo("youngbin2");
+    }
+}
@@ -0,0 +1,70 @@
+package com.studyolle.account;
+
+import com.studyolle.config.AppProperties;
+import com.studyolle.domain.Account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserDetailsCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private UserDetailsCache userDetailsCache;
+
+    @BeforeEach
+    void setup() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setUserDetailsCacheTtlSeconds(60);
+        userDetailsCache = new UserDetailsCache(appProperties, now::get);
+    }
+
+    private UserAccount userAccount(String password) {
+        Account account = Account.createAccount("youngbin", "yb@email.com", password);
+        account.setId(1L);
+        return new UserAccount(account);
+    }
+
+    @Test
+    @DisplayName("사용자 정보 캐시 - 이메일 / 닉네임 두 키")
+    void 이메일_닉네임_키() {
+        assertThat(userDetailsCache.put(userAccount("old"), userDetailsCache.generation())).isTrue();
+
+        assertThat(userDetailsCache.get("yb@email.com").getPassword()).isEqualTo("old");
+        assertThat(userDetailsCache.get("youngbin").getPassword()).isEqualTo("old");
+    }
+
+    //TODO 테스트 목록
+    //     1. 이전 비밀번호를 읽은 로그인 요청이 커밋 후 제거보다 늦게 put 해도 캐시에 남지 않는지
+    @Test
+    @DisplayName("사용자 정보 캐시 - 제거 후 이전 값으로 채우지 않음")
+    void 제거_후_이전_값() {
+        long generation = userDetailsCache.generation();
+        UserAccount stale = userAccount("old");
+
+        userDetailsCache.evict("yb@email.com", "youngbin");
+
+        assertThat(userDetailsCache.put(stale, generation)).isFalse();
+        assertThat(userDetailsCache.get("youngbin")).isNull();
+        assertThat(userDetailsCache.put(userAccount("new"), userDetailsCache.generation())).isTrue();
+        assertThat(userDetailsCache.get("youngbin").getPassword()).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("사용자 정보 캐시 - TTL 만료")
+    void TTL_만료() {
+        userDetailsCache.put(userAccount("old"), userDetailsCache.generation());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        assertThat(userDetailsCache.get("youngbin")).isNotNull();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(userDetailsCache.get("youngbin")).isNull();
+        assertThat(userDetailsCache.get("yb@email.com")).isNull();
+        assertThat(userDetailsCache.size()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,202 @@
+package com.studyolle.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CachingTokenRepositoryTest {
+
+    @Autowired
+    PersistentTokenRepository tokenRepository;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void after() {
+        jdbcTemplate.update("delete from persistent_logins");
+    }
+
+    private String tokenInDatabase(String series) {
+        List<String> tokens = jdbcTemplate.queryForList("select token from persistent_logins where series = ?", String.class, series);
+        return tokens.isEmpty() ? null : tokens.get(0);
+    }
+
+    //TODO 테스트 목록
+    //     1. 토큰 회전은 바로 데이터베이스에 반영되는지 ( 재시작 후에도 쿠키와 일치 )
+    //     2. 한번 읽은 토큰은 데이터베이스를 다시 조회하지 않고 캐시에서 읽는지
+    @Test
+    @DisplayName("토큰 갱신 - 데이터베이스에 바로 반영, 조회는 캐시")
+    void 토큰_갱신() {
+        CachingTokenRepository repository = (CachingTokenRepository) tokenRepository;
+        Date created = new Date(System.currentTimeMillis() - 60_000);
+        repository.createNewToken(new PersistentRememberMeToken("youngbin", "series", "token-0", created));
+
+        Date lastUsed = new Date();
+        repository.updateToken("series", "token-1", lastUsed);
+
+        assertThat(tokenInDatabase("series")).isEqualTo("token-1");
+        assertThat(jdbcTemplate.queryForObject("select last_used from persistent_logins where series = ?",
+                Timestamp.class, "series").getTime()).isEqualTo(lastUsed.getTime());
+
+        jdbcTemplate.update("update persistent_logins set token = ? where series = ?", "changed", "series");
+        assertThat(repository.getTokenForSeries("series").getTokenValue()).isEqualTo("token-1");
+    }
+
+    //TODO 테스트 목록
+    //     1. 토큰 탈취로 판단되어 removeUserTokens 가 호출되면 캐시, 데이터베이스 모두에서 제거되는지
+    @Test
+    @DisplayName("토큰 삭제 - 탈취 감지")
+    void 토큰_삭제() {
+        CachingTokenRepository repository = (CachingTokenRepository) tokenRepository;
+        repository.createNewToken(new PersistentRememberMeToken("youngbin", "series", "token-0", new Date()));
+        repository.updateToken("series", "token-1", new Date());
+
+        repository.removeUserTokens("youngbin");
+
+        assertThat(repository.getTokenForSeries("series")).isNull();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from persistent_logins", Integer.class)).isEqualTo(0);
+    }
+
+    //TODO 테스트 목록
+    //     1. 캐시 크기를 넘겨 계속 밀려나는 ( LRU ) 상태에서 토큰 회전 / 조회가 동시에 일어나도
+    //        조회한 토큰이 항상 마지막으로 회전한 토큰인지 ( 이전 토큰을 읽으면 탈취로 오판 )
+    //     2. 끝난 뒤 캐시와 데이터베이스의 토큰이 같은지
+    @Test
+    @DisplayName("토큰 갱신 - 캐시 제거와 동시에 실행")
+    void 토큰_갱신_동시_실행() throws Exception {
+        CachingTokenRepository repository = new CachingTokenRepository(dataSource, 2);
+        int users = 4;
+        for (int i = 0; i < users; i++) {
+            repository.createNewToken(new PersistentRememberMeToken("user" + i, "series" + i, "token-0", new Date()));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(users + 1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < users; i++) {
+                String series = "series" + i;
+                futures.add(executor.submit(() -> {
+                    for (int n = 1; n <= 1000; n++) {
+                        String token = "token-" + n;
+                        repository.updateToken(series, token, new Date());
+                        assertThat(repository.getTokenForSeries(series).getTokenValue()).isEqualTo(token);
+                    }
+                    return null;
+                }));
+            }
+            Future<?> reader = executor.submit(() -> {
+                while (running.get()) {
+                    for (int i = 0; i < users; i++) {
+                        repository.getTokenForSeries("series" + i);
+                    }
+                }
+                return null;
+            });
+
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+            running.set(false);
+            reader.get(1, TimeUnit.MINUTES);
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < users; i++) {
+            assertThat(tokenInDatabase("series" + i)).isEqualTo("token-1000");
+            assertThat(repository.getTokenForSeries("series" + i).getTokenValue()).isEqualTo("token-1000");
+        }
+    }
+
+    //TODO 테스트 목록
+    //     1. 같은 series 를 두 요청이 동시에 회전해도 캐시와 데이터베이스의 토큰이 같은지
+    @Test
+    @DisplayName("토큰 갱신 - 같은 series 동시 회전")
+    void 같은_series_동시_회전() throws Exception {
+        CachingTokenRepository repository = new CachingTokenRepository(dataSource, 10);
+        repository.createNewToken(new PersistentRememberMeToken("youngbin", "series", "token-0", new Date()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int n = 0; n < 200; n++) {
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                String round = String.valueOf(n);
+                Future<?> a = executor.submit(() -> {
+                    barrier.await();
+                    repository.updateToken("series", "a-" + round, new Date());
+                    return null;
+                });
+                Future<?> b = executor.submit(() -> {
+                    barrier.await();
+                    repository.updateToken("series", "b-" + round, new Date());
+                    return null;
+                });
+                a.get(1, TimeUnit.MINUTES);
+                b.get(1, TimeUnit.MINUTES);
+
+                assertThat(repository.getTokenForSeries("series").getTokenValue()).isEqualTo(tokenInDatabase("series"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    //TODO 테스트 목록
+    //     1. 탈취 감지 ( removeUserTokens ) 와 토큰 회전이 동시에 일어나도 삭제된 series 가 다시 캐시되지 않는지
+    //      1). 캐시에 남으면 데이터베이스에서 지운 series 로 계속 인증된다
+    @Test
+    @DisplayName("토큰 삭제 - 토큰 회전과 동시에 실행")
+    void 토큰_삭제_동시_실행() throws Exception {
+        CachingTokenRepository repository = new CachingTokenRepository(dataSource, 10);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int n = 0; n < 200; n++) {
+                String username = "user" + n;
+                String series = "series" + n;
+                repository.createNewToken(new PersistentRememberMeToken(username, series, "token-0", new Date()));
+
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<?> update = executor.submit(() -> {
+                    barrier.await();
+                    repository.updateToken(series, "token-1", new Date());
+                    repository.getTokenForSeries(series);
+                    return null;
+                });
+                Future<?> remove = executor.submit(() -> {
+                    barrier.await();
+                    repository.removeUserTokens(username);
+                    return null;
+                });
+                update.get(1, TimeUnit.MINUTES);
+                remove.get(1, TimeUnit.MINUTES);
+
+                assertThat(repository.getTokenForSeries(series)).isNull();
+                assertThat(tokenInDatabase(series)).isNull();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
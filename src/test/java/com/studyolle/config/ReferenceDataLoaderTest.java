@@ -0,0 +1,110 @@
+package com.studyolle.config;
+
+import com.studyolle.domain.Zone;
+import com.studyolle.zone.ZoneCatalog;
+import com.studyolle.zone.ZoneRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ReferenceDataLoaderTest {
+
+    private static final int ZONES = 84;
+
+    @Autowired
+    ReferenceDataLoader referenceDataLoader;
+
+    @Autowired
+    ZoneRepository zoneRepository;
+
+    @Autowired
+    ZoneCatalog zoneCatalog;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void after() {
+        zoneRepository.deleteAll(zoneRepository.findAll().stream()
+                .filter(zone -> zone.getCity().equals("Test")).collect(Collectors.toList()));
+        zoneCatalog.load(zoneRepository.findAll());
+    }
+
+    private void changeChecksum() {
+        jdbcTemplate.update("update reference_data_checksum set checksum = 'changed' where name = ?",
+                ReferenceDataSet.ZONES.getResource());
+    }
+
+    //TODO 테스트 목록
+    //     1. 시작할 때 적재한 파일과 체크섬이 같으면 건너뛰는지
+    @Test
+    @DisplayName("기준 데이터 적재 - 체크섬이 같으면 건너뜀")
+    void 기준_데이터_체크섬_같음() {
+        ReferenceDataLoader.Result result = referenceDataLoader.load(ReferenceDataSet.ZONES);
+
+        assertThat(result.isSkipped()).isTrue();
+        assertThat(zoneRepository.count()).isEqualTo(ZONES);
+    }
+
+    //TODO 테스트 목록
+    //     1. 체크섬이 다르면 다시 적재하되 이미 있는 행은 update ( id 유지 )
+    //     2. 없어진 행만 새 id 로 insert
+    @Test
+    @DisplayName("기준 데이터 적재 - upsert")
+    void 기준_데이터_upsert() {
+        Zone seoul = zoneRepository.findByCityAndProvince("Seoul", "none");
+        Zone andong = zoneRepository.findByCityAndProvince("Andong", "North Gyeongsang");
+        zoneRepository.delete(andong);
+        changeChecksum();
+
+        ReferenceDataLoader.Result result = referenceDataLoader.load(ReferenceDataSet.ZONES);
+
+        assertThat(result.isSkipped()).isFalse();
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(ZONES - 1);
+        assertThat(zoneRepository.count()).isEqualTo(ZONES);
+        assertThat(zoneRepository.findByCityAndProvince("Seoul", "none").getId()).isEqualTo(seoul.getId());
+        assertThat(zoneRepository.findByCityAndProvince("Andong", "North Gyeongsang").getLocalNameOfCity()).isEqualTo("안동시");
+        assertThat(referenceDataLoader.load(ReferenceDataSet.ZONES).isSkipped()).isTrue();
+    }
+
+    //TODO 테스트 목록
+    //     1. 적재기가 할당한 id 와 JPA ( pooled-lo ) 가 할당한 id 가 겹치지 않는지
+    @Test
+    @DisplayName("기준 데이터 적재 - id 할당 충돌 없음")
+    void 기준_데이터_id_할당() {
+        zoneRepository.delete(zoneRepository.findByCityAndProvince("Andong", "North Gyeongsang"));
+        changeChecksum();
+        referenceDataLoader.load(ReferenceDataSet.ZONES);
+
+        Zone zone = zoneRepository.save(Zone.createZone("Test", "테스트", "none"));
+
+        assertThat(zoneRepository.count()).isEqualTo(ZONES + 1);
+        assertThat(zone.getId()).isNotEqualTo(zoneRepository.findByCityAndProvince("Andong", "North Gyeongsang").getId());
+    }
+
+    //TODO 테스트 목록
+    //     1. 전용 시퀀스가 생기기 전에 저장된 ( 시퀀스보다 큰 id 의 ) 행이 있으면 시작할 때 시퀀스를 최대 id 뒤로 옮기는지
+    //      1). 개발 DB ( ddl-auto=update ) 에서 zone_seq 가 1 부터 시작해 기존 id 와 겹치는 경우
+    @Test
+    @DisplayName("기준 데이터 적재 - 시퀀스를 최대 id 뒤로 맞춤")
+    void 기준_데이터_시퀀스_맞춤() {
+        long legacyId = 1_000_000L;
+        jdbcTemplate.update("insert into zone (zone_id, city, local_name_of_city, province) values (?, 'Test', '테스트', 'legacy')",
+                legacyId);
+        jdbcTemplate.execute("alter sequence zone_seq restart with 1");
+
+        referenceDataLoader.load(ReferenceDataSet.ZONES);
+
+        Long next = jdbcTemplate.queryForObject("select next value for zone_seq", Long.class);
+        assertThat(next).isGreaterThan(legacyId);
+    }
+}
@@ -0,0 +1,176 @@
+package com.studyolle.config;
+
+import com.studyolle.account.AccountRepository;
+import com.studyolle.domain.Account;
+import com.studyolle.domain.Event;
+import com.studyolle.domain.Study;
+import com.studyolle.enums.EventType;
+import com.studyolle.event.EventService;
+import com.studyolle.event.form.EventForm;
+import com.studyolle.image.ImageStore;
+import com.studyolle.study.StudyRepository;
+import com.studyolle.study.StudyService;
+import com.studyolle.study.form.StudyForm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SchemaBackfillTest {
+
+    @Autowired
+    SchemaBackfill schemaBackfill;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    ImageStore imageStore;
+
+    @Autowired
+    StudyService studyService;
+
+    @Autowired
+    StudyRepository studyRepository;
+
+    @Autowired
+    EventService eventService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void after() {
+        jdbcTemplate.update("delete from enrollment");
+        jdbcTemplate.update("delete from event");
+        jdbcTemplate.update("delete from study_account");
+        studyRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    private Account account(String nickname, String profileImage) {
+        Account account = accountRepository.save(Account.createAccount(nickname, nickname + "@email.com", "12345678"));
+        jdbcTemplate.update("update account set profile_image = ? where account_id = ?", profileImage, account.getId());
+        return account;
+    }
+
+    private String profileImage(Account account) {
+        return jdbcTemplate.queryForObject("select profile_image from account where account_id = ?",
+                String.class, account.getId());
+    }
+
+    private Study study(Account manager, String path) {
+        StudyForm studyForm = new StudyForm();
+        studyForm.setPath(path);
+        studyForm.setTitle(path);
+        studyForm.setShortDescription("짧은 소개");
+        studyForm.setFullDescription("긴 소개");
+        return studyService.createNewStudy(manager, studyForm);
+    }
+
+    private void member(Study study, Account account, long studyAccountId) {
+        jdbcTemplate.update("insert into study_account (study_account_id, study_id, account_id, manager) values (?, ?, ?, false)",
+                studyAccountId, study.getId(), account.getId());
+    }
+
+    private int memberCount(Study study) {
+        return jdbcTemplate.queryForObject("select member_count from study where study_id = ?", Integer.class, study.getId());
+    }
+
+    private Event event(Account account, Study study, int limitOfEnrollments) {
+        EventForm eventForm = new EventForm();
+        eventForm.setTitle("eventTitle");
+        eventForm.setDescription("eventDescription");
+        eventForm.setLimitOfEnrollments(limitOfEnrollments);
+        eventForm.setEventType(EventType.FCFS);
+        eventForm.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        eventForm.setStartDateTime(LocalDateTime.now().plusDays(2));
+        eventForm.setEndDateTime(LocalDateTime.now().plusDays(3));
+        return eventService.createNewEvent(account, study, eventForm);
+    }
+
+    private int acceptedCount(Event event) {
+        return jdbcTemplate.queryForObject("select accepted_count from event where event_id = ?", Integer.class, event.getId());
+    }
+
+    private void forget(String name) {
+        jdbcTemplate.update("delete from schema_backfill where name = ?", name);
+    }
+
+    //TODO 테스트 목록
+    //     1. 예전 data URL 값은 ImageStore 해시로, 읽을 수 없는 값은 기본 아바타 ( null ) 로 바뀌는지
+    //     2. 한번 적용한 백필은 다시 실행하지 않는지
+    @Test
+    @DisplayName("백필 - 프로필 이미지 data URL")
+    void 프로필_이미지_백필() throws Exception {
+        // 예전 ( @Lob ) 컬럼과 같이 긴 값을 넣을 수 있도록
+        jdbcTemplate.execute("alter table account alter column profile_image clob");
+        BufferedImage image = new BufferedImage(80, 60, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        String dataUrl = "data:image/png;base64," + Base64.getEncoder().encodeToString(out.toByteArray());
+
+        Account valid = account("valid", dataUrl);
+        Account broken = account("broken", "data:image/png;base64,aGVsbG8=");
+        forget("account.profile_image-hash");
+
+        schemaBackfill.backfill();
+
+        assertThat(profileImage(valid)).isEqualTo(imageStore.resolve(dataUrl));
+        assertThat(profileImage(broken)).isNull();
+
+        jdbcTemplate.update("update account set profile_image = ? where account_id = ?", dataUrl, valid.getId());
+        schemaBackfill.backfill();
+        assertThat(profileImage(valid)).isEqualTo(dataUrl);
+    }
+
+    //TODO 테스트 목록
+    //     1. member_count 컬럼이 생기기 전에 가입한 멤버 ( 0 으로 남은 값 ) 를 study_account 에서 다시 세는지
+    //      1). 관리자는 세지 않는다
+    @Test
+    @DisplayName("백필 - 스터디 멤버 수")
+    void 스터디_멤버_수_백필() {
+        Account manager = account("manager", null);
+        Study spring = study(manager, "spring");
+        Study java = study(manager, "java");
+        member(spring, account("member1", null), 1_000_001L);
+        member(spring, account("member2", null), 1_000_002L);
+        jdbcTemplate.update("update study set member_count = 0");
+        forget("study.member_count");
+
+        schemaBackfill.backfill();
+
+        assertThat(memberCount(spring)).isEqualTo(2);
+        assertThat(memberCount(java)).isEqualTo(0);
+    }
+
+    //TODO 테스트 목록
+    //     1. accepted_count 컬럼이 생기기 전에 참가 확정된 신청 ( 0 으로 남은 값 ) 을 enrollment 에서 다시 세는지
+    //      1). 0 으로 남아있으면 claimSeat 가 정원을 넘겨 참가 확정한다
+    @Test
+    @DisplayName("백필 - 모임 참가 확정 인원")
+    void 모임_참가_확정_인원_백필() {
+        Account manager = account("manager", null);
+        Event event = event(manager, study(manager, "spring"), 2);
+        eventService.enrollEvent(event.getId(), manager);
+        eventService.enrollEvent(event.getId(), account("member1", null));
+        eventService.enrollEvent(event.getId(), account("member2", null));
+        jdbcTemplate.update("update event set accepted_count = 0");
+        forget("event.accepted_count");
+
+        schemaBackfill.backfill();
+
+        assertThat(acceptedCount(event)).isEqualTo(2);
+    }
+}
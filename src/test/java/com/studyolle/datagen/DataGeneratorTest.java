@@ -0,0 +1,118 @@
+package com.studyolle.datagen;
+
+import com.studyolle.domain.Study;
+import com.studyolle.study.StudyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class DataGeneratorTest {
+
+    @Autowired
+    StudyRepository studyRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    //TODO DataGenerator 는 datagen 프로필에서만 빈으로 등록된다
+    //     1. datagen 프로필을 켜면 DataGeneratorRunner 가 큰 데이터를 만들기 때문에 테스트에서는 직접 생성
+    private DataGenerator dataGenerator;
+
+    @BeforeEach
+    void setup() {
+        dataGenerator = new DataGenerator(jdbcTemplate, transactionManager, passwordEncoder);
+    }
+
+    @AfterEach
+    void after() {
+        dataGenerator.clear("gena");
+        dataGenerator.clear("genb");
+    }
+
+    private DataSetSpec spec(String prefix) {
+        DataSetSpec spec = DataSetSpec.small();
+        spec.setPrefix(prefix);
+        spec.setSeed(7);
+        spec.setNow(LocalDateTime.of(2021, 3, 1, 0, 0));
+        return spec;
+    }
+
+    private long count(String sql, String prefix) {
+        return jdbcTemplate.queryForObject(sql, Long.class, prefix + "-%");
+    }
+
+    private List<Integer> memberCounts(String prefix) {
+        return jdbcTemplate.queryForList("select member_count from study where path like ? order by study_id",
+                Integer.class, prefix + "-%");
+    }
+
+    //TODO 테스트 목록
+    //     1. 지정한 수 만큼 회원 / 스터디 / 멤버 / 모임 / 참가 신청이 만들어지는지
+    //     2. member_count / accepted_count 가 실제 행과 맞는지
+    //     3. 스터디 크기가 Zipf 로 치우쳐 있는지 ( 가장 큰 스터디가 평균의 5배 이상 )
+    //     4. 리포지토리 쿼리로 만든 데이터를 읽을 수 있는지
+    @Test
+    @DisplayName("대량 데이터 생성")
+    void 데이터_생성() {
+        DataSetSpec spec = spec("gena");
+
+        DataGenerator.Result result = dataGenerator.generate(spec);
+
+        assertThat(result.getRows().get("account")).isEqualTo((long) spec.getAccounts());
+        assertThat(result.getRows().get("study_account")).isEqualTo(spec.getStudies() + spec.getMemberships());
+        assertThat(result.getRows().get("enrollment")).isEqualTo(spec.getEnrollments());
+        assertThat(count("select count(*) from account where nickname like ?", "gena")).isEqualTo(spec.getAccounts());
+        assertThat(count("select count(*) from study where path like ?", "gena")).isEqualTo(spec.getStudies());
+        assertThat(count("select count(*) from event e join study s on e.study_id = s.study_id where s.path like ?", "gena"))
+                .isEqualTo(spec.getEvents());
+
+        assertThat(count("select count(*) from study s where s.path like ? and s.member_count <> " +
+                "(select count(*) from study_account sa where sa.study_id = s.study_id and sa.manager = false)", "gena"))
+                .isEqualTo(0);
+        assertThat(count("select count(*) from event e join study s on e.study_id = s.study_id where s.path like ? " +
+                "and (e.accepted_count > e.limit_of_enrollments or e.accepted_count <> " +
+                "(select count(*) from enrollment en where en.event_id = e.event_id and en.accepted = true))", "gena"))
+                .isEqualTo(0);
+
+        int largest = memberCounts("gena").stream().mapToInt(Integer::intValue).max().getAsInt();
+        assertThat(largest).isGreaterThan((int) (spec.getMemberships() / spec.getStudies() * 5));
+
+        String path = jdbcTemplate.queryForObject("select path from study where path like ? order by member_count desc limit 1",
+                String.class, "gena-%");
+        Study study = studyRepository.findStudyAccountsByPath(path);
+        assertThat(study.getStudyAccounts().size()).isEqualTo(largest + 1);
+    }
+
+    //TODO 테스트 목록
+    //     1. 같은 seed 면 prefix 가 달라도 같은 분포의 데이터가 만들어지는지
+    @Test
+    @DisplayName("대량 데이터 생성 - seed 로 재현")
+    void 데이터_생성_재현() {
+        dataGenerator.generate(spec("gena"));
+        dataGenerator.generate(spec("genb"));
+
+        assertThat(memberCounts("genb")).isEqualTo(memberCounts("gena"));
+        assertThat(count("select count(*) from enrollment en join account a on en.account_id = a.account_id " +
+                "where a.nickname like ? and en.attended = true", "genb"))
+                .isEqualTo(count("select count(*) from enrollment en join account a on en.account_id = a.account_id " +
+                        "where a.nickname like ? and en.attended = true", "gena"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.studyolle.datagen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+//TODO Zipf 분포 테스트
+//     1. 순위별 확률 ( 1 / k ) 과 표본의 빈도가 비슷한지
+//     2. distribute 가 정확히 total 개를 cap 을 넘지 않게 나누는지
+class ZipfTest {
+
+    @Test
+    @DisplayName("Zipf 표본 추출")
+    void 표본_추출() {
+        Zipf zipf = new Zipf(100, 1.0);
+        SplittableRandom random = new SplittableRandom(42);
+        int[] counts = new int[zipf.size()];
+        int samples = 1_000_000;
+        for (int i = 0; i < samples; i++) {
+            counts[zipf.sample(random)]++;
+        }
+
+        assertThat(zipf.probability(0) / zipf.probability(1)).isCloseTo(2.0, offset(1e-9));
+        for (int rank : new int[]{0, 1, 9, 99}) {
+            assertThat((double) counts[rank] / samples)
+                    .isCloseTo(zipf.probability(rank), offset(0.005));
+        }
+    }
+
+    @Test
+    @DisplayName("Zipf 개수 나누기")
+    void 개수_나누기() {
+        Zipf zipf = new Zipf(1_000, 1.0);
+
+        int[] counts = zipf.distribute(123_457, Integer.MAX_VALUE);
+        assertThat(Arrays.stream(counts).asLongStream().sum()).isEqualTo(123_457);
+        assertThat(counts[0]).isGreaterThan(counts[1]).isGreaterThan(counts[999]);
+
+        int[] capped = zipf.distribute(50_000, 100);
+        assertThat(Arrays.stream(capped).asLongStream().sum()).isEqualTo(50_000);
+        assertThat(Arrays.stream(capped).max().getAsInt()).isEqualTo(100);
+
+        int[] full = zipf.distribute(200_000, 100);
+        assertThat(Arrays.stream(full).allMatch(count -> count == 100)).isTrue();
+    }
+}
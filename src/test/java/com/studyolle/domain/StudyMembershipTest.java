@@ -0,0 +1,83 @@
+package com.studyolle.domain;
+
+import com.studyolle.account.UserAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//TODO 스터디 구성원 인덱스 테스트
+//     1. 관리자 / 멤버 / 가입하지 않은 사용자 / 로그인하지 않은 사용자의 화면 표시 여부
+//     2. 가입 / 탈퇴 후 인덱스가 다시 만들어지는지
+//     ( 처리량은 benchmarks 모듈의 StudyBenchmark 에서 측정 )
+class StudyMembershipTest {
+
+    private static final int MEMBERS = 5_000;
+
+    Study study;
+
+    @BeforeEach
+    void setup() {
+        study = new Study();
+        study.setPublished(true);
+        study.setRecruiting(true);
+        study.addStudyAccount(StudyAccount.createStudyManager(account(1L)));
+        for (long id = 2; id <= MEMBERS; id++) {
+            study.addStudyAccount(StudyAccount.createStudyMember(account(id)));
+        }
+    }
+
+    private Account account(Long id) {
+        Account account = new Account();
+        account.setId(id);
+        account.setNickname("youngbin" + id);
+        account.setPassword("12345678");
+        return account;
+    }
+
+    private UserAccount userAccount(Long id) {
+        return new UserAccount(account(id));
+    }
+
+    @Test
+    @DisplayName("스터디 화면 표시 여부 - 관리자 / 멤버 / 비회원")
+    void 스터디_화면_표시_여부() {
+        StudyViewFlags manager = study.viewFlags(userAccount(1L));
+        assertThat(manager.isManager()).isTrue();
+        assertThat(manager.isMember()).isFalse();
+        assertThat(manager.isJoinable()).isFalse();
+
+        StudyViewFlags member = study.viewFlags(userAccount(MEMBERS - 1L));
+        assertThat(member.isManager()).isFalse();
+        assertThat(member.isMember()).isTrue();
+        assertThat(member.isJoinable()).isFalse();
+
+        StudyViewFlags stranger = study.viewFlags(userAccount(MEMBERS + 1L));
+        assertThat(stranger.isManager()).isFalse();
+        assertThat(stranger.isMember()).isFalse();
+        assertThat(stranger.isJoinable()).isTrue();
+
+        StudyViewFlags anonymous = study.viewFlags("anonymousUser");
+        assertThat(anonymous.isManager()).isFalse();
+        assertThat(anonymous.isJoinable()).isFalse();
+
+        study.setRecruiting(false);
+        assertThat(study.viewFlags(userAccount(MEMBERS + 1L)).isJoinable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("스터디 구성원 인덱스 - 가입 / 탈퇴 후 갱신")
+    void 스터디_구성원_갱신() {
+        Long accountId = MEMBERS + 1L;
+        assertThat(study.isMember(userAccount(accountId))).isFalse();
+
+        study.addStudyAccount(StudyAccount.createStudyMember(account(accountId)));
+        assertThat(study.isMember(userAccount(accountId))).isTrue();
+        assertThat(study.getMembership().getMemberCount()).isEqualTo(MEMBERS);
+
+        assertThat(study.leaveAccount(account(accountId))).isTrue();
+        assertThat(study.isMember(userAccount(accountId))).isFalse();
+        assertThat(study.getMembership().getMemberCount()).isEqualTo(MEMBERS - 1);
+    }
+}
@@ -0,0 +1,217 @@
+package com.studyolle.email;
+
+import com.studyolle.config.AppProperties;
+import com.studyolle.domain.EmailOutbox;
+import com.studyolle.enums.EmailOutboxStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class EmailDispatcherTest {
+
+    private EmailOutboxRepository emailOutboxRepository;
+    private EmailDispatchStats emailDispatchStats;
+    private AppProperties appProperties;
+
+    @BeforeEach
+    void setup() {
+        emailOutboxRepository = mock(EmailOutboxRepository.class);
+        emailDispatchStats = new EmailDispatchStats(emailOutboxRepository);
+        appProperties = new AppProperties();
+        appProperties.setMailMaxAttempts(5);
+        appProperties.setMailBackoffSeconds(30);
+        appProperties.setMailMaxBackoffSeconds(100);
+    }
+
+    //TODO SpringTemplateEngine 의 기본 템플릿 리졸버 ( StringTemplateResolver ) 는 템플릿 이름을 템플릿 내용으로 사용
+    private EmailDispatcher emailDispatcher(EmailService emailService) {
+        return new EmailDispatcher(emailOutboxRepository, emailService, new MailTemplateRenderer(new SpringTemplateEngine()),
+                emailDispatchStats, appProperties, mock(PlatformTransactionManager.class));
+    }
+
+    private EmailOutbox emailOutbox(long id, String to) {
+        EmailMessage emailMessage = new EmailMessage();
+        emailMessage.setTo(to);
+        emailMessage.setSubject("스터디올래 회원 가입 인증");
+        emailMessage.setMessage("message");
+        EmailOutbox emailOutbox = EmailOutbox.createBy(emailMessage);
+        ReflectionTestUtils.setField(emailOutbox, "id", id);
+        return emailOutbox;
+    }
+
+    private EmailOutbox templated(long id, String to, String template, String nickname) {
+        EmailMessage emailMessage = new EmailMessage();
+        emailMessage.setTo(to);
+        emailMessage.setSubject("스터디올래, 로그인 링크");
+        EmailOutbox emailOutbox = EmailOutbox.createBy(emailMessage, template, Collections.singletonMap("nickname", nickname));
+        ReflectionTestUtils.setField(emailOutbox, "id", id);
+        return emailOutbox;
+    }
+
+    //TODO 디스패처의 선점 조회가 batch 를 반환하고, 결과 반영 ( claimToken 확인 ) 은 성공하도록
+    private void due(EmailOutbox... emailOutboxes) {
+        List<EmailOutbox> batch = Arrays.asList(emailOutboxes);
+        List<Long> ids = batch.stream().map(EmailOutbox::getId).collect(Collectors.toList());
+        given(emailOutboxRepository.findDueIds(anyList(), any(), any())).willReturn(ids);
+        given(emailOutboxRepository.findByClaimToken(anyString())).willReturn(batch);
+        given(emailOutboxRepository.complete(any(), any())).willReturn(1);
+    }
+
+    //TODO 테스트 목록
+    //     1. 전송에 실패할 때마다 다음 시도 시각이 지수 백오프 ( 30, 60, 120 -> 최대 100 초 ) 만큼 뒤로 밀리는지
+    //     2. 최대 시도 횟수 ( 5 ) 에 도달하면 DEAD 로 바뀌고 더이상 다음 시도 시각이 바뀌지 않는지
+    //     3. 실패 / dead-letter 누적 횟수
+    @Test
+    @DisplayName("이메일 디스패처 - 전송 실패 재시도 / dead-letter")
+    void 전송_실패_재시도() {
+        EmailOutbox emailOutbox = emailOutbox(1L, "youngbin@email.com");
+        due(emailOutbox);
+        EmailDispatcher emailDispatcher = emailDispatcher(emailMessage -> {
+            throw new MailSendException("smtp server is down");
+        });
+
+        long[] delays = {30, 60, 100, 100};
+        for (int attempt = 1; attempt <= delays.length; attempt++) {
+            LocalDateTime before = LocalDateTime.now();
+            assertThat(emailDispatcher.dispatchBatch()).isEqualTo(1);
+            LocalDateTime after = LocalDateTime.now();
+
+            assertThat(emailOutbox.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+            assertThat(emailOutbox.getAttempts()).isEqualTo(attempt);
+            assertThat(emailOutbox.getNextAttemptAt())
+                    .isAfterOrEqualTo(before.plusSeconds(delays[attempt - 1]))
+                    .isBeforeOrEqualTo(after.plusSeconds(delays[attempt - 1]));
+            assertThat(emailOutbox.getLastError()).isEqualTo("smtp server is down");
+            assertThat(emailOutbox.getClaimToken()).isNull();
+        }
+
+        LocalDateTime lastNextAttemptAt = emailOutbox.getNextAttemptAt();
+        emailDispatcher.dispatchBatch();
+
+        assertThat(emailOutbox.getStatus()).isEqualTo(EmailOutboxStatus.DEAD);
+        assertThat(emailOutbox.getAttempts()).isEqualTo(5);
+        assertThat(emailOutbox.getNextAttemptAt()).isEqualTo(lastNextAttemptAt);
+        assertThat(emailDispatchStats.getFailed()).isEqualTo(5);
+        assertThat(emailDispatchStats.getDead()).isEqualTo(1);
+        assertThat(emailDispatchStats.getSent()).isEqualTo(0);
+    }
+
+    //TODO 테스트 목록
+    //     1. 배치 중 일부만 실패하면 실패한 메일만 다시 시도하고 나머지는 SENT
+    @Test
+    @DisplayName("이메일 디스패처 - 배치 일부 실패")
+    void 배치_일부_실패() {
+        EmailOutbox sent = emailOutbox(1L, "youngbin@email.com");
+        EmailOutbox failed = emailOutbox(2L, "unknown@email.com");
+        due(sent, failed);
+        EmailDispatcher emailDispatcher = emailDispatcher(emailMessage -> {
+            if (emailMessage.getTo().equals("unknown@email.com")) {
+                throw new MailSendException("mailbox unavailable");
+            }
+        });
+
+        assertThat(emailDispatcher.dispatchBatch()).isEqualTo(2);
+
+        assertThat(sent.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(sent.getSentAt()).isNotNull();
+        assertThat(failed.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).isEqualTo("mailbox unavailable");
+        assertThat(emailDispatchStats.getSent()).isEqualTo(1);
+        assertThat(emailDispatchStats.getFailed()).isEqualTo(1);
+        assertThat(emailDispatchStats.getDead()).isEqualTo(0);
+    }
+
+    //TODO 테스트 목록
+    //     1. 연결 실패처럼 배치 전체가 실패하면 ( failedMessages 가 없는 예외 ) 모든 메일을 다시 시도
+    @Test
+    @DisplayName("이메일 디스패처 - 배치 전체 실패")
+    void 배치_전체_실패() {
+        EmailOutbox first = emailOutbox(1L, "youngbin@email.com");
+        EmailOutbox second = emailOutbox(2L, "kim@email.com");
+        due(first, second);
+        EmailDispatcher emailDispatcher = emailDispatcher(new EmailService() {
+            @Override
+            public void sendEmail(EmailMessage emailMessage) {
+            }
+
+            @Override
+            public void sendEmails(Collection<EmailMessage> emailMessages) {
+                throw new MailSendException("connection refused");
+            }
+        });
+
+        emailDispatcher.dispatchBatch();
+
+        assertThat(first.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(second.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(second.getLastError()).isEqualTo("connection refused");
+        assertThat(emailDispatchStats.getFailed()).isEqualTo(2);
+        assertThat(emailDispatchStats.getSent()).isEqualTo(0);
+    }
+
+    //TODO 테스트 목록
+    //     1. 템플릿으로 저장된 메일은 전송할 때 템플릿별로 렌더링되는지
+    //     2. 본문이 저장된 메일과 한 배치에 섞여도 모두 전송되는지
+    @Test
+    @DisplayName("이메일 디스패처 - 템플릿 메일 렌더링")
+    void 템플릿_메일_렌더링() {
+        String hello = "<p th:text=\"${nickname}\">nickname</p>";
+        String bye = "<b th:text=\"${nickname}\">nickname</b>";
+        EmailOutbox first = templated(1L, "youngbin@email.com", hello, "youngbin");
+        EmailOutbox second = templated(2L, "kim@email.com", bye, "kim");
+        EmailOutbox third = templated(3L, "lee@email.com", hello, "lee");
+        EmailOutbox plain = emailOutbox(4L, "park@email.com");
+        due(first, second, third, plain);
+
+        Map<String, String> sent = new HashMap<>();
+        EmailDispatcher emailDispatcher = emailDispatcher(emailMessage -> sent.put(emailMessage.getTo(), emailMessage.getMessage()));
+
+        assertThat(emailDispatcher.dispatchBatch()).isEqualTo(4);
+
+        assertThat(sent.get("youngbin@email.com")).isEqualTo("<p>youngbin</p>");
+        assertThat(sent.get("kim@email.com")).isEqualTo("<b>kim</b>");
+        assertThat(sent.get("lee@email.com")).isEqualTo("<p>lee</p>");
+        assertThat(sent.get("park@email.com")).isEqualTo("message");
+        assertThat(first.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(emailDispatchStats.getSent()).isEqualTo(4);
+    }
+
+    //TODO 테스트 목록
+    //     1. 전송하는 동안 다른 디스패처가 다시 가져간 메일 ( claimToken 이 바뀜 ) 은 결과를 반영하지 않는지
+    @Test
+    @DisplayName("이메일 디스패처 - 다시 선점된 메일은 결과 반영 안함")
+    void 다시_선점된_메일() {
+        EmailOutbox emailOutbox = emailOutbox(1L, "youngbin@email.com");
+        due(emailOutbox);
+        given(emailOutboxRepository.complete(any(), any())).willReturn(0);
+        EmailDispatcher emailDispatcher = emailDispatcher(emailMessage -> {
+            throw new MailSendException("smtp server is down");
+        });
+
+        emailDispatcher.dispatchBatch();
+
+        assertThat(emailDispatchStats.getFailed()).isEqualTo(0);
+        assertThat(emailDispatchStats.getDead()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,167 @@
+package com.studyolle.email;
+
+import com.studyolle.config.AppProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//TODO HtmlEmailService SMTP 연결 재사용
+//     1. sendEmail 은 메일마다 SMTP 연결
+//     2. sendEmails 는 한번에 전송 ( 워커마다 연결 하나 )
+//     3. 로컬 SMTP 서버 흉내를 띄워서 연결 수와 전송 완료 수를 확인
+//     4. 전송 처리량 ( mails/s ) 비교는 benchmarks 모듈의 EmailBenchmark 참고
+class HtmlEmailServiceTest {
+
+    private static final int MAILS = 200;
+    private static final int WORKERS = 4;
+
+    FakeSmtpServer smtpServer;
+    HtmlEmailService htmlEmailService;
+
+    @BeforeEach
+    void setup() throws IOException {
+        smtpServer = new FakeSmtpServer();
+
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("127.0.0.1");
+        javaMailSender.setPort(smtpServer.getPort());
+
+        AppProperties appProperties = new AppProperties();
+        appProperties.setMailWorkers(WORKERS);
+        htmlEmailService = new HtmlEmailService(javaMailSender, appProperties);
+    }
+
+    @AfterEach
+    void after() throws IOException {
+        htmlEmailService.shutdown();
+        smtpServer.close();
+    }
+
+    //TODO 테스트 목록
+    //     1. sendEmail 을 메일마다 호출하면 메일 수만큼 연결
+    //     2. sendEmails 는 워커 수 이하의 연결로 모든 메일을 전송
+    @Test
+    @DisplayName("메일 전송 - SMTP 연결 재사용")
+    void 메일_전송_연결_재사용() {
+        List<EmailMessage> messages = messages(MAILS);
+
+        for (EmailMessage message : messages) {
+            htmlEmailService.sendEmail(message);
+        }
+        assertThat(smtpServer.resetConnections()).isEqualTo(MAILS);
+        assertThat(smtpServer.getDelivered()).isEqualTo(MAILS);
+
+        htmlEmailService.sendEmails(messages);
+        assertThat(smtpServer.resetConnections()).isLessThanOrEqualTo(WORKERS);
+        assertThat(smtpServer.getDelivered()).isEqualTo(MAILS * 2);
+    }
+
+    private List<EmailMessage> messages(int count) {
+        List<EmailMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            EmailMessage message = new EmailMessage();
+            message.setTo("user" + i + "@email.com");
+            message.setSubject("스터디올래, 회원 가입 인증");
+            message.setMessage("<p>message " + i + "</p>");
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    //TODO 최소한의 SMTP 서버 흉내
+    //     1. 명령어는 모두 성공으로 응답하고 DATA 는 "." 줄까지 읽어서 전송 완료 개수만 센다
+    static class FakeSmtpServer implements Closeable {
+
+        private final ServerSocket serverSocket;
+        private final ExecutorService executor = Executors.newCachedThreadPool();
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger delivered = new AtomicInteger();
+
+        FakeSmtpServer() throws IOException {
+            this.serverSocket = new ServerSocket(0);
+            executor.execute(this::accept);
+        }
+
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        int getDelivered() {
+            return delivered.get();
+        }
+
+        int resetConnections() {
+            return connections.getAndSet(0);
+        }
+
+        private void accept() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    connections.incrementAndGet();
+                    executor.execute(() -> handle(socket));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void handle(Socket socket) {
+            try (Socket s = socket;
+                 BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.US_ASCII));
+                 Writer out = new OutputStreamWriter(s.getOutputStream(), StandardCharsets.US_ASCII)) {
+                reply(out, "220 localhost ESMTP");
+
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.length() < 4 ? line.toUpperCase() : line.substring(0, 4).toUpperCase();
+                    if (command.equals("EHLO") || command.equals("HELO")) {
+                        reply(out, "250 localhost");
+                    } else if (command.equals("DATA")) {
+                        reply(out, "354 end data with <CR><LF>.<CR><LF>");
+                        while ((line = in.readLine()) != null && !line.equals(".")) {
+                            // 본문은 버린다
+                        }
+                        delivered.incrementAndGet();
+                        reply(out, "250 OK");
+                    } else if (command.equals("QUIT")) {
+                        reply(out, "221 bye");
+                        return;
+                    } else {
+                        reply(out, "250 OK");
+                    }
+                }
+            } catch (SocketException e) {
+                // 클라이언트가 연결을 끊음
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void reply(Writer out, String line) throws IOException {
+            out.write(line + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+            executor.shutdownNow();
+        }
+    }
+}
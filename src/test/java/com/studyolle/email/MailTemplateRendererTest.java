@@ -0,0 +1,55 @@
+package com.studyolle.email;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//TODO 메일 템플릿 렌더링 테스트
+//     1. 렌더링 결과에 변수가 들어가는지
+//     2. renderAll 로 여러 수신자를 한번에 렌더링해도 결과가 섞이지 않는지
+@SpringBootTest
+class MailTemplateRendererTest {
+
+    @Autowired
+    MailTemplateRenderer mailTemplateRenderer;
+
+    @Test
+    @DisplayName("메일 렌더링 - 변수 치환")
+    void 메일_렌더링() {
+        String message = mailTemplateRenderer.render(MailTemplateRenderer.SIMPLE_LINK, variables(1));
+
+        assertThat(message).contains("youngbin1");
+        assertThat(message).contains("이메일 인증하기");
+        assertThat(message).contains("http://localhost:8080/check-email-token?token=token1");
+    }
+
+    @Test
+    @DisplayName("메일 렌더링 - 여러 수신자 한번에")
+    void 메일_여러건_렌더링() {
+        List<String> messages = mailTemplateRenderer.renderAll(MailTemplateRenderer.SIMPLE_LINK,
+                Arrays.asList(variables(1), variables(2)));
+
+        assertThat(messages).hasSize(2);
+        assertThat(messages.get(0)).isEqualTo(mailTemplateRenderer.render(MailTemplateRenderer.SIMPLE_LINK, variables(1)));
+        assertThat(messages.get(1)).contains("youngbin2");
+        assertThat(messages.get(1)).doesNotContain("youngbin1");
+    }
+
+    private Map<String, Object> variables(int i) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("nickname", "youngbin" + i);
+        variables.put("link", "/check-email-token?token=token" + i + "&email=yb" + i + "@email.com");
+        variables.put("linkName", "이메일 인증하기");
+        variables.put("message", "스터디올래 서비스를 이용하려면 링크를 클릭하세요");
+        variables.put("host", "http://localhost:8080");
+        return variables;
+    }
+}
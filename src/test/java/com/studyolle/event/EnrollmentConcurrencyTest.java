@@ -0,0 +1,293 @@
+package com.studyolle.event;
+
+import com.studyolle.account.AccountRepository;
+import com.studyolle.account.UserAccount;
+import com.studyolle.domain.Account;
+import com.studyolle.domain.Event;
+import com.studyolle.domain.Study;
+import com.studyolle.enums.EventType;
+import com.studyolle.event.form.EventForm;
+import com.studyolle.study.StudyRepository;
+import com.studyolle.study.StudyService;
+import com.studyolle.study.form.StudyForm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+//TODO 선착순 모임 동시 참가 신청 테스트
+//     1. 1,000 명이 동시에 신청해도 참가 확정 인원이 정원을 넘지 않는지
+//     2. 나머지는 모두 대기자로 저장되는지
+//     3. 확정된 신청이 취소되면 가장 먼저 신청한 대기자가 참가 확정되는지
+//     4. 정원을 늘리면 늘어난 자리 수만큼만 신청 순서대로 대기자가 참가 확정되는지
+//     5. 같은 회원이 동시에 여러번 신청해도 신청 하나만 저장되고 나머지는 중복 신청으로 처리되는지
+//     6. 신청이 몰리는 중에 참가 확정된 회원이 취소해도 대기자가 있는데 자리가 남지 않는지
+@SpringBootTest(properties = "logging.level.org.hibernate=WARN")
+@AutoConfigureMockMvc
+class EnrollmentConcurrencyTest {
+
+    private static final int ACCOUNTS = 1_000;
+    private static final int LIMIT = 100;
+    private static final int THREADS = 32;
+    private static final int CANCELS = 20;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    EventService eventService;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    StudyService studyService;
+
+    @Autowired
+    StudyRepository studyRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void clear() {
+        enrollmentRepository.deleteAll();
+        eventRepository.deleteAll();
+        studyRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("선착순 모임 - 동시 참가 신청 시 정원 초과 없음")
+    void 선착순_동시_참가_신청() throws Exception {
+        List<Account> accounts = createAccounts();
+        Event event = createEvent(accounts.get(0));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (Account account : accounts) {
+            futures.add(executorService.submit(() -> {
+                try {
+                    ready.await();
+                    eventService.enrollEvent(event.getId(), account);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        ready.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        Event findEvent = eventRepository.findById(event.getId()).get();
+        assertThat(failures.get()).isEqualTo(0);
+        assertThat(findEvent.getAcceptedCount()).isEqualTo(LIMIT);
+        assertThat(enrollmentRepository.countByEventAndAccepted(findEvent, true)).isEqualTo(LIMIT);
+        assertThat(enrollmentRepository.countByEventAndAccepted(findEvent, false)).isEqualTo(ACCOUNTS - LIMIT);
+    }
+
+    @Test
+    @DisplayName("선착순 모임 - 참가 취소 시 대기자 참가 확정")
+    void 선착순_참가_취소() {
+        List<Account> accounts = createAccounts().subList(0, LIMIT + 2);
+        Event event = createEvent(accounts.get(0));
+        for (Account account : accounts) {
+            eventService.enrollEvent(event.getId(), account);
+        }
+
+        eventService.disEnrollEvent(event.getId(), accounts.get(0));
+
+        Event findEvent = eventRepository.findById(event.getId()).get();
+        assertThat(findEvent.getAcceptedCount()).isEqualTo(LIMIT);
+        assertThat(enrollmentRepository.findByEventAndAccount(findEvent, accounts.get(LIMIT)).isAccepted()).isTrue();
+        assertThat(enrollmentRepository.findByEventAndAccount(findEvent, accounts.get(LIMIT + 1)).isAccepted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("선착순 모임 - 정원 증가 시 대기자 참가 확정")
+    void 선착순_정원_증가() {
+        List<Account> accounts = createAccounts().subList(0, LIMIT + 5);
+        Event event = createEvent(accounts.get(0));
+        for (Account account : accounts) {
+            eventService.enrollEvent(event.getId(), account);
+        }
+
+        EventForm eventForm = eventForm(LIMIT + 3);
+        transactionTemplate().executeWithoutResult(status ->
+                eventService.editEvent(eventRepository.findById(event.getId()).get(), eventForm));
+
+        Event findEvent = eventRepository.findById(event.getId()).get();
+        assertThat(findEvent.getAcceptedCount()).isEqualTo(LIMIT + 3);
+        assertThat(enrollmentRepository.countByEventAndAccepted(findEvent, true)).isEqualTo(LIMIT + 3);
+        for (int i = LIMIT; i < LIMIT + 5; i++) {
+            assertThat(enrollmentRepository.findByEventAndAccount(findEvent, accounts.get(i)).isAccepted())
+                    .isEqualTo(i < LIMIT + 3);
+        }
+    }
+
+    //TODO 테스트 목록
+    //     1. 정원이 찬 모임에 나머지 회원이 동시에 신청하는 동안 참가 확정된 회원 CANCELS 명이 취소
+    //     2. 취소한 자리는 모두 대기자로 채워져서 참가 확정 인원이 정원과 같은지
+    //      1). 커밋 전의 대기자 신청을 취소 ( acceptWaitlist ) 가 보지 못하면 자리가 남는다
+    @Test
+    @DisplayName("선착순 모임 - 동시 참가 신청 중 참가 취소")
+    void 선착순_동시_참가_신청_중_참가_취소() throws Exception {
+        List<Account> accounts = createAccounts();
+        Event event = createEvent(accounts.get(0));
+        for (Account account : accounts.subList(0, LIMIT)) {
+            eventService.enrollEvent(event.getId(), account);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        int cancelEvery = (ACCOUNTS - LIMIT) / CANCELS;
+        try {
+            for (int i = LIMIT; i < ACCOUNTS; i++) {
+                Account account = accounts.get(i);
+                futures.add(executorService.submit(() -> {
+                    ready.await();
+                    try {
+                        eventService.enrollEvent(event.getId(), account);
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                    return null;
+                }));
+
+                // 신청 cancelEvery 건마다 참가 확정된 회원 한명이 취소
+                if ((i - LIMIT) % cancelEvery == 0) {
+                    Account acceptedAccount = accounts.get((i - LIMIT) / cancelEvery);
+                    futures.add(executorService.submit(() -> {
+                        ready.await();
+                        try {
+                            eventService.disEnrollEvent(event.getId(), acceptedAccount);
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+            }
+
+            ready.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Event findEvent = eventRepository.findById(event.getId()).get();
+        assertThat(failures.get()).isEqualTo(0);
+        assertThat(findEvent.getAcceptedCount()).isEqualTo(LIMIT);
+        assertThat(enrollmentRepository.countByEventAndAccepted(findEvent, true)).isEqualTo(LIMIT);
+        assertThat(enrollmentRepository.countByEventAndAccepted(findEvent, false)).isEqualTo(ACCOUNTS - LIMIT - CANCELS);
+        for (Account account : accounts.subList(0, CANCELS)) {
+            assertThat(enrollmentRepository.findByEventAndAccount(findEvent, account)).isNull();
+        }
+    }
+
+    //TODO 테스트 목록
+    //     1. 같은 회원의 신청 요청 여러개가 동시에 들어와 유니크 제약 위반 ( DataIntegrityViolationException ) 이 나도
+    //        500 이 아니라 중복 신청과 같이 모임 화면으로 이동하는지
+    //     2. 회원마다 신청은 하나만 저장되고 참가 확정 인원도 한번만 증가하는지
+    @Test
+    @DisplayName("선착순 모임 - 같은 회원 동시 신청")
+    void 같은_회원_동시_신청() throws Exception {
+        List<Account> accounts = createAccounts().subList(0, 20);
+        Event event = createEvent(accounts.get(0));
+        String url = "/study/study/events/" + event.getId() + "/enroll";
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            for (Account account : accounts) {
+                CountDownLatch ready = new CountDownLatch(1);
+                List<Future<Integer>> futures = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    futures.add(executorService.submit(() -> {
+                        ready.await();
+                        return mockMvc.perform(post(url)
+                                .with(user(new UserAccount(account)))
+                                .with(csrf()))
+                                .andReturn().getResponse().getStatus();
+                    }));
+                }
+                ready.countDown();
+                for (Future<Integer> future : futures) {
+                    assertThat(future.get(60, TimeUnit.SECONDS)).isEqualTo(302);
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Event findEvent = eventRepository.findById(event.getId()).get();
+        assertThat(enrollmentRepository.countByEventAndAccepted(findEvent, true)).isEqualTo(accounts.size());
+        assertThat(enrollmentRepository.countByEventAndAccepted(findEvent, false)).isEqualTo(0);
+        assertThat(findEvent.getAcceptedCount()).isEqualTo(accounts.size());
+    }
+
+    private TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    private List<Account> createAccounts() {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(Account.createAccount("user" + i, "user" + i + "@email.com", "12345678"));
+        }
+        return accountRepository.saveAll(accounts);
+    }
+
+    private Event createEvent(Account account) {
+        StudyForm studyForm = new StudyForm();
+        studyForm.setPath("study");
+        studyForm.setTitle("title");
+        studyForm.setShortDescription("short");
+        studyForm.setFullDescription("full");
+        Study study = studyService.createNewStudy(account, studyForm);
+        return eventService.createNewEvent(account, study, eventForm(LIMIT));
+    }
+
+    private EventForm eventForm(int limitOfEnrollments) {
+        EventForm eventForm = new EventForm();
+        eventForm.setTitle("eventTitle");
+        eventForm.setDescription("eventDescription");
+        eventForm.setLimitOfEnrollments(limitOfEnrollments);
+        eventForm.setEventType(EventType.FCFS);
+        eventForm.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        eventForm.setStartDateTime(LocalDateTime.now().plusDays(2));
+        eventForm.setEndDateTime(LocalDateTime.now().plusDays(20));
+        return eventForm;
+    }
+}
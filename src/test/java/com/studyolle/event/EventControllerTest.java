@@ -9,12 +9,15 @@ import com.studyolle.domain.Event;
 import com.studyolle.domain.Study;
 import com.studyolle.enums.EventType;
 import com.studyolle.event.form.EventForm;
+import com.studyolle.event.form.EventSlice;
 import com.studyolle.event.validator.EventFormValidator;
+import com.studyolle.study.StudyCache;
 import com.studyolle.study.StudyRepository;
 import com.studyolle.study.StudyService;
 import com.studyolle.study.form.StudyForm;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,6 +32,8 @@ import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 
+import static com.studyolle.monitoring.QueryStatsMatchers.noNPlusOne;
+import static com.studyolle.monitoring.QueryStatsMatchers.statements;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -57,9 +62,18 @@ class EventControllerTest {
     @Autowired
     EventRepository eventRepository;
 
+    @Autowired
+    StudyCache studyCache;
+
     @Autowired
     MockMvc mockMvc;
 
+    //TODO 다른 테스트가 지운 스터디가 같은 경로로 캐시에 남아 있지 않도록 비운다 ( SQL 수 검증 )
+    @BeforeEach
+    void clearCache() {
+        studyCache.clear();
+    }
+
     @AfterEach
     void clear() {
         eventRepository.deleteAll();
@@ -141,6 +155,9 @@ class EventControllerTest {
                 .andExpect(model().hasErrors());
     }
 
+    //TODO 테스트 목록
+    //     1. 스터디 스냅샷 4 번 ( 캐시에 없을 때 ) + 모임 / 작성자 / 신청 / 신청자 fetch join 한번 -> 5 번
+    //     2. 두번째 요청은 스냅샷을 캐시에서 읽으므로 모임 조회 한번
     @Test @DisplayName("모임 뷰 보여주기")
     @WithAccount("youngbin")
     void showEventTest() throws Exception {
@@ -153,11 +170,17 @@ class EventControllerTest {
                 .andExpect(model().attributeExists("account"))
                 .andExpect(model().attributeExists("study"))
                 .andExpect(model().attributeExists("event"))
+                .andExpect(statements(5))
+                .andExpect(noNPlusOne())
                 .andReturn();
 
         Event requestEvent = (Event)result.getRequest().getAttribute("event");
 
         assertThat(requestEvent).isEqualTo(event);
+
+        mockMvc.perform(get("/study/study/events/" + event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(statements(1));
     }
 
     @Test @DisplayName("모임 수정 폼 보여주기")
@@ -234,8 +257,58 @@ class EventControllerTest {
         Event findEvent = eventRepository.findWithStudyWithEnrollmentsById(event.getId());
 
         assertThat(findEvent).isNotNull();
-        assertThat(findEvent.getEnrollments()).isEqualTo(1);
+        assertThat(findEvent.getEnrollments()).hasSize(1);
         assertThat(findEvent.getEnrollments().get(0).getAccount()).isEqualTo(findAccount());
+        assertThat(findEvent.getEnrollments().get(0).isAccepted()).isTrue();
+        assertThat(findEvent.getAcceptedCount()).isEqualTo(1);
+    }
+
+    //TODO 테스트 목록
+    //     1. 스터디 스냅샷 4 번 ( 캐시에 없을 때 ) + 새 모임 / 지난 모임 목록 2 번 + 개수 2 번 -> 8 번
+    //     2. 다음 페이지 요청은 스냅샷을 캐시에서 읽으므로 4 번
+    @Test @DisplayName("모임 목록 - 새 모임 / 지난 모임 키셋 페이징")
+    @WithAccount("youngbin")
+    void showEventsTest() throws Exception {
+        Account account = findAccount();
+        Study study = createByStudy(account);
+        for (int i = 0; i < EventService.EVENT_PAGE_SIZE + 5; i++) {
+            eventRepository.save(Event.createByEvent(account, study, "new" + i, "description",
+                    LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), LocalDateTime.now().plusDays(3 + i),
+                    2, EventType.FCFS));
+        }
+        for (int i = 0; i < 2; i++) {
+            eventRepository.save(Event.createByEvent(account, study, "old" + i, "description",
+                    LocalDateTime.now().minusDays(5), LocalDateTime.now().minusDays(4), LocalDateTime.now().minusDays(3 + i),
+                    2, EventType.FCFS));
+        }
+
+        MvcResult result = mockMvc.perform(get("/study/study/events"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("study/events"))
+                .andExpect(model().attribute("newEventCount", EventService.EVENT_PAGE_SIZE + 5L))
+                .andExpect(model().attribute("oldEventCount", 2L))
+                .andExpect(statements(8))
+                .andExpect(noNPlusOne())
+                .andReturn();
+
+        EventSlice newEvents = (EventSlice) result.getModelAndView().getModel().get("newEvents");
+        EventSlice oldEvents = (EventSlice) result.getModelAndView().getModel().get("oldEvents");
+        assertThat(newEvents.size()).isEqualTo(EventService.EVENT_PAGE_SIZE);
+        assertThat(newEvents.getEvents().get(0).getTitle()).isEqualTo("new0");
+        assertThat(newEvents.hasNext()).isTrue();
+        assertThat(oldEvents.size()).isEqualTo(2);
+        assertThat(oldEvents.getEvents().get(0).getTitle()).isEqualTo("old0");
+        assertThat(oldEvents.hasNext()).isFalse();
+
+        result = mockMvc.perform(get("/study/study/events").param("newCursor", newEvents.getNext().toString()))
+                .andExpect(status().isOk())
+                .andExpect(statements(4))
+                .andReturn();
+
+        newEvents = (EventSlice) result.getModelAndView().getModel().get("newEvents");
+        assertThat(newEvents.size()).isEqualTo(5);
+        assertThat(newEvents.getEvents().get(0).getTitle()).isEqualTo("new" + EventService.EVENT_PAGE_SIZE);
+        assertThat(newEvents.hasNext()).isFalse();
     }
 
     Long getEventIdToLong(String eventId) {
@@ -0,0 +1,81 @@
+package com.studyolle.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ImageControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ImageStore imageStore;
+
+    //TODO 테스트용 PNG 이미지를 data URL 로 만들어 저장
+    private String storeImage() throws Exception {
+        BufferedImage image = new BufferedImage(300, 200, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        String dataUrl = "data:image/png;base64," + Base64.getEncoder().encodeToString(out.toByteArray());
+        return imageStore.resolve(dataUrl);
+    }
+
+    //TODO 테스트 목록
+    //     1. 같은 이미지는 같은 해시로 저장되는지
+    //     2. 해시를 그대로 넘기면 그대로 반환되는지 ( 이미지를 변경하지 않고 프로필 저장 )
+    @Test
+    @DisplayName("프로필 이미지 저장 - 콘텐츠 해시")
+    void 프로필_이미지_저장() throws Exception {
+        String hash = storeImage();
+
+        assertThat(imageStore.isHash(hash)).isTrue();
+        assertThat(storeImage()).isEqualTo(hash);
+        assertThat(imageStore.resolve(hash)).isEqualTo(hash);
+        assertThat(imageStore.resolve("")).isNull();
+    }
+
+    //TODO 테스트 목록
+    //     1. 사이즈별 PNG 가 강한 ETag, immutable 캐시 헤더와 함께 반환되는지
+    //     2. If-None-Match 가 일치하면 304 를 반환하는지
+    @Test
+    @DisplayName("프로필 이미지 조회 - 캐시 헤더 / 304")
+    void 프로필_이미지_조회() throws Exception {
+        String hash = storeImage();
+        String etag = "\"" + hash + "-64\"";
+
+        mockMvc.perform(get("/img/" + hash + "/64"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+
+        mockMvc.perform(get("/img/" + hash + "/64").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("프로필 이미지 조회 - 지원하지 않는 크기")
+    void 프로필_이미지_조회_실패() throws Exception {
+        String hash = storeImage();
+
+        mockMvc.perform(get("/img/" + hash + "/100"))
+                .andExpect(status().isNotFound());
+    }
+}
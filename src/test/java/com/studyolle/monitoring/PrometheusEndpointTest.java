@@ -0,0 +1,95 @@
+package com.studyolle.monitoring;
+
+import com.studyolle.WithAccount;
+import com.studyolle.account.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.web.server.LocalManagementPort;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+@AutoConfigureMockMvc
+class PrometheusEndpointTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    TestRestTemplate restTemplate;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @LocalManagementPort
+    int managementPort;
+
+    @AfterEach
+    void after() {
+        accountRepository.deleteAll();
+    }
+
+    private ResponseEntity<String> management(String path) {
+        return restTemplate.getForEntity("http://localhost:" + managementPort + path, String.class);
+    }
+
+    private long lines(String body, String prefix) {
+        return Arrays.stream(body.split("\n")).filter(line -> line.startsWith(prefix)).count();
+    }
+
+    //TODO 테스트 목록
+    //     1. 서비스 포트에는 /actuator/prometheus, /actuator/health 가 없는지 ( 관리 포트에서만 제공 )
+    @Test
+    @DisplayName("Prometheus 지표 - 서비스 포트에서 비공개")
+    void 서비스_포트_비공개() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isNotFound());
+    }
+
+    //TODO 테스트 목록
+    //     1. 관리 포트의 /actuator/prometheus 에서 Prometheus 형식으로 지표를 받을 수 있는지
+    //     2. 컨트롤러 경로별 요청 시간 히스토그램 ( uri 태그 ) 이 포함되는지
+    //     3. 서비스 / 리포지토리 메서드 타이머, Hikari, Hibernate, 메일 디스패처 지표가 포함되는지
+    //      1). 메서드 타이머는 히스토그램 없이 SLO 구간만 내보내는지
+    @Test
+    @DisplayName("Prometheus 지표 수집 - 관리 포트")
+    @WithAccount("youngbin")
+    void 지표_수집() throws Exception {
+        mockMvc.perform(get("/settings/tags"))
+                .andExpect(status().isOk());
+
+        assertThat(management("/actuator/health").getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        ResponseEntity<String> response = management("/actuator/prometheus");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        String body = response.getBody();
+        assertThat(body)
+                .contains("http_server_requests_seconds_bucket")
+                .contains("uri=\"/settings/tags\"")
+                .contains("studyolle_service_seconds_count{class=\"AccountService\"")
+                .contains("studyolle_repository_seconds_count{class=\"AccountRepository\"")
+                .contains("hikaricp_connections_active")
+                .contains("hibernate_statements_total")
+                .contains("email_outbox_queue_depth");
+
+        //TODO SLO 3 구간 + Inf
+        long buckets = lines(body, "studyolle_service_seconds_bucket{class=\"AccountService\"");
+        long series = lines(body, "studyolle_service_seconds_count{class=\"AccountService\"");
+        assertThat(buckets).isEqualTo(series * 4);
+    }
+}
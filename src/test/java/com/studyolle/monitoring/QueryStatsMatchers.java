@@ -0,0 +1,45 @@
+package com.studyolle.monitoring;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//TODO 컨트롤러 테스트에서 요청 하나의 SQL 수를 고정하기 위한 ResultMatcher
+//     ex). mockMvc.perform(get("/study/study")).andExpect(statements(4)).andExpect(noNPlusOne());
+public class QueryStatsMatchers {
+
+    //TODO QueryStatsFilter 의 기본 값 ( app.query-repeat-threshold ) 과 같은 기준
+    public static final int N_PLUS_ONE_THRESHOLD = 3;
+
+    public static QueryStats queryStats(MvcResult result) {
+        QueryStats stats = (QueryStats) result.getRequest().getAttribute(QueryStats.REQUEST_ATTRIBUTE);
+        assertThat(stats).as("QueryStatsFilter 가 요청을 감싸지 않았습니다.").isNotNull();
+        return stats;
+    }
+
+    public static ResultMatcher statements(int expected) {
+        return result -> {
+            QueryStats stats = queryStats(result);
+            assertThat(stats.getStatementCount())
+                    .as("%s %s : %s", result.getRequest().getMethod(), result.getRequest().getRequestURI(), stats.getStatements().keySet())
+                    .isEqualTo(expected);
+        };
+    }
+
+    public static ResultMatcher repeatsAtMost(int max) {
+        return result -> {
+            Map<String, Integer> repeated = queryStats(result).getRepeatedStatements(max + 1);
+            assertThat(repeated)
+                    .as("%s %s : 같은 문장이 %d 번 넘게 실행되었습니다.", result.getRequest().getMethod(),
+                            result.getRequest().getRequestURI(), max)
+                    .isEmpty();
+        };
+    }
+
+    public static ResultMatcher noNPlusOne() {
+        return repeatsAtMost(N_PLUS_ONE_THRESHOLD - 1);
+    }
+}
@@ -0,0 +1,61 @@
+package com.studyolle.monitoring.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyolle.domain.Zone;
+import com.studyolle.zone.ZoneCatalog;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//TODO JFR 이벤트 테스트
+//     1. 기록 중이면 이벤트 ( 지역 자동완성 목록 생성 ) 가 이름 / 필드와 함께 남는지
+//     2. 기록하지 않을 때는 shouldCommit 이 false 라서 이벤트가 남지 않는지
+class JfrEventsTest {
+
+    @Test
+    @DisplayName("기록 중이면 자동완성 목록 생성 이벤트가 남는다")
+    void 자동완성_목록_생성_이벤트() throws Exception {
+        ZoneCatalog zoneCatalog = new ZoneCatalog(new ObjectMapper());
+        List<Zone> zones = Arrays.asList(Zone.createZone("Seoul", "서울특별시", "none"),
+                Zone.createZone("Busan", "부산광역시", "none"), Zone.createZone("Suwon", "수원시", "Gyeonggi"));
+
+        Path file = Files.createTempFile("studyolle", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(WhitelistBuildEvent.class).withoutThreshold();
+            recording.start();
+            zoneCatalog.load(zones);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.studyolle.WhitelistBuild"))
+                .collect(Collectors.toList());
+        Files.deleteIfExists(file);
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("kind")).isEqualTo("zone");
+        assertThat(events.get(0).getInt("entries")).isEqualTo(3);
+        assertThat(events.get(0).getLong("bytes")).isEqualTo(zoneCatalog.getWhitelistJson().length());
+    }
+
+    @Test
+    @DisplayName("기록하지 않으면 이벤트가 남지 않는다")
+    void 기록하지_않을_때() {
+        RepositoryQueryEvent event = new RepositoryQueryEvent();
+        event.begin();
+        event.end();
+
+        assertThat(event.shouldCommit()).isFalse();
+    }
+}
@@ -0,0 +1,133 @@
+package com.studyolle.search;
+
+import com.studyolle.WithAccount;
+import com.studyolle.account.AccountRepository;
+import com.studyolle.domain.Account;
+import com.studyolle.domain.Study;
+import com.studyolle.study.StudyRepository;
+import com.studyolle.study.StudyService;
+import com.studyolle.study.form.StudyForm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SearchControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    StudyService studyService;
+
+    @Autowired
+    StudyRepository studyRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    StudySearchIndexer studySearchIndexer;
+
+    @AfterEach
+    void clear() {
+        studyRepository.deleteAll();
+        accountRepository.deleteAll();
+        studySearchIndexer.rebuild();
+    }
+
+    private void createStudy(String path, String title) {
+        Account account = accountRepository.findByNickname("youngbin");
+
+        StudyForm studyForm = new StudyForm();
+        studyForm.setPath(path);
+        studyForm.setTitle(title);
+        studyForm.setShortDescription("짧은 소개");
+        studyForm.setFullDescription("긴 소개");
+        studyService.createNewStudy(account, studyForm);
+    }
+
+    //TODO 테스트 목록
+    //     1. 공개된 스터디만 검색되는지
+    //     2. 스터디를 공개하면 ( StudyChangedEvent ) 바로 검색 색인에 반영되는지
+    @Test
+    @WithAccount("youngbin")
+    @DisplayName("스터디 검색 - 공개된 스터디만")
+    void searchStudyTest() throws Exception {
+        createStudy("spring", "스프링 스터디");
+        createStudy("java", "자바 스터디");
+
+        mockMvc.perform(post("/study/spring/settings/study/publish")
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection());
+
+        MvcResult result = mockMvc.perform(get("/search/study")
+                .param("keyword", "스프링"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("search"))
+                .andExpect(model().attributeExists("studyPage"))
+                .andExpect(model().attribute("keyword", "스프링"))
+                .andExpect(model().attribute("sortProperty", "publishedDateTime"))
+                .andReturn();
+
+        Page<?> studyPage = (Page<?>) result.getModelAndView().getModel().get("studyPage");
+        assertThat(studyPage.getTotalElements()).isEqualTo(1);
+        assertThat(((Study) studyPage.getContent().get(0)).getPath()).isEqualTo("spring");
+
+        result = mockMvc.perform(get("/search/study")
+                .param("keyword", "자바"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        studyPage = (Page<?>) result.getModelAndView().getModel().get("studyPage");
+        assertThat(studyPage.getTotalElements()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("스터디 검색 - 로그인 없이 멤버수 정렬")
+    void searchStudyWithoutLoginTest() throws Exception {
+        mockMvc.perform(get("/search/study")
+                .param("keyword", "스프링")
+                .param("sort", "memberCount,desc"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("sortProperty", "memberCount"));
+    }
+
+    //TODO 테스트 목록
+    //     1. 로그인 없이 아주 큰 page 를 요청해도 ( offset 이 int 범위를 넘는 경우 포함 ) 빈 페이지로 응답하는지
+    //      1). 힙 크기가 offset + limit 이면 요청 하나로 수 GB 를 할당하거나 음수 offset 으로 500 이 발생
+    @Test
+    @WithAccount("youngbin")
+    @DisplayName("스터디 검색 - 아주 큰 page")
+    void searchStudyHugePageTest() throws Exception {
+        createStudy("spring", "스프링 스터디");
+        mockMvc.perform(post("/study/spring/settings/study/publish")
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection());
+
+        for (String page : new String[]{"200000000", String.valueOf(Integer.MAX_VALUE)}) {
+            MvcResult result = mockMvc.perform(get("/search/study")
+                    .param("keyword", "스프링")
+                    .param("page", page))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            Page<?> studyPage = (Page<?>) result.getModelAndView().getModel().get("studyPage");
+            assertThat(studyPage.getContent()).isEmpty();
+            assertThat(studyPage.getTotalElements()).isEqualTo(1);
+        }
+    }
+}
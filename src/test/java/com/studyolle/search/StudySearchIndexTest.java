@@ -0,0 +1,124 @@
+package com.studyolle.search;
+
+import com.studyolle.search.StudySearchIndex.SortProperty;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//TODO 스터디 검색 색인 테스트
+//     1. 제목 / 소개 / 태그 / 지역 부분 문자열 검색, 여러 단어는 AND
+//     2. 수정 / 삭제 반영
+//     3. 임의로 만든 스터디 1만개에서 전체 스캔 ( contains ) 과 같은 결과인지
+//     4. 페이지 범위 / 단어별 gram 수 상한
+class StudySearchIndexTest {
+
+    private static final String[] WORDS = {"스프링", "자바", "JPA", "코틀린", "알고리즘", "리액트", "데이터베이스",
+            "운영체제", "네트워크", "타입스크립트", "도커", "쿠버네티스", "파이썬", "머신러닝", "안드로이드", "스위프트"};
+    private static final String[] CITIES = {"서울", "부산", "대구", "인천", "광주", "대전", "울산", "수원", "성남", "고양"};
+
+    @Test
+    @DisplayName("스터디 검색 - 부분 문자열 / AND / 정렬")
+    void 스터디_검색() {
+        StudySearchIndex index = new StudySearchIndex();
+        index.put(document(1L, "스프링 부트 스터디", "JPA 같이 공부해요", "spring", "서울", 1, 3));
+        index.put(document(2L, "자바 스터디", "알고리즘", "java", "부산", 2, 10));
+        index.put(document(3L, "스프링 시큐리티", "인증", "spring", "부산", 3, 1));
+
+        assertThat(index.search("스프링", SortProperty.PUBLISHED_DATE_TIME, 0, 10).getStudyIds()).containsExactly(3L, 1L);
+        assertThat(index.search("프링", SortProperty.PUBLISHED_DATE_TIME, 0, 10).getStudyIds()).containsExactly(3L, 1L);
+        assertThat(index.search("jpa", SortProperty.PUBLISHED_DATE_TIME, 0, 10).getStudyIds()).containsExactly(1L);
+        assertThat(index.search("spring 부산", SortProperty.PUBLISHED_DATE_TIME, 0, 10).getStudyIds()).containsExactly(3L);
+        assertThat(index.search("스터디", SortProperty.MEMBER_COUNT, 0, 10).getStudyIds()).containsExactly(2L, 1L);
+        assertThat(index.search("스터디", SortProperty.MEMBER_COUNT, 1, 1).getStudyIds()).containsExactly(1L);
+        assertThat(index.search("스터디", SortProperty.MEMBER_COUNT, 1, 1).getTotal()).isEqualTo(2);
+        //TODO 필드 사이에 걸친 문자열은 검색되지 않음 ( 제목 끝 "디" + 소개 시작 "알" )
+        assertThat(index.search("디알", SortProperty.PUBLISHED_DATE_TIME, 0, 10).getTotal()).isEqualTo(0);
+        assertThat(index.search("없는단어", SortProperty.PUBLISHED_DATE_TIME, 0, 10).getTotal()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("스터디 검색 - 수정 / 삭제 반영")
+    void 스터디_수정_삭제() {
+        StudySearchIndex index = new StudySearchIndex();
+        index.put(document(1L, "스프링 스터디", "", "spring", "서울", 1, 0));
+
+        index.put(document(1L, "자바 스터디", "", "java", "서울", 1, 0));
+        assertThat(index.search("스프링", SortProperty.PUBLISHED_DATE_TIME, 0, 10).getTotal()).isEqualTo(0);
+        assertThat(index.search("자바", SortProperty.PUBLISHED_DATE_TIME, 0, 10).getStudyIds()).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("자바", SortProperty.PUBLISHED_DATE_TIME, 0, 10).getTotal()).isEqualTo(0);
+        assertThat(index.size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("스터디 검색 - 전체 스캔과 같은 결과 ( 1만개 )")
+    void 스터디_검색_전체_스캔_비교() {
+        Random random = new Random(42);
+        List<StudyDocument> documents = new ArrayList<>();
+        for (long id = 1; id <= 10_000; id++) {
+            documents.add(document(id,
+                    WORDS[random.nextInt(WORDS.length)] + " 스터디 " + id,
+                    WORDS[random.nextInt(WORDS.length)] + " 같이 공부해요",
+                    WORDS[random.nextInt(WORDS.length)],
+                    CITIES[random.nextInt(CITIES.length)],
+                    random.nextInt(1_000_000), random.nextInt(100)));
+        }
+        StudySearchIndex index = new StudySearchIndex();
+        index.replaceAll(documents);
+
+        String[] keywords = {"쿠버네티스 울산", "스터디 9999", "타입스크립트", "머신러닝 고양", "같이 공부해요 스터디"};
+        for (String keyword : keywords) {
+            assertThat(index.search(keyword, SortProperty.PUBLISHED_DATE_TIME, 0, 9).getTotal())
+                    .isEqualTo(scan(documents, keyword));
+        }
+    }
+
+    //TODO 테스트 목록
+    //     1. offset 이 결과 수 이상이거나 offset + limit 이 int 범위를 넘어도 빈 페이지와 전체 결과 수를 반환하는지
+    @Test
+    @DisplayName("스터디 검색 - 결과 범위를 넘는 페이지")
+    void 스터디_검색_페이지_범위() {
+        StudySearchIndex index = new StudySearchIndex();
+        index.put(document(1L, "스프링 스터디", "", "spring", "서울", 1, 0));
+        index.put(document(2L, "자바 스터디", "", "java", "서울", 2, 0));
+
+        assertThat(index.search("스터디", SortProperty.PUBLISHED_DATE_TIME, 2, 9).getStudyIds()).isEmpty();
+        assertThat(index.search("스터디", SortProperty.PUBLISHED_DATE_TIME, 1_800_000_000, 9).getTotal()).isEqualTo(2);
+        assertThat(index.search("", SortProperty.MEMBER_COUNT, Integer.MAX_VALUE, 9).getStudyIds()).isEmpty();
+        assertThat(index.search("", SortProperty.MEMBER_COUNT, 1, Integer.MAX_VALUE).getStudyIds()).containsExactly(1L);
+    }
+
+    //TODO 테스트 목록
+    //     1. 길이 L 인 단어의 gram 은 L * MAX_GRAM 개를 넘지 않는지 ( 긴 단어도 MAX_GRAM 글자까지만 )
+    @Test
+    @DisplayName("스터디 검색 색인 - 단어별 gram 수 상한")
+    void 단어별_gram_수() {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            word.append((char) ('가' + i));
+        }
+
+        Set<String> grams = StudySearchIndex.grams(word.toString());
+
+        // 시작 위치 91 개는 MAX_GRAM 개씩, 마지막 9 개는 남은 길이만큼 ( 9 + 8 + ... + 1 )
+        assertThat(grams.size()).isEqualTo(91 * StudySearchIndex.MAX_GRAM + 45);
+        assertThat(grams.size()).isLessThanOrEqualTo(word.length() * StudySearchIndex.MAX_GRAM);
+        assertThat(grams.stream().mapToInt(String::length).max().getAsInt()).isEqualTo(StudySearchIndex.MAX_GRAM);
+    }
+
+    private long scan(List<StudyDocument> documents, String keyword) {
+        String[] terms = StudyDocument.normalize(keyword).split("\\s+");
+        return documents.stream().filter(d -> Arrays.stream(terms).allMatch(d::contains)).count();
+    }
+
+    private StudyDocument document(Long id, String title, String shortDescription, String tag, String zone,
+                                   int publishedMinutes, long memberCount) {
+        return new StudyDocument(id, title, shortDescription, Collections.singletonList(tag),
+                Collections.singletonList(zone), LocalDateTime.of(2021, 1, 1, 0, 0).plusMinutes(publishedMinutes), memberCount);
+    }
+}
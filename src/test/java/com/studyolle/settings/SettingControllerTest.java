@@ -231,6 +231,25 @@ class SettingControllerTest {
         assertThat(findAccount.getLocation()).isNull();
     }
 
+    //TODO 테스트 목록
+    //     1. 형식이 잘못된 값, base64 가 아닌 값, 이미지가 아닌 값은 500 이 아니라 바인딩 오류
+    @WithAccount("youngbin")
+    @Test
+    @DisplayName("프로필 수정하기 - 프로필 이미지 입력값 에러")
+    void 프로필_수정_프로필_이미지_입력값_에러() throws Exception {
+        for (String profileImage : new String[]{"not-an-image", "data:image/png;base64,@@@", "data:image/png;base64,aGVsbG8="}) {
+            mockMvc.perform(post("/settings/profile")
+                    .param("profileImage", profileImage)
+                    .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(view().name("settings/profile"))
+                    .andExpect(model().attributeHasFieldErrors("profile", "profileImage"));
+        }
+
+        Account findAccount = accountRepository.findByNickname("youngbin");
+        assertThat(findAccount.getProfileImage()).isNull();
+    }
+
     //TODO 2021.01.17 29. 패스워드 수정 테스트
     //     1. 패스워드 변경 - 입력값 정상 테스트
     @WithAccount("youngbin")
@@ -0,0 +1,96 @@
+package com.studyolle.study;
+
+import com.studyolle.account.AccountRepository;
+import com.studyolle.account.AccountService;
+import com.studyolle.account.form.SignUpForm;
+import com.studyolle.domain.Account;
+import com.studyolle.study.form.StudyForm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class StudyCacheTest {
+
+    @Autowired
+    StudyService studyService;
+
+    @Autowired
+    StudyRepository studyRepository;
+
+    @Autowired
+    StudyCache studyCache;
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setup() {
+        SignUpForm signUpForm = new SignUpForm();
+        signUpForm.setNickname("youngbin");
+        signUpForm.setEmail("yb@email.com");
+        signUpForm.setPassword("12345678");
+        Account account = accountService.processNewAccount(signUpForm);
+
+        StudyForm studyForm = new StudyForm();
+        studyForm.setPath("study");
+        studyForm.setTitle("title");
+        studyForm.setShortDescription("short");
+        studyForm.setFullDescription("full");
+        studyService.createNewStudy(account, studyForm);
+    }
+
+    @AfterEach
+    void after() {
+        studyRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    //TODO 테스트 목록
+    //     1. 두번째 조회부터는 같은 스냅샷을 캐시에서 반환하는지
+    @Test
+    @DisplayName("스터디 캐시 - 캐시 적중")
+    void 스터디_캐시_적중() {
+        StudySnapshot first = studyService.getStudySnapshot("study");
+        StudySnapshot second = studyService.getStudySnapshot("study");
+
+        assertThat(first == second).isTrue();
+        assertThat(first.getTitle()).isEqualTo("title");
+        assertThat(studyCache.size()).isEqualTo(1);
+    }
+
+    //TODO 테스트 목록
+    //     1. 제목 변경 후 커밋되면 캐시에서 제거되고 새 값으로 다시 읽는지
+    //     2. 경로 변경 후 이전 경로의 항목이 제거되는지
+    @Test
+    @DisplayName("스터디 캐시 - 변경 / 경로 변경 시 제거")
+    void 스터디_캐시_제거() {
+        studyService.getStudySnapshot("study");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status ->
+                studyService.updateStudyTitle(studyRepository.findByPath("study"), "new title"));
+        assertThat(studyCache.size()).isEqualTo(0);
+        assertThat(studyService.getStudySnapshot("study").getTitle()).isEqualTo("new title");
+
+        transactionTemplate.executeWithoutResult(status ->
+                studyService.updateStudyPath(studyRepository.findByPath("study"), "new-study"));
+        assertThat(studyCache.size()).isEqualTo(0);
+        assertThat(studyService.getStudySnapshot("new-study").getPath()).isEqualTo("new-study");
+        assertThrows(IllegalArgumentException.class, () -> studyService.getStudySnapshot("study"));
+    }
+}
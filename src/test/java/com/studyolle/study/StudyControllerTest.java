@@ -11,6 +11,7 @@ import com.studyolle.domain.StudyAccount;
 import com.studyolle.study.form.StudyForm;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +24,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.lang.annotation.Annotation;
 import java.util.List;
 
+import static com.studyolle.monitoring.QueryStatsMatchers.noNPlusOne;
+import static com.studyolle.monitoring.QueryStatsMatchers.statements;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -45,9 +48,18 @@ class StudyControllerTest {
     @Autowired
     AccountService accountService;
 
+    @Autowired
+    StudyCache studyCache;
+
     @Autowired
     MockMvc mockMvc;
 
+    //TODO 다른 테스트가 지운 스터디가 같은 경로로 캐시에 남아 있지 않도록 비운다 ( SQL 수 검증 )
+    @BeforeEach
+    void clearCache() {
+        studyCache.clear();
+    }
+
     @AfterEach
     void clear() {
         studyRepository.deleteAll();
@@ -108,6 +120,9 @@ class StudyControllerTest {
                 .andExpect(model().attributeExists("account"));
     }
 
+    //TODO 테스트 목록
+    //     1. 캐시에 없으면 스터디 / 태그 / 지역 / 구성원 4 번 조회
+    //     2. 두번째 요청은 캐시 ( StudySnapshot ) 에서 읽으므로 SQL 없음
     @Test
     @WithAccount("youngbin")
     @DisplayName("스터디 뷰 보여주기")
@@ -126,9 +141,17 @@ class StudyControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(view().name("study/view"))
                 .andExpect(model().attributeExists("account"))
-                .andExpect(model().attributeExists("study"));
+                .andExpect(model().attributeExists("study"))
+                .andExpect(statements(4))
+                .andExpect(noNPlusOne());
+
+        mockMvc.perform(get("/study/study"))
+                .andExpect(status().isOk())
+                .andExpect(statements(0));
     }
 
+    //TODO 테스트 목록
+    //     1. 스터디 + 구성원 + 회원 fetch join 한번, 화면의 태그 / 지역 목록 각각 한번 -> 3 번
     @Test
     @WithAccount("youngbin")
     @DisplayName("스터디 회원조회")
@@ -147,7 +170,9 @@ class StudyControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(view().name("study/members"))
                 .andExpect(model().attributeExists("account"))
-                .andExpect(model().attributeExists("study"));
+                .andExpect(model().attributeExists("study"))
+                .andExpect(statements(3))
+                .andExpect(noNPlusOne());
     }
 
     @Test @DisplayName("스터디 가입 테스트")
@@ -166,6 +191,7 @@ class StudyControllerTest {
         assertThat(study.getStudyAccounts().size()).isEqualTo(1);
         assertThat(study.getStudyAccounts().get(0).getAccount().getNickname()).isEqualTo("youngbin");
         assertThat(study.getStudyAccounts().get(0).isManager()).isFalse();
+        assertThat(studyRepository.findByPath("study").getMemberCount()).isEqualTo(1);
     }
 
     @Test @DisplayName("스터디 탈퇴 테스트")
@@ -186,6 +212,7 @@ class StudyControllerTest {
 
         assertThat(findStudy).isNotNull();
         assertThat(findStudy.getStudyAccounts().size()).isEqualTo(1);
+        assertThat(findStudy.getMemberCount()).isEqualTo(0);
     }
 
     Account createByStudyManager() {
@@ -0,0 +1,85 @@
+package com.studyolle.tag;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyolle.WithAccount;
+import com.studyolle.account.AccountRepository;
+import com.studyolle.account.AccountService;
+import com.studyolle.domain.Account;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TagControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    TagService tagService;
+
+    @Autowired
+    TagRepository tagRepository;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    AccountService accountService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @AfterEach
+    void after() {
+        accountRepository.deleteAll();
+    }
+
+    //TODO 테스트 목록
+    //     1. 접두어로 시작하는 태그만 반환하는지 ( 대소문자 무시 )
+    //     2. 계정에 추가된 ( 사용 수가 많은 ) 태그가 먼저 나오는지
+    //     3. limit 개수만큼만 반환하는지
+    @Test
+    @DisplayName("태그 자동완성 - 접두어 / 사용 수 순위")
+    @WithAccount("youngbin")
+    void 태그_자동완성_접두어() throws Exception {
+        String prefix = "suggest" + System.nanoTime();
+        tagService.getTag(prefix + "-spring");
+        tagService.getTag(prefix + "-jpa");
+        tagService.getTag(prefix + "-java");
+
+        Account account = accountRepository.findByNickname("youngbin");
+        accountService.addTag(account, tagRepository.findByTitle(prefix + "-java"));
+
+        MvcResult result = mockMvc.perform(get("/tags/suggest").param("q", prefix.toUpperCase()))
+                .andExpect(status().isOk())
+                .andReturn();
+        List<String> titles = titles(result.getResponse().getContentAsByteArray());
+        assertThat(titles).hasSize(3);
+        assertThat(titles.get(0)).isEqualTo(prefix + "-java");
+        assertThat(titles).allMatch(title -> title.startsWith(prefix));
+
+        result = mockMvc.perform(get("/tags/suggest").param("q", prefix + "-j").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(titles(result.getResponse().getContentAsByteArray())).containsExactly(prefix + "-java");
+    }
+
+    private List<String> titles(byte[] json) throws IOException {
+        return Arrays.asList(objectMapper.readValue(json, String[].class));
+    }
+}
@@ -0,0 +1,114 @@
+package com.studyolle.tag;
+
+import com.studyolle.domain.Tag;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//TODO 태그 동시 생성 테스트
+//     1. 여러 스레드가 같은 새 태그를 동시에 추가해도 유니크 제약 오류 없이 한 행만 만들어지고 모두 같은 id 를 받는지
+//     2. 캐시에 없는 태그가 이미 데이터베이스에 있으면 ( 다른 서버가 만든 경우 ) 그 행의 id 를 받는지
+//     3. 한번 만든 태그는 캐시에서 같은 id 로 조회되는지
+//     4. 트랜잭션이 롤백되면 새 태그가 캐시 / 자동완성에 남지 않는지
+@SpringBootTest(properties = "logging.level.org.hibernate=WARN")
+class TagRegistryConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int REQUESTS = 1_000;
+
+    @Autowired
+    TagService tagService;
+
+    @Autowired
+    TagRegistry tagRegistry;
+
+    @Autowired
+    TagRepository tagRepository;
+
+    @Autowired
+    TagSuggester tagSuggester;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("같은 새 태그 동시 추가 - 한 행 / 같은 id")
+    void 같은_태그_동시_추가() throws Exception {
+        String title = "concurrent-" + System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    return tagService.getTag(title).getId();
+                }));
+            }
+            ready.countDown();
+
+            Set<Long> ids = new HashSet<>();
+            for (Future<Long> future : futures) {
+                ids.add(future.get(30, TimeUnit.SECONDS));
+            }
+            assertThat(ids).hasSize(1);
+            assertThat(ids).containsExactly(tagRepository.findByTitle(title).getId());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Integer rows = jdbcTemplate.queryForObject("select count(*) from tag where title = ?", Integer.class, title);
+        assertThat(rows).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 기존 태그 - 유니크 제약에 걸리면 기존 id 사용")
+    void 캐시에_없는_기존_태그() {
+        tagService.getTag("warm-up");
+        String title = "existing-" + System.nanoTime();
+        Tag existing = tagRepository.save(Tag.createTag(title));
+        assertThat(tagRegistry.find(title)).isNull();
+
+        Tag tag = tagService.getTag(title);
+
+        assertThat(tag.getId()).isEqualTo(existing.getId());
+        assertThat(tagRegistry.find(title)).isEqualTo(existing);
+        assertThat(tagService.getTag(title).getId()).isEqualTo(existing.getId());
+    }
+
+    @Test
+    @DisplayName("롤백된 새 태그 - 캐시 / 자동완성에 추가하지 않음")
+    void 롤백된_새_태그() {
+        tagService.getTag("warm-up");
+        tagSuggester.suggest("warm-up", 1);
+        String title = "rollback-" + System.nanoTime();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            tagService.getTag(title);
+            status.setRollbackOnly();
+        });
+
+        assertThat(tagRepository.findByTitle(title)).isNull();
+        assertThat(tagRegistry.find(title)).isNull();
+        assertThat(tagSuggester.suggest(title, 1)).isEmpty();
+
+        tagService.getTag(title);
+        assertThat(tagRegistry.find(title)).isNotNull();
+        assertThat(tagSuggester.suggest(title, 1)).containsExactly(title);
+    }
+}
@@ -0,0 +1,115 @@
+package com.studyolle.tag;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//TODO 태그 자동완성 트라이 테스트
+//     1. 접두어 검색 ( 대소문자 무시 / 간선 중간에서 끝나는 접두어 / 없는 접두어 )
+//     2. 사용 수 증감 후 순위가 바뀌는지
+//     3. 임의로 만든 태그에서 선형 탐색 + 정렬과 같은 결과인지
+class TagTrieTest {
+
+    private static final int TAGS = 50_000;
+    private static final int LIMIT = 10;
+    private static final int PREFIXES = 500;
+
+    TagTrie trie;
+
+    @BeforeEach
+    void setup() {
+        trie = new TagTrie();
+        trie.add("Spring", 5);
+        trie.add("spring-boot", 10);
+        trie.add("Spring Data JPA", 3);
+        trie.add("springfox", 0);
+        trie.add("JPA", 7);
+        trie.add("Java", 20);
+        trie.add("javascript", 15);
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 태그를 사용 수 순서로 조회")
+    void 접두어_검색() {
+        assertThat(trie.suggest("spr", LIMIT)).containsExactly("spring-boot", "Spring", "Spring Data JPA", "springfox");
+        assertThat(trie.suggest("SPRING-", LIMIT)).containsExactly("spring-boot");
+        assertThat(trie.suggest("ja", LIMIT)).containsExactly("Java", "javascript");
+        assertThat(trie.suggest("j", 2)).containsExactly("Java", "javascript");
+        assertThat(trie.suggest("", 3)).containsExactly("Java", "javascript", "spring-boot");
+        assertThat(trie.suggest("kotlin", LIMIT)).isEmpty();
+        assertThat(trie.suggest("springs", LIMIT)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용 수가 바뀌면 순위도 바뀐다")
+    void 사용_수_증감() {
+        trie.changeScore("Java", -10);
+        assertThat(trie.suggest("ja", LIMIT)).containsExactly("javascript", "Java");
+        assertThat(trie.suggest("", 1)).containsExactly("javascript");
+
+        trie.changeScore("springfox", 30);
+        assertThat(trie.suggest("", 1)).containsExactly("springfox");
+        assertThat(trie.getScore("springfox")).isEqualTo(30);
+
+        trie.changeScore("springfox", -100);
+        assertThat(trie.getScore("springfox")).isEqualTo(0);
+        assertThat(trie.suggest("", 1)).containsExactly("javascript");
+
+        trie.add("Javalin", 0);
+        trie.changeScore("없는 태그", 1);
+        assertThat(trie.size()).isEqualTo(8);
+        assertThat(trie.suggest("javal", LIMIT)).containsExactly("Javalin");
+    }
+
+    @Test
+    @DisplayName("선형 탐색과 같은 결과")
+    void 선형_탐색_비교() {
+        Random random = new Random(42);
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        trie.clear();
+        for (int i = 0; i < TAGS; i++) {
+            String title = randomTitle(random);
+            int score = random.nextInt(1_000);
+            if (scores.putIfAbsent(title, score) == null) {
+                trie.add(title, score);
+            }
+        }
+
+        List<String> prefixes = new ArrayList<>();
+        for (int i = 0; i < PREFIXES; i++) {
+            prefixes.add(randomTitle(random).substring(0, 1 + random.nextInt(2)));
+        }
+
+        List<List<Integer>> expected = new ArrayList<>();
+        for (String prefix : prefixes) {
+            expected.add(scores.entrySet().stream()
+                    .filter(e -> e.getKey().toLowerCase(Locale.ROOT).startsWith(prefix))
+                    .map(Map.Entry::getValue)
+                    .sorted(Comparator.reverseOrder())
+                    .limit(LIMIT)
+                    .collect(Collectors.toList()));
+        }
+
+        List<List<Integer>> actual = new ArrayList<>();
+        for (String prefix : prefixes) {
+            actual.add(trie.suggest(prefix, LIMIT).stream().map(scores::get).collect(Collectors.toList()));
+        }
+
+        //TODO 점수가 같은 태그끼리는 순서가 다를 수 있으므로 점수 목록으로 비교
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private String randomTitle(Random random) {
+        int length = 3 + random.nextInt(10);
+        StringBuilder title = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            title.append((char) ('a' + random.nextInt(26)));
+        }
+        return title.toString();
+    }
+}
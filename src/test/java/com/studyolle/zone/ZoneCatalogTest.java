@@ -0,0 +1,50 @@
+package com.studyolle.zone;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyolle.domain.Zone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//TODO 지역 정보 카탈로그 테스트
+//     1. ( city, province ) 로 조회되는지, 없는 지역은 null
+//     2. 자동완성 목록이 Zone.toString 형식의 JSON 으로 직렬화되는지
+class ZoneCatalogTest {
+
+    ZoneCatalog zoneCatalog;
+
+    @BeforeEach
+    void setup() {
+        zoneCatalog = new ZoneCatalog(new ObjectMapper());
+        zoneCatalog.load(Arrays.asList(
+                zone(1L, "Seoul", "서울특별시", "none"),
+                zone(2L, "Andong", "안동시", "North Gyeongsang"),
+                zone(3L, "Goyang", "고양시", "Gyeonggi")));
+    }
+
+    private Zone zone(Long id, String city, String localNameOfCity, String province) {
+        Zone zone = Zone.createZone(city, localNameOfCity, province);
+        zone.setId(id);
+        return zone;
+    }
+
+    @Test
+    @DisplayName("지역 정보 조회 - ( city, province )")
+    void 지역_정보_조회() {
+        assertThat(zoneCatalog.size()).isEqualTo(3);
+        assertThat(zoneCatalog.findByCityAndProvince("Andong", "North Gyeongsang").getId()).isEqualTo(2L);
+        assertThat(zoneCatalog.findByCityAndProvince("Goyang", "Gyeonggi").getCity()).isEqualTo("Goyang");
+        assertThat(zoneCatalog.findByCityAndProvince("Andong", "none")).isNull();
+    }
+
+    @Test
+    @DisplayName("지역 정보 자동완성 목록 - JSON")
+    void 지역_정보_자동완성_목록() {
+        assertThat(zoneCatalog.getWhitelistJson()).isEqualTo(
+                "[\"Seoul(서울특별시)/none\",\"Andong(안동시)/North Gyeongsang\",\"Goyang(고양시)/Gyeonggi\"]");
+    }
+}